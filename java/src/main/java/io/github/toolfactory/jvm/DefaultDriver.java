@@ -28,27 +28,46 @@ package io.github.toolfactory.jvm;
 
 
 import io.github.toolfactory.jvm.function.catalog.AllocateInstanceFunction;
+import io.github.toolfactory.jvm.function.catalog.ArrayElementFunction;
+import io.github.toolfactory.jvm.function.catalog.AsFunctionalInterfaceFunction;
+import io.github.toolfactory.jvm.function.catalog.AtomicFieldValueFunction;
+import io.github.toolfactory.jvm.function.catalog.BatchFieldValueFunction;
 import io.github.toolfactory.jvm.function.catalog.BuiltinClassLoaderClassSupplier;
 import io.github.toolfactory.jvm.function.catalog.ClassLoaderDelegateClassSupplier;
+import io.github.toolfactory.jvm.function.catalog.CompilePathFunction;
+import io.github.toolfactory.jvm.function.catalog.ComputeDeepSizeFunction;
 import io.github.toolfactory.jvm.function.catalog.ConstructorInvokeFunction;
 import io.github.toolfactory.jvm.function.catalog.ConsulterSupplyFunction;
 import io.github.toolfactory.jvm.function.catalog.ConvertToBuiltinClassLoaderFunction;
 import io.github.toolfactory.jvm.function.catalog.DeepConsulterSupplyFunction;
 import io.github.toolfactory.jvm.function.catalog.DefineHookClassFunction;
+import io.github.toolfactory.jvm.function.catalog.FixedArityInvokeFunction;
 import io.github.toolfactory.jvm.function.catalog.GetClassByNameFunction;
+import io.github.toolfactory.jvm.function.catalog.GetClassMembersFunction;
 import io.github.toolfactory.jvm.function.catalog.GetDeclaredConstructorsFunction;
 import io.github.toolfactory.jvm.function.catalog.GetDeclaredFieldsFunction;
 import io.github.toolfactory.jvm.function.catalog.GetDeclaredMethodsFunction;
+import io.github.toolfactory.jvm.function.catalog.GetFieldAccessorFunction;
 import io.github.toolfactory.jvm.function.catalog.GetFieldValueFunction;
+import io.github.toolfactory.jvm.function.catalog.GetGeneratedFieldAccessorFunction;
+import io.github.toolfactory.jvm.function.catalog.GetInstanceFactoryFunction;
+import io.github.toolfactory.jvm.function.catalog.GetLayoutFunction;
 import io.github.toolfactory.jvm.function.catalog.GetLoadedClassesRetrieverFunction;
 import io.github.toolfactory.jvm.function.catalog.GetLoadedPackagesFunction;
+import io.github.toolfactory.jvm.function.catalog.GetMethodInvokerFunction;
 import io.github.toolfactory.jvm.function.catalog.GetPackageFunction;
 import io.github.toolfactory.jvm.function.catalog.GetResourcesFunction;
+import io.github.toolfactory.jvm.function.catalog.InvokeAllFunction;
+import io.github.toolfactory.jvm.function.catalog.InvokeByNameFunction;
+import io.github.toolfactory.jvm.function.catalog.InvokeSpecialFunction;
 import io.github.toolfactory.jvm.function.catalog.MethodInvokeFunction;
+import io.github.toolfactory.jvm.function.catalog.NewInstanceWithSuperConstructorFunction;
+import io.github.toolfactory.jvm.function.catalog.NewProxyFunction;
 import io.github.toolfactory.jvm.function.catalog.SetAccessibleFunction;
 import io.github.toolfactory.jvm.function.catalog.SetFieldValueFunction;
 import io.github.toolfactory.jvm.function.catalog.StopThreadFunction;
 import io.github.toolfactory.jvm.function.catalog.ThrowExceptionFunction;
+import io.github.toolfactory.jvm.function.catalog.WarmupFunction;
 
 
 public class DefaultDriver extends DriverAbst {
@@ -185,4 +204,118 @@ public class DefaultDriver extends DriverAbst {
 	}
 
 
+	@Override
+	protected Class<? extends GetFieldAccessorFunction> getGetFieldAccessorFunctionClass() {
+		return GetFieldAccessorFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends AtomicFieldValueFunction> getAtomicFieldValueFunctionClass() {
+		return AtomicFieldValueFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends GetGeneratedFieldAccessorFunction> getGetGeneratedFieldAccessorFunctionClass() {
+		return GetGeneratedFieldAccessorFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends ArrayElementFunction> getArrayElementFunctionClass() {
+		return ArrayElementFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends BatchFieldValueFunction> getBatchFieldValueFunctionClass() {
+		return BatchFieldValueFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends GetMethodInvokerFunction> getGetMethodInvokerFunctionClass() {
+		return GetMethodInvokerFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends AsFunctionalInterfaceFunction> getAsFunctionalInterfaceFunctionClass() {
+		return AsFunctionalInterfaceFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends FixedArityInvokeFunction> getFixedArityInvokeFunctionClass() {
+		return FixedArityInvokeFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends GetInstanceFactoryFunction> getGetInstanceFactoryFunctionClass() {
+		return GetInstanceFactoryFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends InvokeAllFunction> getInvokeAllFunctionClass() {
+		return InvokeAllFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends NewInstanceWithSuperConstructorFunction> getNewInstanceWithSuperConstructorFunctionClass() {
+		return NewInstanceWithSuperConstructorFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends InvokeSpecialFunction> getInvokeSpecialFunctionClass() {
+		return InvokeSpecialFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends InvokeByNameFunction> getInvokeByNameFunctionClass() {
+		return InvokeByNameFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends CompilePathFunction> getCompilePathFunctionClass() {
+		return CompilePathFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends NewProxyFunction> getNewProxyFunctionClass() {
+		return NewProxyFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends GetClassMembersFunction> getGetClassMembersFunctionClass() {
+		return GetClassMembersFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends WarmupFunction> getWarmupFunctionClass() {
+		return WarmupFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends GetLayoutFunction> getGetLayoutFunctionClass() {
+		return GetLayoutFunction.class;
+	}
+
+
+	@Override
+	protected Class<? extends ComputeDeepSizeFunction> getComputeDeepSizeFunctionClass() {
+		return ComputeDeepSizeFunction.class;
+	}
+
+
 }
@@ -35,14 +35,26 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
+import io.github.toolfactory.jvm.function.template.Predicate;
+import io.github.toolfactory.jvm.util.AccessMode;
+import io.github.toolfactory.jvm.util.ClassMembers;
 import io.github.toolfactory.jvm.util.CleanableSupplier;
+import io.github.toolfactory.jvm.util.DeepSize;
+import io.github.toolfactory.jvm.util.FieldAccessor;
+import io.github.toolfactory.jvm.util.InstanceFactory;
+import io.github.toolfactory.jvm.util.MemberQuery;
+import io.github.toolfactory.jvm.util.MethodInvoker;
+import io.github.toolfactory.jvm.util.ObjectLayout;
 import io.github.toolfactory.jvm.util.Properties;
+import io.github.toolfactory.jvm.util.PropertyPath;
 
 
 public interface Driver extends Closeable {
@@ -69,8 +81,136 @@ public interface Driver extends Closeable {
 
 	public Method[] getDeclaredMethods(Class<?> cls);
 
+	public ClassMembers getClassMembers(Class<?> cls);
+
+	public Field getDeclaredField(Class<?> cls, String name);
+
+	public Method getDeclaredMethod(Class<?> cls, String name, Class<?>... parameterTypes);
+
+	public <T> Constructor<T> getDeclaredConstructor(Class<T> cls, Class<?>... parameterTypes);
+
+	public MemberQuery<Field> queryFields(Class<?> cls);
+
+	public MemberQuery<Method> queryMethods(Class<?> cls);
+
+	public MemberQuery<Constructor<?>> queryConstructors(Class<?> cls);
+
+	public void warmup(Collection<Class<?>> classes);
+
+	public void warmup(Collection<Class<?>> classes, ForkJoinPool forkJoinPool);
+
+	public void warmup(ClassLoader classLoader, String packageName);
+
+	public ObjectLayout getLayout(Class<?> cls);
+
+	public DeepSize getDeepSize(Object root);
+
+	public DeepSize getDeepSize(Object root, Predicate<Object> stopPredicate);
+
+	public short getShortFieldValue(Object target, Field field);
+
+	public void setShortFieldValue(Object target, Field field, short value);
+
+	public int getIntFieldValue(Object target, Field field);
+
+	public void setIntFieldValue(Object target, Field field, int value);
+
+	public long getLongFieldValue(Object target, Field field);
+
+	public void setLongFieldValue(Object target, Field field, long value);
+
+	public float getFloatFieldValue(Object target, Field field);
+
+	public void setFloatFieldValue(Object target, Field field, float value);
+
+	public double getDoubleFieldValue(Object target, Field field);
+
+	public void setDoubleFieldValue(Object target, Field field, double value);
+
+	public boolean getBooleanFieldValue(Object target, Field field);
+
+	public void setBooleanFieldValue(Object target, Field field, boolean value);
+
+	public byte getByteFieldValue(Object target, Field field);
+
+	public void setByteFieldValue(Object target, Field field, byte value);
+
+	public char getCharFieldValue(Object target, Field field);
+
+	public void setCharFieldValue(Object target, Field field, char value);
+
+	public boolean compareAndSetFieldValue(Object target, Field field, Object expected, Object value);
+
+	public boolean compareAndSetIntFieldValue(Object target, Field field, int expected, int value);
+
+	public boolean compareAndSetLongFieldValue(Object target, Field field, long expected, long value);
+
+	public <T> T getAndSetFieldValue(Object target, Field field, Object value);
+
+	public int getAndSetIntFieldValue(Object target, Field field, int value);
+
+	public long getAndSetLongFieldValue(Object target, Field field, long value);
+
+	public int getAndAddIntFieldValue(Object target, Field field, int delta);
+
+	public long getAndAddLongFieldValue(Object target, Field field, long delta);
+
+	public Object[] getFieldValues(Object target, Field[] fields);
+
+	public void setFieldValues(Object target, Field[] fields, Object[] values);
+
+	public Object[] getFieldValues(Object[] targets, Field field);
+
+	public void setFieldValues(Object[] targets, Field field, Object[] values);
+
+	public <T> T getArrayElement(Object array, int index);
+
+	public short getShortArrayElement(Object array, int index);
+
+	public int getIntArrayElement(Object array, int index);
+
+	public long getLongArrayElement(Object array, int index);
+
+	public float getFloatArrayElement(Object array, int index);
+
+	public double getDoubleArrayElement(Object array, int index);
+
+	public boolean getBooleanArrayElement(Object array, int index);
+
+	public byte getByteArrayElement(Object array, int index);
+
+	public char getCharArrayElement(Object array, int index);
+
+	public void setArrayElement(Object array, int index, Object value);
+
+	public void setShortArrayElement(Object array, int index, short value);
+
+	public void setIntArrayElement(Object array, int index, int value);
+
+	public void setLongArrayElement(Object array, int index, long value);
+
+	public void setFloatArrayElement(Object array, int index, float value);
+
+	public void setDoubleArrayElement(Object array, int index, double value);
+
+	public void setBooleanArrayElement(Object array, int index, boolean value);
+
+	public void setByteArrayElement(Object array, int index, byte value);
+
+	public void setCharArrayElement(Object array, int index, char value);
+
+	public void copyArray(Object source, int sourceIndex, Object destination, int destinationIndex, int length);
+
+	public ByteBuffer toByteBuffer(Object array, int index, int length);
+
+	public FieldAccessor getFieldAccessor(Field field);
+
+	public FieldAccessor getGeneratedFieldAccessor(Field field);
+
 	public <T> T getFieldValue(Object target, Field field);
 
+	public <T> T getFieldValue(Object target, Field field, AccessMode accessMode);
+
 	public Package getPackage(ClassLoader classLoader, String packageName);
 
 	public Collection<URL> getResources(String resourceRelativePath, boolean findFirst, ClassLoader... classLoaders);
@@ -79,6 +219,58 @@ public interface Driver extends Closeable {
 
 	public <T> T invoke(Object target, Method method, Object[] params);
 
+	public <T> T invokeSpecial(Object target, Method method, Class<?> specialCaller, Object... args);
+
+	public <T> T invokeByName(Object target, String name, Object... args);
+
+	public PropertyPath compilePath(Class<?> rootType, String path);
+
+	public <T> T newProxy(Class<T> type, Object handler);
+
+	public void invokeAll(Method method, Iterable<?> targets, Object[] params);
+
+	public void invokeAll(Method method, Iterable<?> targets, Object[] params, Object[] results);
+
+	public void invokeAll(Method method, Iterable<?> targets, Object[] params, Object[] results, ForkJoinPool forkJoinPool);
+
+	public <T> T invoke0(Object target, Method method);
+
+	public <T> T invoke1(Object target, Method method, Object arg0);
+
+	public <T> T invoke2(Object target, Method method, Object arg0, Object arg1);
+
+	public <T> T invoke3(Object target, Method method, Object arg0, Object arg1, Object arg2);
+
+	public <T> T invoke4(Object target, Method method, Object arg0, Object arg1, Object arg2, Object arg3);
+
+	public <T> T invoke5(Object target, Method method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4);
+
+	public <T> T invoke6(Object target, Method method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5);
+
+	public <T> T newInstanceWithSuperConstructor(Class<T> cls, Constructor<?> superCtor, Object... args);
+
+	public <T> T newInstance0(Constructor<T> ctor);
+
+	public <T> T newInstance1(Constructor<T> ctor, Object arg0);
+
+	public <T> T newInstance2(Constructor<T> ctor, Object arg0, Object arg1);
+
+	public <T> T newInstance3(Constructor<T> ctor, Object arg0, Object arg1, Object arg2);
+
+	public <T> T newInstance4(Constructor<T> ctor, Object arg0, Object arg1, Object arg2, Object arg3);
+
+	public <T> T newInstance5(Constructor<T> ctor, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4);
+
+	public <T> T newInstance6(Constructor<T> ctor, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5);
+
+	public <T> InstanceFactory<T> getInstanceFactory(Constructor<T> ctor);
+
+	public MethodInvoker getMethodInvoker(Method method);
+
+	public <F> F asFunctionalInterface(Method method, Class<F> functionalInterface);
+
+	public <F> F asFunctionalInterface(Constructor<?> ctor, Class<F> functionalInterface);
+
 	public boolean isBuiltinClassLoader(ClassLoader classLoader);
 
 	public boolean isClassLoaderDelegate(ClassLoader classLoader);
@@ -93,6 +285,8 @@ public interface Driver extends Closeable {
 
 	public void setFieldValue(Object target, Field field, Object value);
 
+	public void setFieldValue(Object target, Field field, Object value, AccessMode accessMode);
+
 	public <T> T throwException(String message, Object... placeHolderReplacements);
 
 	public <T> T throwException(Throwable exception);
@@ -125,6 +319,7 @@ public interface Driver extends Closeable {
 				setDriverClass("dynamicDriverClass", configuration.getProperty("driver-factory.dynamic-driver.class"));
 				setDriverClass("hybridDriverClass", configuration.getProperty("driver-factory.hybrid-driver.class"));
 				setDriverClass("nativeDriverClass", configuration.getProperty("driver-factory.native-driver.class"));
+				setDriverClass("varHandleDriverClass", configuration.getProperty("driver-factory.var-handle-driver.class"));
 			} catch (Throwable exc) {
 				throw new FactoryException(exc);
 			}
@@ -198,6 +393,14 @@ public interface Driver extends Closeable {
 			setDriverClass("nativeDriverClass", className);
 		}
 
+		public static void setVarHandleDriverClass(Class<? extends Driver> cls) {
+			setDriverClass("varHandleDriverClass", cls);
+		}
+
+		public static void setVarHandleDriverClass(String className) {
+			setDriverClass("varHandleDriverClass", className);
+		}
+
 		public static <D extends Driver> D getNewDefault() {
 			try {
 				return ((D)driverConstructors.get("defaultDriverClass").newInstance());
@@ -234,6 +437,15 @@ public interface Driver extends Closeable {
 			}
 		}
 
+		public static <D extends Driver> D getNewVarHandle() {
+			try {
+				return ((D)driverConstructors.get("varHandleDriverClass").newInstance());
+			} catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+					| InvocationTargetException exc) {
+				throw new InstantiateException(exc);
+			}
+		}
+
 		public static class	FactoryException extends RuntimeException {
 
 			private static final long serialVersionUID = 6332920978175279534L;
@@ -35,43 +35,75 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import io.github.toolfactory.jvm.function.catalog.AllocateInstanceFunction;
+import io.github.toolfactory.jvm.function.catalog.ArrayElementFunction;
+import io.github.toolfactory.jvm.function.catalog.AsFunctionalInterfaceFunction;
+import io.github.toolfactory.jvm.function.catalog.AtomicFieldValueFunction;
+import io.github.toolfactory.jvm.function.catalog.BatchFieldValueFunction;
 import io.github.toolfactory.jvm.function.catalog.BuiltinClassLoaderClassSupplier;
 import io.github.toolfactory.jvm.function.catalog.ClassLoaderDelegateClassSupplier;
+import io.github.toolfactory.jvm.function.catalog.CompilePathFunction;
+import io.github.toolfactory.jvm.function.catalog.ComputeDeepSizeFunction;
 import io.github.toolfactory.jvm.function.catalog.ConstructorInvokeFunction;
 import io.github.toolfactory.jvm.function.catalog.ConsulterSupplyFunction;
 import io.github.toolfactory.jvm.function.catalog.ConvertToBuiltinClassLoaderFunction;
 import io.github.toolfactory.jvm.function.catalog.DeepConsulterSupplyFunction;
 import io.github.toolfactory.jvm.function.catalog.DefineHookClassFunction;
+import io.github.toolfactory.jvm.function.catalog.FixedArityInvokeFunction;
 import io.github.toolfactory.jvm.function.catalog.GetClassByNameFunction;
+import io.github.toolfactory.jvm.function.catalog.GetClassMembersFunction;
 import io.github.toolfactory.jvm.function.catalog.GetDeclaredConstructorsFunction;
 import io.github.toolfactory.jvm.function.catalog.GetDeclaredFieldsFunction;
 import io.github.toolfactory.jvm.function.catalog.GetDeclaredMethodsFunction;
+import io.github.toolfactory.jvm.function.catalog.GetFieldAccessorFunction;
 import io.github.toolfactory.jvm.function.catalog.GetFieldValueFunction;
+import io.github.toolfactory.jvm.function.catalog.GetGeneratedFieldAccessorFunction;
+import io.github.toolfactory.jvm.function.catalog.GetInstanceFactoryFunction;
+import io.github.toolfactory.jvm.function.catalog.GetLayoutFunction;
 import io.github.toolfactory.jvm.function.catalog.GetLoadedClassesRetrieverFunction;
 import io.github.toolfactory.jvm.function.catalog.GetLoadedPackagesFunction;
+import io.github.toolfactory.jvm.function.catalog.GetMethodInvokerFunction;
 import io.github.toolfactory.jvm.function.catalog.GetPackageFunction;
 import io.github.toolfactory.jvm.function.catalog.GetResourcesFunction;
+import io.github.toolfactory.jvm.function.catalog.InvokeAllFunction;
+import io.github.toolfactory.jvm.function.catalog.InvokeByNameFunction;
+import io.github.toolfactory.jvm.function.catalog.InvokeSpecialFunction;
 import io.github.toolfactory.jvm.function.catalog.MethodInvokeFunction;
+import io.github.toolfactory.jvm.function.catalog.NewInstanceWithSuperConstructorFunction;
+import io.github.toolfactory.jvm.function.catalog.NewProxyFunction;
 import io.github.toolfactory.jvm.function.catalog.SetAccessibleFunction;
 import io.github.toolfactory.jvm.function.catalog.SetFieldValueFunction;
 import io.github.toolfactory.jvm.function.catalog.StopThreadFunction;
 import io.github.toolfactory.jvm.function.catalog.ThrowExceptionFunction;
-import io.github.toolfactory.jvm.function.template.BiFunction;
+import io.github.toolfactory.jvm.function.catalog.WarmupFunction;
 import io.github.toolfactory.jvm.function.template.Function;
+import io.github.toolfactory.jvm.function.template.Predicate;
 import io.github.toolfactory.jvm.function.template.Supplier;
 import io.github.toolfactory.jvm.function.template.ThrowingBiConsumer;
 import io.github.toolfactory.jvm.function.template.ThrowingBiFunction;
 import io.github.toolfactory.jvm.function.template.ThrowingFunction;
 import io.github.toolfactory.jvm.function.template.ThrowingQuadFunction;
 import io.github.toolfactory.jvm.function.template.ThrowingTriFunction;
-import io.github.toolfactory.jvm.function.template.TriConsumer;
+import io.github.toolfactory.jvm.util.AccessMode;
+import io.github.toolfactory.jvm.util.ClassMembers;
 import io.github.toolfactory.jvm.util.CleanableSupplier;
+import io.github.toolfactory.jvm.util.DeepSize;
+import io.github.toolfactory.jvm.util.FieldAccessor;
+import io.github.toolfactory.jvm.util.InstanceFactory;
+import io.github.toolfactory.jvm.util.MemberQuery;
+import io.github.toolfactory.jvm.util.MethodInvoker;
+import io.github.toolfactory.jvm.util.ObjectLayout;
 import io.github.toolfactory.jvm.util.ObjectProvider;
+import io.github.toolfactory.jvm.util.PropertyPath;
+import io.github.toolfactory.jvm.util.Strings;
 
 
 @SuppressWarnings({"unchecked"})
@@ -79,8 +111,8 @@ public abstract class DriverAbst implements Driver {
 
 	protected ThrowExceptionFunction exceptionThrower;
 	protected ThrowingFunction<Class<?>, Object, Throwable> allocateInstanceInvoker;
-	protected BiFunction<Object, Field, Object> fieldValueRetriever;
-	protected TriConsumer<Object, Field, Object> fieldValueSetter;
+	protected GetFieldValueFunction fieldValueRetriever;
+	protected SetFieldValueFunction fieldValueSetter;
 	protected ThrowingBiFunction<Class<?>, byte[], Class<?>, Throwable> hookClassDefiner;
 	protected ThrowingFunction<Class<?>, MethodHandles.Lookup, Throwable> consulterRetriever;
 	protected ThrowingFunction<Class<?>, Field[], Throwable> declaredFieldsRetriever;
@@ -98,6 +130,25 @@ public abstract class DriverAbst implements Driver {
 	protected Function<ClassLoader, Map<String, ?>> loadedPackagesRetriever;
 	protected ThrowingFunction<ClassLoader, ClassLoader, Throwable> classLoaderToBuiltinClassLoaderConverter;
 	protected ThrowingBiConsumer<Thread, Throwable, Throwable> threadStopper;
+	protected Function<Field, FieldAccessor> fieldAccessorRetriever;
+	protected AtomicFieldValueFunction atomicFieldValueUpdater;
+	protected GetGeneratedFieldAccessorFunction generatedFieldAccessorRetriever;
+	protected ArrayElementFunction arrayElementAccessor;
+	protected BatchFieldValueFunction batchFieldValueAccessor;
+	protected GetMethodInvokerFunction methodInvokerRetriever;
+	protected AsFunctionalInterfaceFunction functionalInterfaceBuilder;
+	protected FixedArityInvokeFunction fixedArityInvoker;
+	protected GetInstanceFactoryFunction instanceFactoryRetriever;
+	protected InvokeAllFunction allMethodInvoker;
+	protected NewInstanceWithSuperConstructorFunction superConstructorInvoker;
+	protected InvokeSpecialFunction specialMethodInvoker;
+	protected InvokeByNameFunction methodByNameInvoker;
+	protected CompilePathFunction pathCompiler;
+	protected NewProxyFunction proxyBuilder;
+	protected GetClassMembersFunction classMembersRetriever;
+	protected WarmupFunction warmer;
+	protected GetLayoutFunction layoutRetriever;
+	protected ComputeDeepSizeFunction deepSizeComputer;
 
 
 	@Override
@@ -171,6 +222,63 @@ public abstract class DriverAbst implements Driver {
 			if (threadStopper == null) {
 				threadStopper = getOrBuildThreadStopper(initializationContext);
 			}
+			if (fieldAccessorRetriever == null) {
+				fieldAccessorRetriever = getOrBuildFieldAccessorRetriever(initializationContext);
+			}
+			if (atomicFieldValueUpdater == null) {
+				atomicFieldValueUpdater = getOrBuildAtomicFieldValueUpdater(initializationContext);
+			}
+			if (generatedFieldAccessorRetriever == null) {
+				generatedFieldAccessorRetriever = getOrBuildGeneratedFieldAccessorRetriever(initializationContext);
+			}
+			if (arrayElementAccessor == null) {
+				arrayElementAccessor = getOrBuildArrayElementAccessor(initializationContext);
+			}
+			if (batchFieldValueAccessor == null) {
+				batchFieldValueAccessor = getOrBuildBatchFieldValueAccessor(initializationContext);
+			}
+			if (methodInvokerRetriever == null) {
+				methodInvokerRetriever = getOrBuildMethodInvokerRetriever(initializationContext);
+			}
+			if (functionalInterfaceBuilder == null) {
+				functionalInterfaceBuilder = getOrBuildFunctionalInterfaceBuilder(initializationContext);
+			}
+			if (fixedArityInvoker == null) {
+				fixedArityInvoker = getOrBuildFixedArityInvoker(initializationContext);
+			}
+			if (instanceFactoryRetriever == null) {
+				instanceFactoryRetriever = getOrBuildInstanceFactoryRetriever(initializationContext);
+			}
+			if (allMethodInvoker == null) {
+				allMethodInvoker = getOrBuildAllMethodInvoker(initializationContext);
+			}
+			if (superConstructorInvoker == null) {
+				superConstructorInvoker = getOrBuildSuperConstructorInvoker(initializationContext);
+			}
+			if (specialMethodInvoker == null) {
+				specialMethodInvoker = getOrBuildSpecialMethodInvoker(initializationContext);
+			}
+			if (methodByNameInvoker == null) {
+				methodByNameInvoker = getOrBuildMethodByNameInvoker(initializationContext);
+			}
+			if (pathCompiler == null) {
+				pathCompiler = getOrBuildPathCompiler(initializationContext);
+			}
+			if (proxyBuilder == null) {
+				proxyBuilder = getOrBuildProxyBuilder(initializationContext);
+			}
+			if (classMembersRetriever == null) {
+				classMembersRetriever = getOrBuildClassMembersRetriever(initializationContext);
+			}
+			if (warmer == null) {
+				warmer = getOrBuildWarmer(initializationContext);
+			}
+			if (layoutRetriever == null) {
+				layoutRetriever = getOrBuildLayoutRetriever(initializationContext);
+			}
+			if (deepSizeComputer == null) {
+				deepSizeComputer = getOrBuildDeepSizeComputer(initializationContext);
+			}
 		} catch (Throwable exc) {
 			throwException(
 				new InitializeException(
@@ -250,6 +358,63 @@ public abstract class DriverAbst implements Driver {
 			if (threadStopper == null) {
 				threadStopper = getThreadStopper(initializationContext);
 			}
+			if (fieldAccessorRetriever == null) {
+				fieldAccessorRetriever = getFieldAccessorRetriever(initializationContext);
+			}
+			if (atomicFieldValueUpdater == null) {
+				atomicFieldValueUpdater = getAtomicFieldValueUpdater(initializationContext);
+			}
+			if (generatedFieldAccessorRetriever == null) {
+				generatedFieldAccessorRetriever = getGeneratedFieldAccessorRetriever(initializationContext);
+			}
+			if (arrayElementAccessor == null) {
+				arrayElementAccessor = getArrayElementAccessor(initializationContext);
+			}
+			if (batchFieldValueAccessor == null) {
+				batchFieldValueAccessor = getBatchFieldValueAccessor(initializationContext);
+			}
+			if (methodInvokerRetriever == null) {
+				methodInvokerRetriever = getMethodInvokerRetriever(initializationContext);
+			}
+			if (functionalInterfaceBuilder == null) {
+				functionalInterfaceBuilder = getFunctionalInterfaceBuilder(initializationContext);
+			}
+			if (fixedArityInvoker == null) {
+				fixedArityInvoker = getFixedArityInvoker(initializationContext);
+			}
+			if (instanceFactoryRetriever == null) {
+				instanceFactoryRetriever = getInstanceFactoryRetriever(initializationContext);
+			}
+			if (allMethodInvoker == null) {
+				allMethodInvoker = getAllMethodInvoker(initializationContext);
+			}
+			if (superConstructorInvoker == null) {
+				superConstructorInvoker = getSuperConstructorInvoker(initializationContext);
+			}
+			if (specialMethodInvoker == null) {
+				specialMethodInvoker = getSpecialMethodInvoker(initializationContext);
+			}
+			if (methodByNameInvoker == null) {
+				methodByNameInvoker = getMethodByNameInvoker(initializationContext);
+			}
+			if (pathCompiler == null) {
+				pathCompiler = getPathCompiler(initializationContext);
+			}
+			if (proxyBuilder == null) {
+				proxyBuilder = getProxyBuilder(initializationContext);
+			}
+			if (classMembersRetriever == null) {
+				classMembersRetriever = getClassMembersRetriever(initializationContext);
+			}
+			if (warmer == null) {
+				warmer = getWarmer(initializationContext);
+			}
+			if (layoutRetriever == null) {
+				layoutRetriever = getLayoutRetriever(initializationContext);
+			}
+			if (deepSizeComputer == null) {
+				deepSizeComputer = getDeepSizeComputer(initializationContext);
+			}
 			putNewObjectProviderIfAbsent(initializationContext);
 		} catch (Throwable exc) {
 			throwException(
@@ -285,6 +450,25 @@ public abstract class DriverAbst implements Driver {
 		putIfNotNull(initializationContext, getGetLoadedPackagesFunctionClass(), loadedPackagesRetriever);
 		putIfNotNull(initializationContext, getConvertToBuiltinClassLoaderFunctionClass(), classLoaderToBuiltinClassLoaderConverter);
 		putIfNotNull(initializationContext, getStopThreadFunctionClass(), threadStopper);
+		putIfNotNull(initializationContext, getGetFieldAccessorFunctionClass(), fieldAccessorRetriever);
+		putIfNotNull(initializationContext, getAtomicFieldValueFunctionClass(), atomicFieldValueUpdater);
+		putIfNotNull(initializationContext, getGetGeneratedFieldAccessorFunctionClass(), generatedFieldAccessorRetriever);
+		putIfNotNull(initializationContext, getArrayElementFunctionClass(), arrayElementAccessor);
+		putIfNotNull(initializationContext, getBatchFieldValueFunctionClass(), batchFieldValueAccessor);
+		putIfNotNull(initializationContext, getGetMethodInvokerFunctionClass(), methodInvokerRetriever);
+		putIfNotNull(initializationContext, getAsFunctionalInterfaceFunctionClass(), functionalInterfaceBuilder);
+		putIfNotNull(initializationContext, getFixedArityInvokeFunctionClass(), fixedArityInvoker);
+		putIfNotNull(initializationContext, getGetInstanceFactoryFunctionClass(), instanceFactoryRetriever);
+		putIfNotNull(initializationContext, getInvokeAllFunctionClass(), allMethodInvoker);
+		putIfNotNull(initializationContext, getNewInstanceWithSuperConstructorFunctionClass(), superConstructorInvoker);
+		putIfNotNull(initializationContext, getInvokeSpecialFunctionClass(), specialMethodInvoker);
+		putIfNotNull(initializationContext, getInvokeByNameFunctionClass(), methodByNameInvoker);
+		putIfNotNull(initializationContext, getCompilePathFunctionClass(), pathCompiler);
+		putIfNotNull(initializationContext, getNewProxyFunctionClass(), proxyBuilder);
+		putIfNotNull(initializationContext, getGetClassMembersFunctionClass(), classMembersRetriever);
+		putIfNotNull(initializationContext, getWarmupFunctionClass(), warmer);
+		putIfNotNull(initializationContext, getGetLayoutFunctionClass(), layoutRetriever);
+		putIfNotNull(initializationContext, getComputeDeepSizeFunctionClass(), deepSizeComputer);
 		putNewObjectProviderIfAbsent(initializationContext);
 		return initializationContext;
 	}
@@ -346,6 +530,44 @@ public abstract class DriverAbst implements Driver {
 
 	protected abstract Class<? extends StopThreadFunction> getStopThreadFunctionClass();
 
+	protected abstract Class<? extends GetFieldAccessorFunction> getGetFieldAccessorFunctionClass();
+
+	protected abstract Class<? extends AtomicFieldValueFunction> getAtomicFieldValueFunctionClass();
+
+	protected abstract Class<? extends GetGeneratedFieldAccessorFunction> getGetGeneratedFieldAccessorFunctionClass();
+
+	protected abstract Class<? extends ArrayElementFunction> getArrayElementFunctionClass();
+
+	protected abstract Class<? extends BatchFieldValueFunction> getBatchFieldValueFunctionClass();
+
+	protected abstract Class<? extends GetMethodInvokerFunction> getGetMethodInvokerFunctionClass();
+
+	protected abstract Class<? extends AsFunctionalInterfaceFunction> getAsFunctionalInterfaceFunctionClass();
+
+	protected abstract Class<? extends FixedArityInvokeFunction> getFixedArityInvokeFunctionClass();
+
+	protected abstract Class<? extends GetInstanceFactoryFunction> getGetInstanceFactoryFunctionClass();
+
+	protected abstract Class<? extends InvokeAllFunction> getInvokeAllFunctionClass();
+
+	protected abstract Class<? extends NewInstanceWithSuperConstructorFunction> getNewInstanceWithSuperConstructorFunctionClass();
+
+	protected abstract Class<? extends InvokeSpecialFunction> getInvokeSpecialFunctionClass();
+
+	protected abstract Class<? extends InvokeByNameFunction> getInvokeByNameFunctionClass();
+
+	protected abstract Class<? extends CompilePathFunction> getCompilePathFunctionClass();
+
+	protected abstract Class<? extends NewProxyFunction> getNewProxyFunctionClass();
+
+	protected abstract Class<? extends GetClassMembersFunction> getGetClassMembersFunctionClass();
+
+	protected abstract Class<? extends WarmupFunction> getWarmupFunctionClass();
+
+	protected abstract Class<? extends GetLayoutFunction> getGetLayoutFunctionClass();
+
+	protected abstract Class<? extends ComputeDeepSizeFunction> getComputeDeepSizeFunctionClass();
+
 
 	protected ThrowExceptionFunction getOrBuildExceptionThrower(Map<Object, Object> initializationContext) {
 		return ObjectProvider.get(initializationContext).getOrBuildObject(
@@ -480,6 +702,120 @@ public abstract class DriverAbst implements Driver {
 		);
 	}
 
+	protected GetFieldAccessorFunction getOrBuildFieldAccessorRetriever(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getGetFieldAccessorFunctionClass(), initializationContext
+		);
+	}
+
+	protected AtomicFieldValueFunction getOrBuildAtomicFieldValueUpdater(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getAtomicFieldValueFunctionClass(), initializationContext
+		);
+	}
+
+	protected GetGeneratedFieldAccessorFunction getOrBuildGeneratedFieldAccessorRetriever(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getGetGeneratedFieldAccessorFunctionClass(), initializationContext
+		);
+	}
+
+	protected ArrayElementFunction getOrBuildArrayElementAccessor(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getArrayElementFunctionClass(), initializationContext
+		);
+	}
+
+	protected BatchFieldValueFunction getOrBuildBatchFieldValueAccessor(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getBatchFieldValueFunctionClass(), initializationContext
+		);
+	}
+
+	protected GetMethodInvokerFunction getOrBuildMethodInvokerRetriever(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getGetMethodInvokerFunctionClass(), initializationContext
+		);
+	}
+
+	protected AsFunctionalInterfaceFunction getOrBuildFunctionalInterfaceBuilder(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getAsFunctionalInterfaceFunctionClass(), initializationContext
+		);
+	}
+
+	protected FixedArityInvokeFunction getOrBuildFixedArityInvoker(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getFixedArityInvokeFunctionClass(), initializationContext
+		);
+	}
+
+	protected GetInstanceFactoryFunction getOrBuildInstanceFactoryRetriever(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getGetInstanceFactoryFunctionClass(), initializationContext
+		);
+	}
+
+	protected InvokeAllFunction getOrBuildAllMethodInvoker(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getInvokeAllFunctionClass(), initializationContext
+		);
+	}
+
+	protected NewInstanceWithSuperConstructorFunction getOrBuildSuperConstructorInvoker(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getNewInstanceWithSuperConstructorFunctionClass(), initializationContext
+		);
+	}
+
+	protected InvokeSpecialFunction getOrBuildSpecialMethodInvoker(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getInvokeSpecialFunctionClass(), initializationContext
+		);
+	}
+
+	protected InvokeByNameFunction getOrBuildMethodByNameInvoker(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getInvokeByNameFunctionClass(), initializationContext
+		);
+	}
+
+	protected CompilePathFunction getOrBuildPathCompiler(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getCompilePathFunctionClass(), initializationContext
+		);
+	}
+
+	protected NewProxyFunction getOrBuildProxyBuilder(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getNewProxyFunctionClass(), initializationContext
+		);
+	}
+
+	protected GetClassMembersFunction getOrBuildClassMembersRetriever(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getGetClassMembersFunctionClass(), initializationContext
+		);
+	}
+
+	protected WarmupFunction getOrBuildWarmer(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getWarmupFunctionClass(), initializationContext
+		);
+	}
+
+	protected GetLayoutFunction getOrBuildLayoutRetriever(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getGetLayoutFunctionClass(), initializationContext
+		);
+	}
+
+	protected ComputeDeepSizeFunction getOrBuildDeepSizeComputer(Map<Object, Object> initializationContext) {
+		return ObjectProvider.get(initializationContext).getOrBuildObject(
+			getComputeDeepSizeFunctionClass(), initializationContext
+		);
+	}
+
 //
 	protected ThrowExceptionFunction getExceptionThrower(Map<Object, Object> initializationContext) {
 		return ObjectProvider.getObject(
@@ -613,6 +949,120 @@ public abstract class DriverAbst implements Driver {
 		);
 	}
 
+	protected GetFieldAccessorFunction getFieldAccessorRetriever(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getGetFieldAccessorFunctionClass(), initializationContext
+		);
+	}
+
+	protected AtomicFieldValueFunction getAtomicFieldValueUpdater(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getAtomicFieldValueFunctionClass(), initializationContext
+		);
+	}
+
+	protected GetGeneratedFieldAccessorFunction getGeneratedFieldAccessorRetriever(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getGetGeneratedFieldAccessorFunctionClass(), initializationContext
+		);
+	}
+
+	protected ArrayElementFunction getArrayElementAccessor(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getArrayElementFunctionClass(), initializationContext
+		);
+	}
+
+	protected BatchFieldValueFunction getBatchFieldValueAccessor(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getBatchFieldValueFunctionClass(), initializationContext
+		);
+	}
+
+	protected GetMethodInvokerFunction getMethodInvokerRetriever(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getGetMethodInvokerFunctionClass(), initializationContext
+		);
+	}
+
+	protected AsFunctionalInterfaceFunction getFunctionalInterfaceBuilder(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getAsFunctionalInterfaceFunctionClass(), initializationContext
+		);
+	}
+
+	protected FixedArityInvokeFunction getFixedArityInvoker(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getFixedArityInvokeFunctionClass(), initializationContext
+		);
+	}
+
+	protected GetInstanceFactoryFunction getInstanceFactoryRetriever(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getGetInstanceFactoryFunctionClass(), initializationContext
+		);
+	}
+
+	protected InvokeAllFunction getAllMethodInvoker(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getInvokeAllFunctionClass(), initializationContext
+		);
+	}
+
+	protected NewInstanceWithSuperConstructorFunction getSuperConstructorInvoker(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getNewInstanceWithSuperConstructorFunctionClass(), initializationContext
+		);
+	}
+
+	protected InvokeSpecialFunction getSpecialMethodInvoker(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getInvokeSpecialFunctionClass(), initializationContext
+		);
+	}
+
+	protected InvokeByNameFunction getMethodByNameInvoker(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getInvokeByNameFunctionClass(), initializationContext
+		);
+	}
+
+	protected CompilePathFunction getPathCompiler(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getCompilePathFunctionClass(), initializationContext
+		);
+	}
+
+	protected NewProxyFunction getProxyBuilder(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getNewProxyFunctionClass(), initializationContext
+		);
+	}
+
+	protected GetClassMembersFunction getClassMembersRetriever(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getGetClassMembersFunctionClass(), initializationContext
+		);
+	}
+
+	protected WarmupFunction getWarmer(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getWarmupFunctionClass(), initializationContext
+		);
+	}
+
+	protected GetLayoutFunction getLayoutRetriever(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getGetLayoutFunctionClass(), initializationContext
+		);
+	}
+
+	protected ComputeDeepSizeFunction getDeepSizeComputer(Map<Object, Object> initializationContext) {
+		return ObjectProvider.getObject(
+			getComputeDeepSizeFunctionClass(), initializationContext
+		);
+	}
+
 
 	protected void putIfNotNull(Map<Object, Object> map, Class<?> cls, Object object) {
 		if (object != null) {
@@ -776,7 +1226,7 @@ public abstract class DriverAbst implements Driver {
 
 	@Override
 	public <T> T getFieldValue(Object target, Field field) {
-		BiFunction<Object, Field, Object> fieldValueRetriever = this.fieldValueRetriever;
+		GetFieldValueFunction fieldValueRetriever = this.fieldValueRetriever;
 		if (target == null && !Modifier.isStatic(field.getModifiers())) {
 			throw new IllegalArgumentException("Target cannot be null when the field is not static");
 		}
@@ -797,9 +1247,32 @@ public abstract class DriverAbst implements Driver {
 		}
 	}
 
+	@Override
+	public <T> T getFieldValue(Object target, Field field, AccessMode accessMode) {
+		GetFieldValueFunction fieldValueRetriever = this.fieldValueRetriever;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return (T)fieldValueRetriever.apply(target, field, accessMode);
+		} catch (NullPointerException exc) {
+			if (fieldValueRetriever != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueRetriever == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueRetriever = getOrBuildFieldValueRetriever(initContext);
+					refresh(initContext);
+				}
+			}
+			return (T)this.fieldValueRetriever.apply(target, field, accessMode);
+		}
+	}
+
 	@Override
 	public void setFieldValue(Object target, Field field, Object value) {
-		TriConsumer<Object, Field, Object> fieldValueSetter = this.fieldValueSetter;
+		SetFieldValueFunction fieldValueSetter = this.fieldValueSetter;
 		if (target == null && !Modifier.isStatic(field.getModifiers())) {
 			throw new IllegalArgumentException("Target cannot be null when the field is not static");
 		}
@@ -821,198 +1294,1817 @@ public abstract class DriverAbst implements Driver {
 	}
 
 	@Override
-	public <T> T allocateInstance(Class<?> cls) {
+	public void setFieldValue(Object target, Field field, Object value, AccessMode accessMode) {
+		SetFieldValueFunction fieldValueSetter = this.fieldValueSetter;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
 		try {
-			ThrowingFunction<Class<?>, Object, Throwable> allocateInstanceInvoker = this.allocateInstanceInvoker;
-			try {
-				return (T)allocateInstanceInvoker.apply(cls);
-			} catch (NullPointerException exc) {
-				if (allocateInstanceInvoker != null) {
-					throw exc;
-				}
-				synchronized (this) {
-					if (this.allocateInstanceInvoker == null) {
-						Map<Object, Object> initContext = functionsToMap();
-						this.allocateInstanceInvoker = getOrBuildAllocateInstanceInvoker(initContext);
-						refresh(initContext);
-					}
+			fieldValueSetter.accept(target, field, value, accessMode);
+		} catch (NullPointerException exc) {
+			if (fieldValueSetter != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueSetter == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueSetter = getOrBuildFieldValueSetter(initContext);
+					refresh(initContext);
 				}
-				return (T)this.allocateInstanceInvoker.apply(cls);
 			}
-		} catch (Throwable exc) {
+			this.fieldValueSetter.accept(target, field, value, accessMode);
+		}
+	}
+
+	@Override
+	public short getShortFieldValue(Object target, Field field) {
+		GetFieldValueFunction fieldValueRetriever = this.fieldValueRetriever;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return fieldValueRetriever.getShort(target, field);
+		} catch (NullPointerException exc) {
+			if (fieldValueRetriever != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueRetriever == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueRetriever = getOrBuildFieldValueRetriever(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.fieldValueRetriever.getShort(target, field);
+		}
+	}
+
+	@Override
+	public void setShortFieldValue(Object target, Field field, short value) {
+		SetFieldValueFunction fieldValueSetter = this.fieldValueSetter;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			fieldValueSetter.setShort(target, field, value);
+		} catch (NullPointerException exc) {
+			if (fieldValueSetter != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueSetter == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueSetter = getOrBuildFieldValueSetter(initContext);
+					refresh(initContext);
+				}
+			}
+			this.fieldValueSetter.setShort(target, field, value);
+		}
+	}
+
+	@Override
+	public int getIntFieldValue(Object target, Field field) {
+		GetFieldValueFunction fieldValueRetriever = this.fieldValueRetriever;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return fieldValueRetriever.getInt(target, field);
+		} catch (NullPointerException exc) {
+			if (fieldValueRetriever != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueRetriever == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueRetriever = getOrBuildFieldValueRetriever(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.fieldValueRetriever.getInt(target, field);
+		}
+	}
+
+	@Override
+	public void setIntFieldValue(Object target, Field field, int value) {
+		SetFieldValueFunction fieldValueSetter = this.fieldValueSetter;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			fieldValueSetter.setInt(target, field, value);
+		} catch (NullPointerException exc) {
+			if (fieldValueSetter != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueSetter == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueSetter = getOrBuildFieldValueSetter(initContext);
+					refresh(initContext);
+				}
+			}
+			this.fieldValueSetter.setInt(target, field, value);
+		}
+	}
+
+	@Override
+	public long getLongFieldValue(Object target, Field field) {
+		GetFieldValueFunction fieldValueRetriever = this.fieldValueRetriever;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return fieldValueRetriever.getLong(target, field);
+		} catch (NullPointerException exc) {
+			if (fieldValueRetriever != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueRetriever == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueRetriever = getOrBuildFieldValueRetriever(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.fieldValueRetriever.getLong(target, field);
+		}
+	}
+
+	@Override
+	public void setLongFieldValue(Object target, Field field, long value) {
+		SetFieldValueFunction fieldValueSetter = this.fieldValueSetter;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			fieldValueSetter.setLong(target, field, value);
+		} catch (NullPointerException exc) {
+			if (fieldValueSetter != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueSetter == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueSetter = getOrBuildFieldValueSetter(initContext);
+					refresh(initContext);
+				}
+			}
+			this.fieldValueSetter.setLong(target, field, value);
+		}
+	}
+
+	@Override
+	public float getFloatFieldValue(Object target, Field field) {
+		GetFieldValueFunction fieldValueRetriever = this.fieldValueRetriever;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return fieldValueRetriever.getFloat(target, field);
+		} catch (NullPointerException exc) {
+			if (fieldValueRetriever != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueRetriever == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueRetriever = getOrBuildFieldValueRetriever(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.fieldValueRetriever.getFloat(target, field);
+		}
+	}
+
+	@Override
+	public void setFloatFieldValue(Object target, Field field, float value) {
+		SetFieldValueFunction fieldValueSetter = this.fieldValueSetter;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			fieldValueSetter.setFloat(target, field, value);
+		} catch (NullPointerException exc) {
+			if (fieldValueSetter != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueSetter == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueSetter = getOrBuildFieldValueSetter(initContext);
+					refresh(initContext);
+				}
+			}
+			this.fieldValueSetter.setFloat(target, field, value);
+		}
+	}
+
+	@Override
+	public double getDoubleFieldValue(Object target, Field field) {
+		GetFieldValueFunction fieldValueRetriever = this.fieldValueRetriever;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return fieldValueRetriever.getDouble(target, field);
+		} catch (NullPointerException exc) {
+			if (fieldValueRetriever != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueRetriever == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueRetriever = getOrBuildFieldValueRetriever(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.fieldValueRetriever.getDouble(target, field);
+		}
+	}
+
+	@Override
+	public void setDoubleFieldValue(Object target, Field field, double value) {
+		SetFieldValueFunction fieldValueSetter = this.fieldValueSetter;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			fieldValueSetter.setDouble(target, field, value);
+		} catch (NullPointerException exc) {
+			if (fieldValueSetter != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueSetter == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueSetter = getOrBuildFieldValueSetter(initContext);
+					refresh(initContext);
+				}
+			}
+			this.fieldValueSetter.setDouble(target, field, value);
+		}
+	}
+
+	@Override
+	public boolean getBooleanFieldValue(Object target, Field field) {
+		GetFieldValueFunction fieldValueRetriever = this.fieldValueRetriever;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return fieldValueRetriever.getBoolean(target, field);
+		} catch (NullPointerException exc) {
+			if (fieldValueRetriever != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueRetriever == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueRetriever = getOrBuildFieldValueRetriever(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.fieldValueRetriever.getBoolean(target, field);
+		}
+	}
+
+	@Override
+	public void setBooleanFieldValue(Object target, Field field, boolean value) {
+		SetFieldValueFunction fieldValueSetter = this.fieldValueSetter;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			fieldValueSetter.setBoolean(target, field, value);
+		} catch (NullPointerException exc) {
+			if (fieldValueSetter != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueSetter == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueSetter = getOrBuildFieldValueSetter(initContext);
+					refresh(initContext);
+				}
+			}
+			this.fieldValueSetter.setBoolean(target, field, value);
+		}
+	}
+
+	@Override
+	public byte getByteFieldValue(Object target, Field field) {
+		GetFieldValueFunction fieldValueRetriever = this.fieldValueRetriever;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return fieldValueRetriever.getByte(target, field);
+		} catch (NullPointerException exc) {
+			if (fieldValueRetriever != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueRetriever == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueRetriever = getOrBuildFieldValueRetriever(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.fieldValueRetriever.getByte(target, field);
+		}
+	}
+
+	@Override
+	public void setByteFieldValue(Object target, Field field, byte value) {
+		SetFieldValueFunction fieldValueSetter = this.fieldValueSetter;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			fieldValueSetter.setByte(target, field, value);
+		} catch (NullPointerException exc) {
+			if (fieldValueSetter != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueSetter == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueSetter = getOrBuildFieldValueSetter(initContext);
+					refresh(initContext);
+				}
+			}
+			this.fieldValueSetter.setByte(target, field, value);
+		}
+	}
+
+	@Override
+	public char getCharFieldValue(Object target, Field field) {
+		GetFieldValueFunction fieldValueRetriever = this.fieldValueRetriever;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return fieldValueRetriever.getChar(target, field);
+		} catch (NullPointerException exc) {
+			if (fieldValueRetriever != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueRetriever == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueRetriever = getOrBuildFieldValueRetriever(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.fieldValueRetriever.getChar(target, field);
+		}
+	}
+
+	@Override
+	public void setCharFieldValue(Object target, Field field, char value) {
+		SetFieldValueFunction fieldValueSetter = this.fieldValueSetter;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			fieldValueSetter.setChar(target, field, value);
+		} catch (NullPointerException exc) {
+			if (fieldValueSetter != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldValueSetter == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldValueSetter = getOrBuildFieldValueSetter(initContext);
+					refresh(initContext);
+				}
+			}
+			this.fieldValueSetter.setChar(target, field, value);
+		}
+	}
+
+	@Override
+	public boolean compareAndSetFieldValue(Object target, Field field, Object expected, Object value) {
+		AtomicFieldValueFunction atomicFieldValueUpdater = this.atomicFieldValueUpdater;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return atomicFieldValueUpdater.compareAndSet(target, field, expected, value);
+		} catch (NullPointerException exc) {
+			if (atomicFieldValueUpdater != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.atomicFieldValueUpdater == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.atomicFieldValueUpdater = getOrBuildAtomicFieldValueUpdater(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.atomicFieldValueUpdater.compareAndSet(target, field, expected, value);
+		}
+	}
+
+	@Override
+	public boolean compareAndSetIntFieldValue(Object target, Field field, int expected, int value) {
+		AtomicFieldValueFunction atomicFieldValueUpdater = this.atomicFieldValueUpdater;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return atomicFieldValueUpdater.compareAndSetInt(target, field, expected, value);
+		} catch (NullPointerException exc) {
+			if (atomicFieldValueUpdater != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.atomicFieldValueUpdater == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.atomicFieldValueUpdater = getOrBuildAtomicFieldValueUpdater(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.atomicFieldValueUpdater.compareAndSetInt(target, field, expected, value);
+		}
+	}
+
+	@Override
+	public boolean compareAndSetLongFieldValue(Object target, Field field, long expected, long value) {
+		AtomicFieldValueFunction atomicFieldValueUpdater = this.atomicFieldValueUpdater;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return atomicFieldValueUpdater.compareAndSetLong(target, field, expected, value);
+		} catch (NullPointerException exc) {
+			if (atomicFieldValueUpdater != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.atomicFieldValueUpdater == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.atomicFieldValueUpdater = getOrBuildAtomicFieldValueUpdater(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.atomicFieldValueUpdater.compareAndSetLong(target, field, expected, value);
+		}
+	}
+
+	@Override
+	public <T> T getAndSetFieldValue(Object target, Field field, Object value) {
+		AtomicFieldValueFunction atomicFieldValueUpdater = this.atomicFieldValueUpdater;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return (T)atomicFieldValueUpdater.getAndSet(target, field, value);
+		} catch (NullPointerException exc) {
+			if (atomicFieldValueUpdater != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.atomicFieldValueUpdater == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.atomicFieldValueUpdater = getOrBuildAtomicFieldValueUpdater(initContext);
+					refresh(initContext);
+				}
+			}
+			return (T)this.atomicFieldValueUpdater.getAndSet(target, field, value);
+		}
+	}
+
+	@Override
+	public int getAndSetIntFieldValue(Object target, Field field, int value) {
+		AtomicFieldValueFunction atomicFieldValueUpdater = this.atomicFieldValueUpdater;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return atomicFieldValueUpdater.getAndSetInt(target, field, value);
+		} catch (NullPointerException exc) {
+			if (atomicFieldValueUpdater != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.atomicFieldValueUpdater == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.atomicFieldValueUpdater = getOrBuildAtomicFieldValueUpdater(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.atomicFieldValueUpdater.getAndSetInt(target, field, value);
+		}
+	}
+
+	@Override
+	public long getAndSetLongFieldValue(Object target, Field field, long value) {
+		AtomicFieldValueFunction atomicFieldValueUpdater = this.atomicFieldValueUpdater;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return atomicFieldValueUpdater.getAndSetLong(target, field, value);
+		} catch (NullPointerException exc) {
+			if (atomicFieldValueUpdater != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.atomicFieldValueUpdater == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.atomicFieldValueUpdater = getOrBuildAtomicFieldValueUpdater(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.atomicFieldValueUpdater.getAndSetLong(target, field, value);
+		}
+	}
+
+	@Override
+	public int getAndAddIntFieldValue(Object target, Field field, int delta) {
+		AtomicFieldValueFunction atomicFieldValueUpdater = this.atomicFieldValueUpdater;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return atomicFieldValueUpdater.getAndAddInt(target, field, delta);
+		} catch (NullPointerException exc) {
+			if (atomicFieldValueUpdater != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.atomicFieldValueUpdater == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.atomicFieldValueUpdater = getOrBuildAtomicFieldValueUpdater(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.atomicFieldValueUpdater.getAndAddInt(target, field, delta);
+		}
+	}
+
+	@Override
+	public long getAndAddLongFieldValue(Object target, Field field, long delta) {
+		AtomicFieldValueFunction atomicFieldValueUpdater = this.atomicFieldValueUpdater;
+		if (target == null && !Modifier.isStatic(field.getModifiers())) {
+			throw new IllegalArgumentException("Target cannot be null when the field is not static");
+		}
+		try {
+			return atomicFieldValueUpdater.getAndAddLong(target, field, delta);
+		} catch (NullPointerException exc) {
+			if (atomicFieldValueUpdater != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.atomicFieldValueUpdater == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.atomicFieldValueUpdater = getOrBuildAtomicFieldValueUpdater(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.atomicFieldValueUpdater.getAndAddLong(target, field, delta);
+		}
+	}
+
+	@Override
+	public Object[] getFieldValues(Object target, Field[] fields) {
+		BatchFieldValueFunction batchFieldValueAccessor = this.batchFieldValueAccessor;
+		try {
+			return batchFieldValueAccessor.getValues(target, fields);
+		} catch (NullPointerException exc) {
+			if (batchFieldValueAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.batchFieldValueAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.batchFieldValueAccessor = getOrBuildBatchFieldValueAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.batchFieldValueAccessor.getValues(target, fields);
+		}
+	}
+
+	@Override
+	public void setFieldValues(Object target, Field[] fields, Object[] values) {
+		BatchFieldValueFunction batchFieldValueAccessor = this.batchFieldValueAccessor;
+		try {
+			batchFieldValueAccessor.setValues(target, fields, values);
+		} catch (NullPointerException exc) {
+			if (batchFieldValueAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.batchFieldValueAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.batchFieldValueAccessor = getOrBuildBatchFieldValueAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			this.batchFieldValueAccessor.setValues(target, fields, values);
+		}
+	}
+
+	@Override
+	public Object[] getFieldValues(Object[] targets, Field field) {
+		BatchFieldValueFunction batchFieldValueAccessor = this.batchFieldValueAccessor;
+		try {
+			return batchFieldValueAccessor.getValues(targets, field);
+		} catch (NullPointerException exc) {
+			if (batchFieldValueAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.batchFieldValueAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.batchFieldValueAccessor = getOrBuildBatchFieldValueAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.batchFieldValueAccessor.getValues(targets, field);
+		}
+	}
+
+	@Override
+	public void setFieldValues(Object[] targets, Field field, Object[] values) {
+		BatchFieldValueFunction batchFieldValueAccessor = this.batchFieldValueAccessor;
+		try {
+			batchFieldValueAccessor.setValues(targets, field, values);
+		} catch (NullPointerException exc) {
+			if (batchFieldValueAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.batchFieldValueAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.batchFieldValueAccessor = getOrBuildBatchFieldValueAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			this.batchFieldValueAccessor.setValues(targets, field, values);
+		}
+	}
+
+	@Override
+	public <T> T getArrayElement(Object array, int index) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			return arrayElementAccessor.get(array, index);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.arrayElementAccessor.get(array, index);
+		}
+	}
+
+	@Override
+	public short getShortArrayElement(Object array, int index) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			return arrayElementAccessor.getShort(array, index);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.arrayElementAccessor.getShort(array, index);
+		}
+	}
+
+	@Override
+	public int getIntArrayElement(Object array, int index) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			return arrayElementAccessor.getInt(array, index);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.arrayElementAccessor.getInt(array, index);
+		}
+	}
+
+	@Override
+	public long getLongArrayElement(Object array, int index) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			return arrayElementAccessor.getLong(array, index);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.arrayElementAccessor.getLong(array, index);
+		}
+	}
+
+	@Override
+	public float getFloatArrayElement(Object array, int index) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			return arrayElementAccessor.getFloat(array, index);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.arrayElementAccessor.getFloat(array, index);
+		}
+	}
+
+	@Override
+	public double getDoubleArrayElement(Object array, int index) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			return arrayElementAccessor.getDouble(array, index);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.arrayElementAccessor.getDouble(array, index);
+		}
+	}
+
+	@Override
+	public boolean getBooleanArrayElement(Object array, int index) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			return arrayElementAccessor.getBoolean(array, index);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.arrayElementAccessor.getBoolean(array, index);
+		}
+	}
+
+	@Override
+	public byte getByteArrayElement(Object array, int index) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			return arrayElementAccessor.getByte(array, index);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.arrayElementAccessor.getByte(array, index);
+		}
+	}
+
+	@Override
+	public char getCharArrayElement(Object array, int index) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			return arrayElementAccessor.getChar(array, index);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.arrayElementAccessor.getChar(array, index);
+		}
+	}
+
+	@Override
+	public void setArrayElement(Object array, int index, Object value) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			arrayElementAccessor.set(array, index, value);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			this.arrayElementAccessor.set(array, index, value);
+		}
+	}
+
+	@Override
+	public void setShortArrayElement(Object array, int index, short value) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			arrayElementAccessor.setShort(array, index, value);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			this.arrayElementAccessor.setShort(array, index, value);
+		}
+	}
+
+	@Override
+	public void setIntArrayElement(Object array, int index, int value) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			arrayElementAccessor.setInt(array, index, value);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			this.arrayElementAccessor.setInt(array, index, value);
+		}
+	}
+
+	@Override
+	public void setLongArrayElement(Object array, int index, long value) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			arrayElementAccessor.setLong(array, index, value);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			this.arrayElementAccessor.setLong(array, index, value);
+		}
+	}
+
+	@Override
+	public void setFloatArrayElement(Object array, int index, float value) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			arrayElementAccessor.setFloat(array, index, value);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			this.arrayElementAccessor.setFloat(array, index, value);
+		}
+	}
+
+	@Override
+	public void setDoubleArrayElement(Object array, int index, double value) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			arrayElementAccessor.setDouble(array, index, value);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			this.arrayElementAccessor.setDouble(array, index, value);
+		}
+	}
+
+	@Override
+	public void setBooleanArrayElement(Object array, int index, boolean value) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			arrayElementAccessor.setBoolean(array, index, value);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			this.arrayElementAccessor.setBoolean(array, index, value);
+		}
+	}
+
+	@Override
+	public void setByteArrayElement(Object array, int index, byte value) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			arrayElementAccessor.setByte(array, index, value);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			this.arrayElementAccessor.setByte(array, index, value);
+		}
+	}
+
+	@Override
+	public void setCharArrayElement(Object array, int index, char value) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			arrayElementAccessor.setChar(array, index, value);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			this.arrayElementAccessor.setChar(array, index, value);
+		}
+	}
+
+	@Override
+	public void copyArray(Object source, int sourceIndex, Object destination, int destinationIndex, int length) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			arrayElementAccessor.copy(source, sourceIndex, destination, destinationIndex, length);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			this.arrayElementAccessor.copy(source, sourceIndex, destination, destinationIndex, length);
+		}
+	}
+
+	@Override
+	public ByteBuffer toByteBuffer(Object array, int index, int length) {
+		ArrayElementFunction arrayElementAccessor = this.arrayElementAccessor;
+		try {
+			return arrayElementAccessor.toByteBuffer(array, index, length);
+		} catch (NullPointerException exc) {
+			if (arrayElementAccessor != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.arrayElementAccessor == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.arrayElementAccessor = getOrBuildArrayElementAccessor(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.arrayElementAccessor.toByteBuffer(array, index, length);
+		}
+	}
+
+	@Override
+	public FieldAccessor getFieldAccessor(Field field) {
+		Function<Field, FieldAccessor> fieldAccessorRetriever = this.fieldAccessorRetriever;
+		try {
+			return fieldAccessorRetriever.apply(field);
+		} catch (NullPointerException exc) {
+			if (fieldAccessorRetriever != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fieldAccessorRetriever == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fieldAccessorRetriever = getOrBuildFieldAccessorRetriever(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.fieldAccessorRetriever.apply(field);
+		}
+	}
+
+	@Override
+	public FieldAccessor getGeneratedFieldAccessor(Field field) {
+		Function<Field, FieldAccessor> generatedFieldAccessorRetriever = this.generatedFieldAccessorRetriever;
+		try {
+			return generatedFieldAccessorRetriever.apply(field);
+		} catch (NullPointerException exc) {
+			if (generatedFieldAccessorRetriever != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.generatedFieldAccessorRetriever == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.generatedFieldAccessorRetriever = getOrBuildGeneratedFieldAccessorRetriever(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.generatedFieldAccessorRetriever.apply(field);
+		}
+	}
+
+	@Override
+	public <T> T allocateInstance(Class<?> cls) {
+		try {
+			ThrowingFunction<Class<?>, Object, Throwable> allocateInstanceInvoker = this.allocateInstanceInvoker;
+			try {
+				return (T)allocateInstanceInvoker.apply(cls);
+			} catch (NullPointerException exc) {
+				if (allocateInstanceInvoker != null) {
+					throw exc;
+				}
+				synchronized (this) {
+					if (this.allocateInstanceInvoker == null) {
+						Map<Object, Object> initContext = functionsToMap();
+						this.allocateInstanceInvoker = getOrBuildAllocateInstanceInvoker(initContext);
+						refresh(initContext);
+					}
+				}
+				return (T)this.allocateInstanceInvoker.apply(cls);
+			}
+		} catch (Throwable exc) {
+			return throwException(exc);
+		}
+	}
+
+	@Override
+	public Class<?> getClassByName(String className, Boolean initialize, ClassLoader classLoader, Class<?> caller) {
+		try {
+			ThrowingQuadFunction<String, Boolean, ClassLoader, Class<?>, Class<?>, Throwable> classByNameRetriever = this.classByNameRetriever;
+			try {
+				return classByNameRetriever.apply(className, initialize, classLoader, caller);
+			} catch (NullPointerException exc) {
+				if (classByNameRetriever != null) {
+					throw exc;
+				}
+				synchronized (this) {
+					if (this.classByNameRetriever == null) {
+						Map<Object, Object> initContext = functionsToMap();
+						this.classByNameRetriever = getOrBuildClassByNameRetriever(initContext);
+						refresh(initContext);
+					}
+				}
+				return this.classByNameRetriever.apply(className, initialize, classLoader, caller);
+			}
+		} catch (Throwable exc) {
+			return throwException(exc);
+		}
+	}
+
+	@Override
+	public Collection<URL> getResources(String resourceRelativePath, boolean findFirst, ClassLoader... classLoaders) {
+		try {
+			GetResourcesFunction resourcesRetriver = this.resourcesRetriver;
+			try {
+				return resourcesRetriver.apply(resourceRelativePath, findFirst, classLoaders);
+			} catch (NullPointerException exc) {
+				if (resourcesRetriver != null) {
+					throw exc;
+				}
+				synchronized (this) {
+					if (this.resourcesRetriver == null) {
+						Map<Object, Object> initContext = functionsToMap();
+						this.resourcesRetriver = getOrBuildResourcesRetriever(initContext);
+						refresh(initContext);
+					}
+				}
+				return this.resourcesRetriver.apply(resourceRelativePath, findFirst, classLoaders);
+			}
+		} catch (Throwable exc) {
+			return throwException(exc);
+		}
+	}
+
+	@Override
+	public Collection<URL> getResources(String resourceRelativePath, boolean findFirst, Collection<ClassLoader> classLoaders) {
+		try {
+			GetResourcesFunction resourcesRetriver = this.resourcesRetriver;
+			try {
+				return resourcesRetriver.apply(resourceRelativePath, findFirst, classLoaders);
+			} catch (NullPointerException exc) {
+				if (resourcesRetriver != null) {
+					throw exc;
+				}
+				synchronized (this) {
+					if (this.resourcesRetriver == null) {
+						Map<Object, Object> initContext = functionsToMap();
+						this.resourcesRetriver = getOrBuildResourcesRetriever(initContext);
+						refresh(initContext);
+					}
+				}
+				return this.resourcesRetriver.apply(resourceRelativePath, findFirst, classLoaders);
+			}
+		} catch (Throwable exc) {
+			return throwException(exc);
+		}
+	}
+
+	@Override
+	public boolean isBuiltinClassLoader(ClassLoader classLoader) {
+		Class<?> builtinClassLoaderClass = getBuiltinClassLoaderClass();
+		return builtinClassLoaderClass != null && builtinClassLoaderClass.isAssignableFrom(classLoader.getClass());
+	}
+
+	@Override
+	public boolean isClassLoaderDelegate(ClassLoader classLoader) {
+		Class<?> classLoaderDelegateClass = getClassLoaderDelegateClass();
+		return classLoaderDelegateClass != null && classLoaderDelegateClass.isAssignableFrom(classLoader.getClass());
+	}
+
+	@Override
+	public Class<?> getBuiltinClassLoaderClass() {
+		Supplier<Class<?>> builtinClassLoaderClassSupplier = this.builtinClassLoaderClassSupplier;
+		try {
+			return builtinClassLoaderClassSupplier.get();
+		} catch (NullPointerException exc) {
+			if (builtinClassLoaderClassSupplier != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.builtinClassLoaderClassSupplier == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.builtinClassLoaderClassSupplier = getOrBuildBuiltinClassLoaderClassSupplier(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.builtinClassLoaderClassSupplier.get();
+		}
+	}
+
+	@Override
+	public Class<?> getClassLoaderDelegateClass() {
+		Supplier<Class<?>> classLoaderDelegateClassSupplier = this.classLoaderDelegateClassSupplier;
+		try {
+			return classLoaderDelegateClassSupplier.get();
+		} catch (NullPointerException exc) {
+			if (classLoaderDelegateClassSupplier != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.classLoaderDelegateClassSupplier == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.classLoaderDelegateClassSupplier = getOrBuildClassLoaderDelegateClassSupplier(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.classLoaderDelegateClassSupplier.get();
+		}
+	}
+
+	@Override
+	public Lookup getConsulter(Class<?> cls) {
+		try {
+			ThrowingFunction<Class<?>, MethodHandles.Lookup, Throwable> consulterRetriever = this.consulterRetriever;
+			try {
+				return consulterRetriever.apply(cls);
+			} catch (NullPointerException exc) {
+				if (consulterRetriever != null) {
+					throw exc;
+				}
+				synchronized (this) {
+					if (this.consulterRetriever == null) {
+						Map<Object, Object> initContext = functionsToMap();
+						this.consulterRetriever = getOrBuildDeepConsulterRetriever(initContext);
+						refresh(initContext);
+					}
+				}
+				return this.consulterRetriever.apply(cls);
+			}
+		} catch (Throwable exc) {
 			return throwException(exc);
 		}
 	}
 
 	@Override
-	public Class<?> getClassByName(String className, Boolean initialize, ClassLoader classLoader, Class<?> caller) {
+	public <T> T invoke(Object target, Method method, Object[] params) {
+		try {
+			ThrowingTriFunction<Method, Object, Object[], Object, Throwable> methodInvoker = this.methodInvoker;
+			try {
+				return (T)methodInvoker.apply(method, target, params);
+			} catch (NullPointerException exc) {
+				if (methodInvoker != null) {
+					throw exc;
+				}
+				synchronized (this) {
+					if (this.methodInvoker == null) {
+						Map<Object, Object> initContext = functionsToMap();
+						this.methodInvoker = getOrBuildMethodInvoker(initContext);
+						refresh(initContext);
+					}
+				}
+				return (T)this.methodInvoker.apply(method, target, params);
+			}
+		} catch (Throwable exc) {
+			return throwException(exc);
+		}
+	}
+
+	@Override
+	public <T> T invokeSpecial(Object target, Method method, Class<?> specialCaller, Object... args) {
+		InvokeSpecialFunction specialMethodInvoker = this.specialMethodInvoker;
+		try {
+			return (T)specialMethodInvoker.apply(target, method, specialCaller, args);
+		} catch (NullPointerException exc) {
+			if (specialMethodInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.specialMethodInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.specialMethodInvoker = getOrBuildSpecialMethodInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			return (T)this.specialMethodInvoker.apply(target, method, specialCaller, args);
+		}
+	}
+
+	@Override
+	public <T> T invokeByName(Object target, String name, Object... args) {
+		InvokeByNameFunction methodByNameInvoker = this.methodByNameInvoker;
+		try {
+			return (T)methodByNameInvoker.apply(target, name, args);
+		} catch (NullPointerException exc) {
+			if (methodByNameInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.methodByNameInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.methodByNameInvoker = getOrBuildMethodByNameInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			return (T)this.methodByNameInvoker.apply(target, name, args);
+		}
+	}
+
+	@Override
+	public PropertyPath compilePath(Class<?> rootType, String path) {
+		try {
+			CompilePathFunction pathCompiler = this.pathCompiler;
+			try {
+				return pathCompiler.apply(rootType, path);
+			} catch (NullPointerException exc) {
+				if (pathCompiler != null) {
+					throw exc;
+				}
+				synchronized (this) {
+					if (this.pathCompiler == null) {
+						Map<Object, Object> initContext = functionsToMap();
+						this.pathCompiler = getOrBuildPathCompiler(initContext);
+						refresh(initContext);
+					}
+				}
+				return this.pathCompiler.apply(rootType, path);
+			}
+		} catch (Throwable exc) {
+			return throwException(exc);
+		}
+	}
+
+	@Override
+	public <T> T newProxy(Class<T> type, Object handler) {
+		NewProxyFunction proxyBuilder = this.proxyBuilder;
+		try {
+			return proxyBuilder.apply(type, handler);
+		} catch (NullPointerException exc) {
+			if (proxyBuilder != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.proxyBuilder == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.proxyBuilder = getOrBuildProxyBuilder(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.proxyBuilder.apply(type, handler);
+		}
+	}
+
+	@Override
+	public void invokeAll(Method method, Iterable<?> targets, Object[] params) {
+		InvokeAllFunction allMethodInvoker = this.allMethodInvoker;
+		try {
+			allMethodInvoker.apply(method, targets, params, null, null);
+		} catch (NullPointerException exc) {
+			if (allMethodInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.allMethodInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.allMethodInvoker = getOrBuildAllMethodInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			this.allMethodInvoker.apply(method, targets, params, null, null);
+		}
+	}
+
+	@Override
+	public void invokeAll(Method method, Iterable<?> targets, Object[] params, Object[] results) {
+		InvokeAllFunction allMethodInvoker = this.allMethodInvoker;
+		try {
+			allMethodInvoker.apply(method, targets, params, results, null);
+		} catch (NullPointerException exc) {
+			if (allMethodInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.allMethodInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.allMethodInvoker = getOrBuildAllMethodInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			this.allMethodInvoker.apply(method, targets, params, results, null);
+		}
+	}
+
+	@Override
+	public void invokeAll(Method method, Iterable<?> targets, Object[] params, Object[] results, ForkJoinPool forkJoinPool) {
+		InvokeAllFunction allMethodInvoker = this.allMethodInvoker;
+		try {
+			allMethodInvoker.apply(method, targets, params, results, forkJoinPool);
+		} catch (NullPointerException exc) {
+			if (allMethodInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.allMethodInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.allMethodInvoker = getOrBuildAllMethodInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			this.allMethodInvoker.apply(method, targets, params, results, forkJoinPool);
+		}
+	}
+
+	@Override
+	public <T> T invoke0(Object target, Method method) {
+		FixedArityInvokeFunction fixedArityInvoker = this.fixedArityInvoker;
+		try {
+			return (T)fixedArityInvoker.invoke(target, method);
+		} catch (NullPointerException exc) {
+			if (fixedArityInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fixedArityInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fixedArityInvoker = getOrBuildFixedArityInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			return (T)this.fixedArityInvoker.invoke(target, method);
+		}
+	}
+
+	@Override
+	public <T> T invoke1(Object target, Method method, Object arg0) {
+		FixedArityInvokeFunction fixedArityInvoker = this.fixedArityInvoker;
+		try {
+			return (T)fixedArityInvoker.invoke(target, method, arg0);
+		} catch (NullPointerException exc) {
+			if (fixedArityInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fixedArityInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fixedArityInvoker = getOrBuildFixedArityInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			return (T)this.fixedArityInvoker.invoke(target, method, arg0);
+		}
+	}
+
+	@Override
+	public <T> T invoke2(Object target, Method method, Object arg0, Object arg1) {
+		FixedArityInvokeFunction fixedArityInvoker = this.fixedArityInvoker;
+		try {
+			return (T)fixedArityInvoker.invoke(target, method, arg0, arg1);
+		} catch (NullPointerException exc) {
+			if (fixedArityInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fixedArityInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fixedArityInvoker = getOrBuildFixedArityInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			return (T)this.fixedArityInvoker.invoke(target, method, arg0, arg1);
+		}
+	}
+
+	@Override
+	public <T> T invoke3(Object target, Method method, Object arg0, Object arg1, Object arg2) {
+		FixedArityInvokeFunction fixedArityInvoker = this.fixedArityInvoker;
+		try {
+			return (T)fixedArityInvoker.invoke(target, method, arg0, arg1, arg2);
+		} catch (NullPointerException exc) {
+			if (fixedArityInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fixedArityInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fixedArityInvoker = getOrBuildFixedArityInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			return (T)this.fixedArityInvoker.invoke(target, method, arg0, arg1, arg2);
+		}
+	}
+
+	@Override
+	public <T> T invoke4(Object target, Method method, Object arg0, Object arg1, Object arg2, Object arg3) {
+		FixedArityInvokeFunction fixedArityInvoker = this.fixedArityInvoker;
+		try {
+			return (T)fixedArityInvoker.invoke(target, method, arg0, arg1, arg2, arg3);
+		} catch (NullPointerException exc) {
+			if (fixedArityInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fixedArityInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fixedArityInvoker = getOrBuildFixedArityInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			return (T)this.fixedArityInvoker.invoke(target, method, arg0, arg1, arg2, arg3);
+		}
+	}
+
+	@Override
+	public <T> T invoke5(Object target, Method method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) {
+		FixedArityInvokeFunction fixedArityInvoker = this.fixedArityInvoker;
+		try {
+			return (T)fixedArityInvoker.invoke(target, method, arg0, arg1, arg2, arg3, arg4);
+		} catch (NullPointerException exc) {
+			if (fixedArityInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fixedArityInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fixedArityInvoker = getOrBuildFixedArityInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			return (T)this.fixedArityInvoker.invoke(target, method, arg0, arg1, arg2, arg3, arg4);
+		}
+	}
+
+	@Override
+	public <T> T invoke6(Object target, Method method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) {
+		FixedArityInvokeFunction fixedArityInvoker = this.fixedArityInvoker;
+		try {
+			return (T)fixedArityInvoker.invoke(target, method, arg0, arg1, arg2, arg3, arg4, arg5);
+		} catch (NullPointerException exc) {
+			if (fixedArityInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fixedArityInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fixedArityInvoker = getOrBuildFixedArityInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			return (T)this.fixedArityInvoker.invoke(target, method, arg0, arg1, arg2, arg3, arg4, arg5);
+		}
+	}
+
+	@Override
+	public <T> T newInstanceWithSuperConstructor(Class<T> cls, Constructor<?> superCtor, Object... args) {
+		NewInstanceWithSuperConstructorFunction superConstructorInvoker = this.superConstructorInvoker;
+		try {
+			return superConstructorInvoker.apply(cls, superCtor, args);
+		} catch (NullPointerException exc) {
+			if (superConstructorInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.superConstructorInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.superConstructorInvoker = getOrBuildSuperConstructorInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.superConstructorInvoker.apply(cls, superCtor, args);
+		}
+	}
+
+	@Override
+	public <T> T newInstance0(Constructor<T> ctor) {
+		FixedArityInvokeFunction fixedArityInvoker = this.fixedArityInvoker;
+		try {
+			return (T)fixedArityInvoker.newInstance(ctor);
+		} catch (NullPointerException exc) {
+			if (fixedArityInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fixedArityInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fixedArityInvoker = getOrBuildFixedArityInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			return (T)this.fixedArityInvoker.newInstance(ctor);
+		}
+	}
+
+	@Override
+	public <T> T newInstance1(Constructor<T> ctor, Object arg0) {
+		FixedArityInvokeFunction fixedArityInvoker = this.fixedArityInvoker;
+		try {
+			return (T)fixedArityInvoker.newInstance(ctor, arg0);
+		} catch (NullPointerException exc) {
+			if (fixedArityInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fixedArityInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fixedArityInvoker = getOrBuildFixedArityInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			return (T)this.fixedArityInvoker.newInstance(ctor, arg0);
+		}
+	}
+
+	@Override
+	public <T> T newInstance2(Constructor<T> ctor, Object arg0, Object arg1) {
+		FixedArityInvokeFunction fixedArityInvoker = this.fixedArityInvoker;
+		try {
+			return (T)fixedArityInvoker.newInstance(ctor, arg0, arg1);
+		} catch (NullPointerException exc) {
+			if (fixedArityInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fixedArityInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fixedArityInvoker = getOrBuildFixedArityInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			return (T)this.fixedArityInvoker.newInstance(ctor, arg0, arg1);
+		}
+	}
+
+	@Override
+	public <T> T newInstance3(Constructor<T> ctor, Object arg0, Object arg1, Object arg2) {
+		FixedArityInvokeFunction fixedArityInvoker = this.fixedArityInvoker;
 		try {
-			ThrowingQuadFunction<String, Boolean, ClassLoader, Class<?>, Class<?>, Throwable> classByNameRetriever = this.classByNameRetriever;
-			try {
-				return classByNameRetriever.apply(className, initialize, classLoader, caller);
-			} catch (NullPointerException exc) {
-				if (classByNameRetriever != null) {
-					throw exc;
-				}
-				synchronized (this) {
-					if (this.classByNameRetriever == null) {
-						Map<Object, Object> initContext = functionsToMap();
-						this.classByNameRetriever = getOrBuildClassByNameRetriever(initContext);
-						refresh(initContext);
-					}
+			return (T)fixedArityInvoker.newInstance(ctor, arg0, arg1, arg2);
+		} catch (NullPointerException exc) {
+			if (fixedArityInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fixedArityInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fixedArityInvoker = getOrBuildFixedArityInvoker(initContext);
+					refresh(initContext);
 				}
-				return this.classByNameRetriever.apply(className, initialize, classLoader, caller);
 			}
-		} catch (Throwable exc) {
-			return throwException(exc);
+			return (T)this.fixedArityInvoker.newInstance(ctor, arg0, arg1, arg2);
 		}
 	}
 
 	@Override
-	public Collection<URL> getResources(String resourceRelativePath, boolean findFirst, ClassLoader... classLoaders) {
+	public <T> T newInstance4(Constructor<T> ctor, Object arg0, Object arg1, Object arg2, Object arg3) {
+		FixedArityInvokeFunction fixedArityInvoker = this.fixedArityInvoker;
 		try {
-			GetResourcesFunction resourcesRetriver = this.resourcesRetriver;
-			try {
-				return resourcesRetriver.apply(resourceRelativePath, findFirst, classLoaders);
-			} catch (NullPointerException exc) {
-				if (resourcesRetriver != null) {
-					throw exc;
-				}
-				synchronized (this) {
-					if (this.resourcesRetriver == null) {
-						Map<Object, Object> initContext = functionsToMap();
-						this.resourcesRetriver = getOrBuildResourcesRetriever(initContext);
-						refresh(initContext);
-					}
+			return (T)fixedArityInvoker.newInstance(ctor, arg0, arg1, arg2, arg3);
+		} catch (NullPointerException exc) {
+			if (fixedArityInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fixedArityInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fixedArityInvoker = getOrBuildFixedArityInvoker(initContext);
+					refresh(initContext);
 				}
-				return this.resourcesRetriver.apply(resourceRelativePath, findFirst, classLoaders);
 			}
-		} catch (Throwable exc) {
-			return throwException(exc);
+			return (T)this.fixedArityInvoker.newInstance(ctor, arg0, arg1, arg2, arg3);
 		}
 	}
 
 	@Override
-	public Collection<URL> getResources(String resourceRelativePath, boolean findFirst, Collection<ClassLoader> classLoaders) {
+	public <T> T newInstance5(Constructor<T> ctor, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) {
+		FixedArityInvokeFunction fixedArityInvoker = this.fixedArityInvoker;
 		try {
-			GetResourcesFunction resourcesRetriver = this.resourcesRetriver;
-			try {
-				return resourcesRetriver.apply(resourceRelativePath, findFirst, classLoaders);
-			} catch (NullPointerException exc) {
-				if (resourcesRetriver != null) {
-					throw exc;
-				}
-				synchronized (this) {
-					if (this.resourcesRetriver == null) {
-						Map<Object, Object> initContext = functionsToMap();
-						this.resourcesRetriver = getOrBuildResourcesRetriever(initContext);
-						refresh(initContext);
-					}
+			return (T)fixedArityInvoker.newInstance(ctor, arg0, arg1, arg2, arg3, arg4);
+		} catch (NullPointerException exc) {
+			if (fixedArityInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fixedArityInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fixedArityInvoker = getOrBuildFixedArityInvoker(initContext);
+					refresh(initContext);
 				}
-				return this.resourcesRetriver.apply(resourceRelativePath, findFirst, classLoaders);
 			}
-		} catch (Throwable exc) {
-			return throwException(exc);
+			return (T)this.fixedArityInvoker.newInstance(ctor, arg0, arg1, arg2, arg3, arg4);
 		}
 	}
 
 	@Override
-	public boolean isBuiltinClassLoader(ClassLoader classLoader) {
-		Class<?> builtinClassLoaderClass = getBuiltinClassLoaderClass();
-		return builtinClassLoaderClass != null && builtinClassLoaderClass.isAssignableFrom(classLoader.getClass());
-	}
-
-	@Override
-	public boolean isClassLoaderDelegate(ClassLoader classLoader) {
-		Class<?> classLoaderDelegateClass = getClassLoaderDelegateClass();
-		return classLoaderDelegateClass != null && classLoaderDelegateClass.isAssignableFrom(classLoader.getClass());
+	public <T> T newInstance6(Constructor<T> ctor, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) {
+		FixedArityInvokeFunction fixedArityInvoker = this.fixedArityInvoker;
+		try {
+			return (T)fixedArityInvoker.newInstance(ctor, arg0, arg1, arg2, arg3, arg4, arg5);
+		} catch (NullPointerException exc) {
+			if (fixedArityInvoker != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.fixedArityInvoker == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.fixedArityInvoker = getOrBuildFixedArityInvoker(initContext);
+					refresh(initContext);
+				}
+			}
+			return (T)this.fixedArityInvoker.newInstance(ctor, arg0, arg1, arg2, arg3, arg4, arg5);
+		}
 	}
 
 	@Override
-	public Class<?> getBuiltinClassLoaderClass() {
-		Supplier<Class<?>> builtinClassLoaderClassSupplier = this.builtinClassLoaderClassSupplier;
+	public <T> InstanceFactory<T> getInstanceFactory(Constructor<T> ctor) {
+		GetInstanceFactoryFunction instanceFactoryRetriever = this.instanceFactoryRetriever;
 		try {
-			return builtinClassLoaderClassSupplier.get();
+			return instanceFactoryRetriever.apply(ctor);
 		} catch (NullPointerException exc) {
-			if (builtinClassLoaderClassSupplier != null) {
+			if (instanceFactoryRetriever != null) {
 				throw exc;
 			}
 			synchronized (this) {
-				if (this.builtinClassLoaderClassSupplier == null) {
+				if (this.instanceFactoryRetriever == null) {
 					Map<Object, Object> initContext = functionsToMap();
-					this.builtinClassLoaderClassSupplier = getOrBuildBuiltinClassLoaderClassSupplier(initContext);
+					this.instanceFactoryRetriever = getOrBuildInstanceFactoryRetriever(initContext);
 					refresh(initContext);
 				}
 			}
-			return this.builtinClassLoaderClassSupplier.get();
+			return this.instanceFactoryRetriever.apply(ctor);
 		}
 	}
 
 	@Override
-	public Class<?> getClassLoaderDelegateClass() {
-		Supplier<Class<?>> classLoaderDelegateClassSupplier = this.classLoaderDelegateClassSupplier;
+	public MethodInvoker getMethodInvoker(Method method) {
+		Function<Method, MethodInvoker> methodInvokerRetriever = this.methodInvokerRetriever;
 		try {
-			return classLoaderDelegateClassSupplier.get();
+			return methodInvokerRetriever.apply(method);
 		} catch (NullPointerException exc) {
-			if (classLoaderDelegateClassSupplier != null) {
+			if (methodInvokerRetriever != null) {
 				throw exc;
 			}
 			synchronized (this) {
-				if (this.classLoaderDelegateClassSupplier == null) {
+				if (this.methodInvokerRetriever == null) {
 					Map<Object, Object> initContext = functionsToMap();
-					this.classLoaderDelegateClassSupplier = getOrBuildClassLoaderDelegateClassSupplier(initContext);
+					this.methodInvokerRetriever = getOrBuildMethodInvokerRetriever(initContext);
 					refresh(initContext);
 				}
 			}
-			return this.classLoaderDelegateClassSupplier.get();
+			return this.methodInvokerRetriever.apply(method);
 		}
 	}
 
 	@Override
-	public Lookup getConsulter(Class<?> cls) {
+	public <F> F asFunctionalInterface(Method method, Class<F> functionalInterface) {
+		AsFunctionalInterfaceFunction functionalInterfaceBuilder = this.functionalInterfaceBuilder;
 		try {
-			ThrowingFunction<Class<?>, MethodHandles.Lookup, Throwable> consulterRetriever = this.consulterRetriever;
-			try {
-				return consulterRetriever.apply(cls);
-			} catch (NullPointerException exc) {
-				if (consulterRetriever != null) {
-					throw exc;
-				}
-				synchronized (this) {
-					if (this.consulterRetriever == null) {
-						Map<Object, Object> initContext = functionsToMap();
-						this.consulterRetriever = getOrBuildDeepConsulterRetriever(initContext);
-						refresh(initContext);
-					}
+			return functionalInterfaceBuilder.apply(method, functionalInterface);
+		} catch (NullPointerException exc) {
+			if (functionalInterfaceBuilder != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.functionalInterfaceBuilder == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.functionalInterfaceBuilder = getOrBuildFunctionalInterfaceBuilder(initContext);
+					refresh(initContext);
 				}
-				return this.consulterRetriever.apply(cls);
 			}
-		} catch (Throwable exc) {
-			return throwException(exc);
+			return this.functionalInterfaceBuilder.apply(method, functionalInterface);
 		}
 	}
 
 	@Override
-	public <T> T invoke(Object target, Method method, Object[] params) {
+	public <F> F asFunctionalInterface(Constructor<?> ctor, Class<F> functionalInterface) {
+		AsFunctionalInterfaceFunction functionalInterfaceBuilder = this.functionalInterfaceBuilder;
 		try {
-			ThrowingTriFunction<Method, Object, Object[], Object, Throwable> methodInvoker = this.methodInvoker;
-			try {
-				return (T)methodInvoker.apply(method, target, params);
-			} catch (NullPointerException exc) {
-				if (methodInvoker != null) {
-					throw exc;
-				}
-				synchronized (this) {
-					if (this.methodInvoker == null) {
-						Map<Object, Object> initContext = functionsToMap();
-						this.methodInvoker = getOrBuildMethodInvoker(initContext);
-						refresh(initContext);
-					}
+			return functionalInterfaceBuilder.apply(ctor, functionalInterface);
+		} catch (NullPointerException exc) {
+			if (functionalInterfaceBuilder != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.functionalInterfaceBuilder == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.functionalInterfaceBuilder = getOrBuildFunctionalInterfaceBuilder(initContext);
+					refresh(initContext);
 				}
-				return (T)this.methodInvoker.apply(method, target, params);
 			}
-		} catch (Throwable exc) {
-			return throwException(exc);
+			return this.functionalInterfaceBuilder.apply(ctor, functionalInterface);
 		}
 	}
 
@@ -1040,6 +3132,195 @@ public abstract class DriverAbst implements Driver {
 		}
 	}
 
+	@Override
+	public ClassMembers getClassMembers(Class<?> cls) {
+		GetClassMembersFunction classMembersRetriever = this.classMembersRetriever;
+		try {
+			return classMembersRetriever.apply(cls);
+		} catch (NullPointerException exc) {
+			if (classMembersRetriever != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.classMembersRetriever == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.classMembersRetriever = getOrBuildClassMembersRetriever(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.classMembersRetriever.apply(cls);
+		}
+	}
+
+	@Override
+	public ObjectLayout getLayout(Class<?> cls) {
+		GetLayoutFunction layoutRetriever = this.layoutRetriever;
+		try {
+			return layoutRetriever.apply(cls);
+		} catch (NullPointerException exc) {
+			if (layoutRetriever != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.layoutRetriever == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.layoutRetriever = getOrBuildLayoutRetriever(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.layoutRetriever.apply(cls);
+		}
+	}
+
+	@Override
+	public DeepSize getDeepSize(Object root) {
+		return getDeepSize(root, null);
+	}
+
+	@Override
+	public DeepSize getDeepSize(Object root, Predicate<Object> stopPredicate) {
+		ComputeDeepSizeFunction deepSizeComputer = this.deepSizeComputer;
+		try {
+			return deepSizeComputer.apply(root, stopPredicate);
+		} catch (NullPointerException exc) {
+			if (deepSizeComputer != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.deepSizeComputer == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.deepSizeComputer = getOrBuildDeepSizeComputer(initContext);
+					refresh(initContext);
+				}
+			}
+			return this.deepSizeComputer.apply(root, stopPredicate);
+		}
+	}
+
+	@Override
+	public void warmup(Collection<Class<?>> classes) {
+		warmup(classes, null);
+	}
+
+	@Override
+	public void warmup(Collection<Class<?>> classes, ForkJoinPool forkJoinPool) {
+		WarmupFunction warmer = this.warmer;
+		try {
+			warmer.apply(classes, forkJoinPool);
+		} catch (NullPointerException exc) {
+			if (warmer != null) {
+				throw exc;
+			}
+			synchronized (this) {
+				if (this.warmer == null) {
+					Map<Object, Object> initContext = functionsToMap();
+					this.warmer = getOrBuildWarmer(initContext);
+					refresh(initContext);
+				}
+			}
+			this.warmer.apply(classes, forkJoinPool);
+		}
+	}
+
+	@Override
+	public void warmup(ClassLoader classLoader, String packageName) {
+		Collection<Class<?>> classes = new ArrayList<>();
+		//The loaded classes collection is copied before filtering since the class loader can modify it concurrently
+		for (Class<?> cls : new ArrayList<>(getLoadedClassesRetriever(classLoader).get())) {
+			Package classPackage = cls.getPackage();
+			if (classPackage != null ? classPackage.getName().equals(packageName) : packageName.isEmpty()) {
+				classes.add(cls);
+			}
+		}
+		warmup(classes, null);
+	}
+
+	@Override
+	public MemberQuery<Field> queryFields(Class<?> cls) {
+		return new MemberQuery<>(
+			cls,
+			new Function<Class<?>, List<Field>>() {
+				@Override
+				public List<Field> apply(Class<?> input) {
+					return getClassMembers(input).getFields();
+				}
+			}
+		);
+	}
+
+	@Override
+	public MemberQuery<Method> queryMethods(Class<?> cls) {
+		return new MemberQuery<>(
+			cls,
+			new Function<Class<?>, List<Method>>() {
+				@Override
+				public List<Method> apply(Class<?> input) {
+					return getClassMembers(input).getMethods();
+				}
+			}
+		);
+	}
+
+	@Override
+	public MemberQuery<Constructor<?>> queryConstructors(Class<?> cls) {
+		return new MemberQuery<>(
+			cls,
+			new Function<Class<?>, List<Constructor<?>>>() {
+				@Override
+				public List<Constructor<?>> apply(Class<?> input) {
+					return getClassMembers(input).getConstructors();
+				}
+			}
+		);
+	}
+
+	@Override
+	public Field getDeclaredField(Class<?> cls, String name) {
+		Field field = getClassMembers(cls).getField(name);
+		if (field == null) {
+			return throwException(
+				new NoSuchFieldException(Strings.compile("Field named {} not found in the class {}", name, cls.getName()))
+			);
+		}
+		return field;
+	}
+
+	@Override
+	public Method getDeclaredMethod(Class<?> cls, String name, Class<?>... parameterTypes) {
+		Method method = getClassMembers(cls).getMethod(name, parameterTypes);
+		if (method == null) {
+			return throwException(
+				new NoSuchMethodException(
+					Strings.compile("Method {}({}) not found in the class {}", name, toNames(parameterTypes), cls.getName())
+				)
+			);
+		}
+		return method;
+	}
+
+	@Override
+	public <T> Constructor<T> getDeclaredConstructor(Class<T> cls, Class<?>... parameterTypes) {
+		Constructor<T> constructor = (Constructor<T>)getClassMembers(cls).getConstructor(parameterTypes);
+		if (constructor == null) {
+			return throwException(
+				new NoSuchMethodException(
+					Strings.compile("Constructor ({}) not found in the class {}", toNames(parameterTypes), cls.getName())
+				)
+			);
+		}
+		return constructor;
+	}
+
+	protected String toNames(Class<?>[] classes) {
+		Collection<String> classNames = new ArrayList<>();
+		if (classes != null) {
+			for (Class<?> cls : classes) {
+				classNames.add(cls.getName());
+			}
+		}
+		return Strings.join(", ", classNames);
+	}
+
 	@Override
 	public Field[] getDeclaredFields(Class<?> cls) {
 		try {
@@ -1187,6 +3468,25 @@ public abstract class DriverAbst implements Driver {
 		loadedPackagesRetriever = null;
 		classLoaderToBuiltinClassLoaderConverter = null;
 		threadStopper = null;
+		fieldAccessorRetriever = null;
+		atomicFieldValueUpdater = null;
+		generatedFieldAccessorRetriever = null;
+		arrayElementAccessor = null;
+		batchFieldValueAccessor = null;
+		methodInvokerRetriever = null;
+		functionalInterfaceBuilder = null;
+		fixedArityInvoker = null;
+		instanceFactoryRetriever = null;
+		allMethodInvoker = null;
+		superConstructorInvoker = null;
+		specialMethodInvoker = null;
+		methodByNameInvoker = null;
+		pathCompiler = null;
+		proxyBuilder = null;
+		classMembersRetriever = null;
+		warmer = null;
+		layoutRetriever = null;
+		deepSizeComputer = null;
 	}
 
 }
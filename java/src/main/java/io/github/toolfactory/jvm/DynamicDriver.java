@@ -30,10 +30,15 @@ package io.github.toolfactory.jvm;
 import java.util.Map;
 
 import io.github.toolfactory.jvm.function.catalog.AllocateInstanceFunction;
+import io.github.toolfactory.jvm.function.catalog.ArrayElementFunction;
+import io.github.toolfactory.jvm.function.catalog.AtomicFieldValueFunction;
+import io.github.toolfactory.jvm.function.catalog.BatchFieldValueFunction;
 import io.github.toolfactory.jvm.function.catalog.ConsulterSupplier;
+import io.github.toolfactory.jvm.function.catalog.GetFieldAccessorFunction;
 import io.github.toolfactory.jvm.function.catalog.GetFieldValueFunction;
 import io.github.toolfactory.jvm.function.catalog.GetLoadedClassesRetrieverFunction;
 import io.github.toolfactory.jvm.function.catalog.GetLoadedPackagesFunction;
+import io.github.toolfactory.jvm.function.catalog.NativeEngine;
 import io.github.toolfactory.jvm.function.catalog.SetAccessibleFunction;
 import io.github.toolfactory.jvm.function.catalog.SetFieldValueFunction;
 import io.github.toolfactory.jvm.util.ObjectProvider;
@@ -72,6 +77,21 @@ public class DynamicDriver extends DefaultDriver {
 					if (clazz.equals(GetLoadedPackagesFunction.class)) {
 						return objectProvider.getOrBuildObject(GetLoadedPackagesFunction.Native.class, context);
 					}
+					if (clazz.equals(NativeEngine.class)) {
+						return objectProvider.getOrBuildObject(NativeEngine.NarcissusBased.class, context);
+					}
+					if (clazz.equals(BatchFieldValueFunction.class)) {
+						return objectProvider.getOrBuildObject(BatchFieldValueFunction.Native.class, context);
+					}
+					if (clazz.equals(ArrayElementFunction.class)) {
+						return objectProvider.getOrBuildObject(ArrayElementFunction.Native.class, context);
+					}
+					if (clazz.equals(AtomicFieldValueFunction.class)) {
+						return objectProvider.getOrBuildObject(AtomicFieldValueFunction.Native.class, context);
+					}
+					if (clazz.equals(GetFieldAccessorFunction.class)) {
+						return objectProvider.getOrBuildObject(GetFieldAccessorFunction.Native.class, context);
+					}
 					throw exc;
 				}
 			}
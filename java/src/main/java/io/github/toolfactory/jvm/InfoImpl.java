@@ -39,6 +39,7 @@ public class InfoImpl implements Info {
     public boolean is64BitHotspot;
     public boolean is32Bit;
     public boolean compressedRefsEnabled;
+    public int objectAlignmentInBytes;
     public int version;
 
     public InfoImpl() {
@@ -86,6 +87,7 @@ public class InfoImpl implements Info {
         }
         boolean compressedOops = false;
         boolean is64BitHotspot = false;
+        int objectAlignmentInBytes = 8;
 
         if (is64Bit) {
             try {
@@ -101,6 +103,12 @@ public class InfoImpl implements Info {
                     } catch (ReflectiveOperationException | RuntimeException e) {
                         is64BitHotspot = false;
                     }
+                    try {
+                        final Object vmOption = getVMOptionMethod.invoke(hotSpotBean, "ObjectAlignmentInBytes");
+                        objectAlignmentInBytes = Integer.parseInt(vmOption.getClass().getMethod("getValue").invoke(vmOption).toString());
+                    } catch (ReflectiveOperationException | RuntimeException e) {
+                        //The default alignment is kept
+                    }
                 }
             } catch (ReflectiveOperationException | RuntimeException e) {
                 is64BitHotspot = false;
@@ -110,6 +118,7 @@ public class InfoImpl implements Info {
         this.is64BitHotspot = is64BitHotspot;
         this.is32Bit = is32Bit;
         this.compressedRefsEnabled = compressedOops;
+        this.objectAlignmentInBytes = objectAlignmentInBytes;
     }
 
     @Override
@@ -137,6 +146,10 @@ public class InfoImpl implements Info {
     	return version;
     }
 
+    public int getObjectAlignmentInBytes() {
+        return objectAlignmentInBytes;
+    }
+
 	private static class Holder {
 		private static final InfoImpl INSTANCE = InfoImpl.create();
 
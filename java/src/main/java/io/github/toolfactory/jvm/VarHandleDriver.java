@@ -0,0 +1,62 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm;
+
+
+import io.github.toolfactory.jvm.function.catalog.AtomicFieldValueFunction;
+import io.github.toolfactory.jvm.function.catalog.GetFieldAccessorFunction;
+import io.github.toolfactory.jvm.function.catalog.GetFieldValueFunction;
+import io.github.toolfactory.jvm.function.catalog.SetFieldValueFunction;
+
+
+public class VarHandleDriver extends DefaultDriver {
+
+
+	@Override
+	protected Class<? extends GetFieldValueFunction> getGetFieldValueFunctionClass() {
+		return GetFieldValueFunction.VarHandleBased.class;
+	}
+
+
+	@Override
+	protected Class<? extends SetFieldValueFunction> getSetFieldValueFunctionClass() {
+		return SetFieldValueFunction.VarHandleBased.class;
+	}
+
+
+	@Override
+	protected Class<? extends AtomicFieldValueFunction> getAtomicFieldValueFunctionClass() {
+		return AtomicFieldValueFunction.VarHandleBased.class;
+	}
+
+
+	@Override
+	protected Class<? extends GetFieldAccessorFunction> getGetFieldAccessorFunctionClass() {
+		return GetFieldAccessorFunction.VarHandleBased.class;
+	}
+
+}
@@ -0,0 +1,557 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+
+import io.github.toolfactory.jvm.function.InitializeException;
+import io.github.toolfactory.jvm.util.Classes;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+import io.github.toolfactory.jvm.util.Strings;
+import io.github.toolfactory.narcissus.Narcissus;
+
+
+@SuppressWarnings("all")
+public interface ArrayElementFunction {
+
+	public <T> T get(Object array, int index);
+
+	public short getShort(Object array, int index);
+
+	public int getInt(Object array, int index);
+
+	public long getLong(Object array, int index);
+
+	public float getFloat(Object array, int index);
+
+	public double getDouble(Object array, int index);
+
+	public boolean getBoolean(Object array, int index);
+
+	public byte getByte(Object array, int index);
+
+	public char getChar(Object array, int index);
+
+	public void set(Object array, int index, Object value);
+
+	public void setShort(Object array, int index, short value);
+
+	public void setInt(Object array, int index, int value);
+
+	public void setLong(Object array, int index, long value);
+
+	public void setFloat(Object array, int index, float value);
+
+	public void setDouble(Object array, int index, double value);
+
+	public void setBoolean(Object array, int index, boolean value);
+
+	public void setByte(Object array, int index, byte value);
+
+	public void setChar(Object array, int index, char value);
+
+	public void copy(Object source, int sourceIndex, Object destination, int destinationIndex, int length);
+
+	public ByteBuffer toByteBuffer(Object array, int index, int length);
+
+	public abstract static class Abst implements ArrayElementFunction {
+
+		protected Class<?> checkArray(Object array) {
+			if (array == null) {
+				throw new IllegalArgumentException("Array cannot be null");
+			}
+			Class<?> componentType = array.getClass().getComponentType();
+			if (componentType == null) {
+				throw new IllegalArgumentException(Strings.compile("Object of type {} is not an array", array.getClass().getName()));
+			}
+			return componentType;
+		}
+
+		protected void checkArray(Object array, Class<?> componentType) {
+			if (checkArray(array) != componentType) {
+				throw new IllegalArgumentException(Strings.compile("{} is not an array of {}", array.getClass().getName(), componentType.getName()));
+			}
+		}
+
+		protected Object checkValue(Class<?> componentType, Object value) {
+			if (value == null ? componentType.isPrimitive() : !Classes.isAssignableFrom(componentType, value.getClass())) {
+				throw new IllegalArgumentException(Strings.compile("Value {} is not assignable to an element of type {}", value, componentType.getName()));
+			}
+			return value;
+		}
+
+		protected void checkRange(Object array, int index, int length) {
+			int arrayLength = java.lang.reflect.Array.getLength(array);
+			if (index < 0 || length < 0 || index > arrayLength - length) {
+				throw new ArrayIndexOutOfBoundsException(
+					Strings.compile("Range [{}, {}) is out of bounds for length {}", index, index + length, arrayLength)
+				);
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T get(Object array, int index) {
+			Class<?> componentType = checkArray(array);
+			if (!componentType.isPrimitive()) {
+				return (T)getObject(array, index);
+			} else if (componentType == short.class) {
+				return (T)(Short)getShort(array, index);
+			} else if (componentType == int.class) {
+				return (T)(Integer)getInt(array, index);
+			} else if (componentType == long.class) {
+				return (T)(Long)getLong(array, index);
+			} else if (componentType == float.class) {
+				return (T)(Float)getFloat(array, index);
+			} else if (componentType == double.class) {
+				return (T)(Double)getDouble(array, index);
+			} else if (componentType == boolean.class) {
+				return (T)(Boolean)getBoolean(array, index);
+			} else if (componentType == byte.class) {
+				return (T)(Byte)getByte(array, index);
+			}
+			return (T)(Character)getChar(array, index);
+		}
+
+		@Override
+		public void set(Object array, int index, Object value) {
+			Class<?> componentType = checkArray(array);
+			checkValue(componentType, value);
+			if (!componentType.isPrimitive()) {
+				setObject(array, index, value);
+			} else if (componentType == short.class) {
+				setShort(array, index, (Short)value);
+			} else if (componentType == int.class) {
+				setInt(array, index, (Integer)value);
+			} else if (componentType == long.class) {
+				setLong(array, index, (Long)value);
+			} else if (componentType == float.class) {
+				setFloat(array, index, (Float)value);
+			} else if (componentType == double.class) {
+				setDouble(array, index, (Double)value);
+			} else if (componentType == boolean.class) {
+				setBoolean(array, index, (Boolean)value);
+			} else if (componentType == byte.class) {
+				setByte(array, index, (Byte)value);
+			} else {
+				setChar(array, index, (Character)value);
+			}
+		}
+
+		@Override
+		public void copy(Object source, int sourceIndex, Object destination, int destinationIndex, int length) {
+			Class<?> sourceComponentType = checkArray(source);
+			Class<?> destinationComponentType = checkArray(destination);
+			checkRange(source, sourceIndex, length);
+			checkRange(destination, destinationIndex, length);
+			if (sourceComponentType == destinationComponentType || !(sourceComponentType.isPrimitive() || destinationComponentType.isPrimitive())) {
+				copySameKind(source, sourceIndex, destination, destinationIndex, length);
+				return;
+			}
+			//Copy between primitive and wrapper arrays: elements are boxed or unboxed one by one
+			for (int i = 0; i < length; i++) {
+				set(destination, destinationIndex + i, get(source, sourceIndex + i));
+			}
+		}
+
+		protected void copySameKind(Object source, int sourceIndex, Object destination, int destinationIndex, int length) {
+			System.arraycopy(source, sourceIndex, destination, destinationIndex, length);
+		}
+
+		protected abstract Object getObject(Object array, int index);
+
+		protected abstract void setObject(Object array, int index, Object value);
+
+	}
+
+
+	public static class ForJava7 extends Abst {
+		protected sun.misc.Unsafe unsafe;
+		protected long objectArrayBaseOffset;
+		protected long objectArrayIndexScale;
+		protected long shortArrayBaseOffset;
+		protected long shortArrayIndexScale;
+		protected long intArrayBaseOffset;
+		protected long intArrayIndexScale;
+		protected long longArrayBaseOffset;
+		protected long longArrayIndexScale;
+		protected long floatArrayBaseOffset;
+		protected long floatArrayIndexScale;
+		protected long doubleArrayBaseOffset;
+		protected long doubleArrayIndexScale;
+		protected long booleanArrayBaseOffset;
+		protected long booleanArrayIndexScale;
+		protected long byteArrayBaseOffset;
+		protected long byteArrayIndexScale;
+		protected long charArrayBaseOffset;
+		protected long charArrayIndexScale;
+
+		public ForJava7(Map<Object, Object> context) {
+			unsafe = ObjectProvider.get(context).getOrBuildObject(UnsafeSupplier.class, context).get();
+			objectArrayBaseOffset = unsafe.arrayBaseOffset(Object[].class);
+			objectArrayIndexScale = unsafe.arrayIndexScale(Object[].class);
+			shortArrayBaseOffset = unsafe.arrayBaseOffset(short[].class);
+			shortArrayIndexScale = unsafe.arrayIndexScale(short[].class);
+			intArrayBaseOffset = unsafe.arrayBaseOffset(int[].class);
+			intArrayIndexScale = unsafe.arrayIndexScale(int[].class);
+			longArrayBaseOffset = unsafe.arrayBaseOffset(long[].class);
+			longArrayIndexScale = unsafe.arrayIndexScale(long[].class);
+			floatArrayBaseOffset = unsafe.arrayBaseOffset(float[].class);
+			floatArrayIndexScale = unsafe.arrayIndexScale(float[].class);
+			doubleArrayBaseOffset = unsafe.arrayBaseOffset(double[].class);
+			doubleArrayIndexScale = unsafe.arrayIndexScale(double[].class);
+			booleanArrayBaseOffset = unsafe.arrayBaseOffset(boolean[].class);
+			booleanArrayIndexScale = unsafe.arrayIndexScale(boolean[].class);
+			byteArrayBaseOffset = unsafe.arrayBaseOffset(byte[].class);
+			byteArrayIndexScale = unsafe.arrayIndexScale(byte[].class);
+			charArrayBaseOffset = unsafe.arrayBaseOffset(char[].class);
+			charArrayIndexScale = unsafe.arrayIndexScale(char[].class);
+		}
+
+		protected long offset(Object array, int index, long arrayBaseOffset, long arrayIndexScale) {
+			checkRange(array, index, 1);
+			return arrayBaseOffset + index * arrayIndexScale;
+		}
+
+		@Override
+		protected Object getObject(Object array, int index) {
+			return unsafe.getObject(array, offset(array, index, objectArrayBaseOffset, objectArrayIndexScale));
+		}
+
+		@Override
+		protected void setObject(Object array, int index, Object value) {
+			unsafe.putObject(array, offset(array, index, objectArrayBaseOffset, objectArrayIndexScale), value);
+		}
+
+		@Override
+		public short getShort(Object array, int index) {
+			checkArray(array, short.class);
+			return unsafe.getShort(array, offset(array, index, shortArrayBaseOffset, shortArrayIndexScale));
+		}
+
+		@Override
+		public void setShort(Object array, int index, short value) {
+			checkArray(array, short.class);
+			unsafe.putShort(array, offset(array, index, shortArrayBaseOffset, shortArrayIndexScale), value);
+		}
+
+		@Override
+		public int getInt(Object array, int index) {
+			checkArray(array, int.class);
+			return unsafe.getInt(array, offset(array, index, intArrayBaseOffset, intArrayIndexScale));
+		}
+
+		@Override
+		public void setInt(Object array, int index, int value) {
+			checkArray(array, int.class);
+			unsafe.putInt(array, offset(array, index, intArrayBaseOffset, intArrayIndexScale), value);
+		}
+
+		@Override
+		public long getLong(Object array, int index) {
+			checkArray(array, long.class);
+			return unsafe.getLong(array, offset(array, index, longArrayBaseOffset, longArrayIndexScale));
+		}
+
+		@Override
+		public void setLong(Object array, int index, long value) {
+			checkArray(array, long.class);
+			unsafe.putLong(array, offset(array, index, longArrayBaseOffset, longArrayIndexScale), value);
+		}
+
+		@Override
+		public float getFloat(Object array, int index) {
+			checkArray(array, float.class);
+			return unsafe.getFloat(array, offset(array, index, floatArrayBaseOffset, floatArrayIndexScale));
+		}
+
+		@Override
+		public void setFloat(Object array, int index, float value) {
+			checkArray(array, float.class);
+			unsafe.putFloat(array, offset(array, index, floatArrayBaseOffset, floatArrayIndexScale), value);
+		}
+
+		@Override
+		public double getDouble(Object array, int index) {
+			checkArray(array, double.class);
+			return unsafe.getDouble(array, offset(array, index, doubleArrayBaseOffset, doubleArrayIndexScale));
+		}
+
+		@Override
+		public void setDouble(Object array, int index, double value) {
+			checkArray(array, double.class);
+			unsafe.putDouble(array, offset(array, index, doubleArrayBaseOffset, doubleArrayIndexScale), value);
+		}
+
+		@Override
+		public boolean getBoolean(Object array, int index) {
+			checkArray(array, boolean.class);
+			return unsafe.getBoolean(array, offset(array, index, booleanArrayBaseOffset, booleanArrayIndexScale));
+		}
+
+		@Override
+		public void setBoolean(Object array, int index, boolean value) {
+			checkArray(array, boolean.class);
+			unsafe.putBoolean(array, offset(array, index, booleanArrayBaseOffset, booleanArrayIndexScale), value);
+		}
+
+		@Override
+		public byte getByte(Object array, int index) {
+			checkArray(array, byte.class);
+			return unsafe.getByte(array, offset(array, index, byteArrayBaseOffset, byteArrayIndexScale));
+		}
+
+		@Override
+		public void setByte(Object array, int index, byte value) {
+			checkArray(array, byte.class);
+			unsafe.putByte(array, offset(array, index, byteArrayBaseOffset, byteArrayIndexScale), value);
+		}
+
+		@Override
+		public char getChar(Object array, int index) {
+			checkArray(array, char.class);
+			return unsafe.getChar(array, offset(array, index, charArrayBaseOffset, charArrayIndexScale));
+		}
+
+		@Override
+		public void setChar(Object array, int index, char value) {
+			checkArray(array, char.class);
+			unsafe.putChar(array, offset(array, index, charArrayBaseOffset, charArrayIndexScale), value);
+		}
+
+		@Override
+		protected void copySameKind(Object source, int sourceIndex, Object destination, int destinationIndex, int length) {
+			Class<?> componentType = source.getClass().getComponentType();
+			//Reference arrays are copied with System.arraycopy in order to apply the store checks and the GC barriers
+			if (!componentType.isPrimitive()) {
+				super.copySameKind(source, sourceIndex, destination, destinationIndex, length);
+				return;
+			}
+			long indexScale = unsafe.arrayIndexScale(source.getClass());
+			long baseOffset = unsafe.arrayBaseOffset(source.getClass());
+			unsafe.copyMemory(
+				source, baseOffset + sourceIndex * indexScale,
+				destination, baseOffset + destinationIndex * indexScale,
+				length * indexScale
+			);
+		}
+
+		@Override
+		public ByteBuffer toByteBuffer(Object array, int index, int length) {
+			Class<?> componentType = checkArray(array);
+			if (!componentType.isPrimitive()) {
+				throw new IllegalArgumentException(Strings.compile("{} is not an array of primitives", array.getClass().getName()));
+			}
+			checkRange(array, index, length);
+			long indexScale = unsafe.arrayIndexScale(array.getClass());
+			byte[] bytes = new byte[(int)(length * indexScale)];
+			unsafe.copyMemory(
+				array, unsafe.arrayBaseOffset(array.getClass()) + index * indexScale,
+				bytes, byteArrayBaseOffset,
+				bytes.length
+			);
+			return ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder());
+		}
+
+	}
+
+
+	public static interface Native extends ArrayElementFunction {
+
+		//The native engine exposes no array primitives and array elements are not subject to access checks,
+		//so the elements are accessed with plain Java array instructions
+		public static class ForJava7 extends Abst implements Native {
+
+			public ForJava7(Map<Object, Object> context) throws InitializeException {
+				checkNativeEngine();
+			}
+
+			protected void checkNativeEngine() throws InitializeException {
+				if (!Narcissus.libraryLoaded) {
+					throw new InitializeException(
+						Strings.compile(
+							"Could not initialize the native engine {}",
+							io.github.toolfactory.narcissus.Narcissus.class.getName()
+						)
+					);
+				}
+			}
+
+			@Override
+			protected Object getObject(Object array, int index) {
+				return ((Object[])array)[index];
+			}
+
+			@Override
+			protected void setObject(Object array, int index, Object value) {
+				((Object[])array)[index] = value;
+			}
+
+			@Override
+			public short getShort(Object array, int index) {
+				checkArray(array, short.class);
+				return ((short[])array)[index];
+			}
+
+			@Override
+			public void setShort(Object array, int index, short value) {
+				checkArray(array, short.class);
+				((short[])array)[index] = value;
+			}
+
+			@Override
+			public int getInt(Object array, int index) {
+				checkArray(array, int.class);
+				return ((int[])array)[index];
+			}
+
+			@Override
+			public void setInt(Object array, int index, int value) {
+				checkArray(array, int.class);
+				((int[])array)[index] = value;
+			}
+
+			@Override
+			public long getLong(Object array, int index) {
+				checkArray(array, long.class);
+				return ((long[])array)[index];
+			}
+
+			@Override
+			public void setLong(Object array, int index, long value) {
+				checkArray(array, long.class);
+				((long[])array)[index] = value;
+			}
+
+			@Override
+			public float getFloat(Object array, int index) {
+				checkArray(array, float.class);
+				return ((float[])array)[index];
+			}
+
+			@Override
+			public void setFloat(Object array, int index, float value) {
+				checkArray(array, float.class);
+				((float[])array)[index] = value;
+			}
+
+			@Override
+			public double getDouble(Object array, int index) {
+				checkArray(array, double.class);
+				return ((double[])array)[index];
+			}
+
+			@Override
+			public void setDouble(Object array, int index, double value) {
+				checkArray(array, double.class);
+				((double[])array)[index] = value;
+			}
+
+			@Override
+			public boolean getBoolean(Object array, int index) {
+				checkArray(array, boolean.class);
+				return ((boolean[])array)[index];
+			}
+
+			@Override
+			public void setBoolean(Object array, int index, boolean value) {
+				checkArray(array, boolean.class);
+				((boolean[])array)[index] = value;
+			}
+
+			@Override
+			public byte getByte(Object array, int index) {
+				checkArray(array, byte.class);
+				return ((byte[])array)[index];
+			}
+
+			@Override
+			public void setByte(Object array, int index, byte value) {
+				checkArray(array, byte.class);
+				((byte[])array)[index] = value;
+			}
+
+			@Override
+			public char getChar(Object array, int index) {
+				checkArray(array, char.class);
+				return ((char[])array)[index];
+			}
+
+			@Override
+			public void setChar(Object array, int index, char value) {
+				checkArray(array, char.class);
+				((char[])array)[index] = value;
+			}
+
+			@Override
+			public ByteBuffer toByteBuffer(Object array, int index, int length) {
+				Class<?> componentType = checkArray(array);
+				checkRange(array, index, length);
+				if (componentType == byte.class) {
+					return ByteBuffer.wrap(java.util.Arrays.copyOfRange((byte[])array, index, index + length)).order(ByteOrder.nativeOrder());
+				} else if (componentType == short.class) {
+					ByteBuffer buffer = ByteBuffer.allocate(length * 2).order(ByteOrder.nativeOrder());
+					buffer.asShortBuffer().put((short[])array, index, length);
+					return buffer;
+				} else if (componentType == int.class) {
+					ByteBuffer buffer = ByteBuffer.allocate(length * 4).order(ByteOrder.nativeOrder());
+					buffer.asIntBuffer().put((int[])array, index, length);
+					return buffer;
+				} else if (componentType == long.class) {
+					ByteBuffer buffer = ByteBuffer.allocate(length * 8).order(ByteOrder.nativeOrder());
+					buffer.asLongBuffer().put((long[])array, index, length);
+					return buffer;
+				} else if (componentType == float.class) {
+					ByteBuffer buffer = ByteBuffer.allocate(length * 4).order(ByteOrder.nativeOrder());
+					buffer.asFloatBuffer().put((float[])array, index, length);
+					return buffer;
+				} else if (componentType == double.class) {
+					ByteBuffer buffer = ByteBuffer.allocate(length * 8).order(ByteOrder.nativeOrder());
+					buffer.asDoubleBuffer().put((double[])array, index, length);
+					return buffer;
+				} else if (componentType == char.class) {
+					ByteBuffer buffer = ByteBuffer.allocate(length * 2).order(ByteOrder.nativeOrder());
+					buffer.asCharBuffer().put((char[])array, index, length);
+					return buffer;
+				} else if (componentType == boolean.class) {
+					ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.nativeOrder());
+					for (int i = index; i < index + length; i++) {
+						buffer.put(i - index, ((boolean[])array)[i] ? (byte)1 : (byte)0);
+					}
+					return buffer;
+				}
+				throw new IllegalArgumentException(Strings.compile("{} is not an array of primitives", array.getClass().getName()));
+			}
+
+		}
+
+	}
+
+}
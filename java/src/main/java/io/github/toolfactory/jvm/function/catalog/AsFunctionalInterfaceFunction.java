@@ -0,0 +1,225 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.toolfactory.jvm.util.Classes;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+import io.github.toolfactory.jvm.util.Strings;
+
+
+@SuppressWarnings("all")
+public interface AsFunctionalInterfaceFunction {
+
+	public <F> F apply(Member member, Class<F> functionalInterface);
+
+
+	public static class ForJava7 implements AsFunctionalInterfaceFunction {
+		protected DeepConsulterSupplyFunction deepConsulterRetriever;
+		protected ThrowExceptionFunction throwExceptionFunction;
+		protected MethodHandle metafactory;
+		protected ClassValue<ConcurrentHashMap<Member, ConcurrentHashMap<Class<?>, Object>>> implementations;
+
+		public ForJava7(Map<Object, Object> context) {
+			ObjectProvider functionProvider = ObjectProvider.get(context);
+			deepConsulterRetriever = functionProvider.getOrBuildObject(DeepConsulterSupplyFunction.class, context);
+			throwExceptionFunction = functionProvider.getOrBuildObject(ThrowExceptionFunction.class, context);
+			implementations = new ClassValue<ConcurrentHashMap<Member, ConcurrentHashMap<Class<?>, Object>>>() {
+				@Override
+				protected ConcurrentHashMap<Member, ConcurrentHashMap<Class<?>, Object>> computeValue(Class<?> cls) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+			try {
+				metafactory = MethodHandles.publicLookup().findStatic(
+					Class.forName("java.lang.invoke.LambdaMetafactory"),
+					"metafactory",
+					MethodType.methodType(
+						CallSite.class, MethodHandles.Lookup.class, String.class, MethodType.class,
+						MethodType.class, MethodHandle.class, MethodType.class
+					)
+				);
+			} catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException exc) {
+				//Java 7: the implementations are built as proxies
+			}
+		}
+
+		//The implementations are stored by declaring class of the member so that they do not keep its class loader alive
+		@Override
+		public <F> F apply(Member member, Class<F> functionalInterface) {
+			ConcurrentHashMap<Member, ConcurrentHashMap<Class<?>, Object>> implementationsForClass =
+				implementations.get(member.getDeclaringClass());
+			ConcurrentHashMap<Class<?>, Object> implementationsForMember = implementationsForClass.get(member);
+			if (implementationsForMember == null) {
+				implementationsForMember = new ConcurrentHashMap<>();
+				ConcurrentHashMap<Class<?>, Object> oldImplementationsForMember =
+					implementationsForClass.putIfAbsent(member, implementationsForMember);
+				if (oldImplementationsForMember != null) {
+					implementationsForMember = oldImplementationsForMember;
+				}
+			}
+			Object implementation = implementationsForMember.get(functionalInterface);
+			if (implementation == null) {
+				try {
+					implementation = build(member, functionalInterface);
+				} catch (Throwable exc) {
+					return throwExceptionFunction.apply(exc);
+				}
+				Object oldImplementation = implementationsForMember.putIfAbsent(functionalInterface, implementation);
+				if (oldImplementation != null) {
+					implementation = oldImplementation;
+				}
+			}
+			return functionalInterface.cast(implementation);
+		}
+
+		protected Object build(Member member, Class<?> functionalInterface) throws Throwable {
+			Method interfaceMethod = retrieveInterfaceMethod(functionalInterface);
+			MethodHandles.Lookup consulter = deepConsulterRetriever.apply(member.getDeclaringClass());
+			MethodHandle implementation = member instanceof Method ?
+				consulter.unreflect((Method)member) :
+				consulter.unreflectConstructor((Constructor<?>)member);
+			MethodType interfaceMethodType = MethodType.methodType(interfaceMethod.getReturnType(), interfaceMethod.getParameterTypes());
+			MethodType implementationType = implementation.type();
+			if (interfaceMethodType.parameterCount() != implementationType.parameterCount()) {
+				throw new IllegalArgumentException(
+					Strings.compile(
+						"{} cannot implement {}: the number of parameters does not match",
+						member, interfaceMethod
+					)
+				);
+			}
+			if (metafactory != null) {
+				try {
+					return ((CallSite)metafactory.invokeWithArguments(
+						consulter,
+						interfaceMethod.getName(),
+						MethodType.methodType(functionalInterface),
+						interfaceMethodType,
+						implementation,
+						retrieveInstantiatedMethodType(interfaceMethodType, implementationType)
+					)).getTarget().invoke();
+				} catch (Throwable exc) {
+					//The functional interface is not visible from the class loader of the member declaring class
+					if (!(exc instanceof LinkageError || exc.getCause() instanceof LinkageError)) {
+						throw exc;
+					}
+				}
+			}
+			return buildProxy(functionalInterface, interfaceMethod, implementation.asFixedArity());
+		}
+
+		protected Object buildProxy(Class<?> functionalInterface, final Method interfaceMethod, MethodHandle implementation) {
+			final MethodHandle invoker = implementation.asType(implementation.type().generic())
+				.asSpreader(Object[].class, implementation.type().parameterCount());
+			return Proxy.newProxyInstance(
+				functionalInterface.getClassLoader(),
+				new Class<?>[] {functionalInterface},
+				new InvocationHandler() {
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+						if (method.getName().equals(interfaceMethod.getName()) &&
+							java.util.Arrays.equals(method.getParameterTypes(), interfaceMethod.getParameterTypes())
+						) {
+							return invoker.invoke(args);
+						} else if (method.getName().equals("equals") && method.getParameterTypes().length == 1) {
+							return proxy == args[0];
+						} else if (method.getName().equals("hashCode") && method.getParameterTypes().length == 0) {
+							return System.identityHashCode(proxy);
+						} else if (method.getName().equals("toString") && method.getParameterTypes().length == 0) {
+							return interfaceMethod.getDeclaringClass().getName() + " implementation for " + interfaceMethod;
+						}
+						throw new UnsupportedOperationException(method.toString());
+					}
+				}
+			);
+		}
+
+		//The instantiated types are the ones of the implementation, boxed where the interface method expects references
+		protected MethodType retrieveInstantiatedMethodType(MethodType interfaceMethodType, MethodType implementationType) {
+			Class<?>[] parameterTypes = new Class<?>[interfaceMethodType.parameterCount()];
+			for (int i = 0; i < parameterTypes.length; i++) {
+				parameterTypes[i] = retrieveInstantiatedType(interfaceMethodType.parameterType(i), implementationType.parameterType(i));
+			}
+			Class<?> returnType = interfaceMethodType.returnType() == void.class ?
+				void.class :
+				retrieveInstantiatedType(interfaceMethodType.returnType(), implementationType.returnType());
+			return MethodType.methodType(returnType, parameterTypes);
+		}
+
+		protected Class<?> retrieveInstantiatedType(Class<?> interfaceMethodType, Class<?> implementationType) {
+			if (interfaceMethodType.isPrimitive()) {
+				return interfaceMethodType;
+			}
+			return Classes.getClassOrWrapper(implementationType);
+		}
+
+		protected Method retrieveInterfaceMethod(Class<?> functionalInterface) {
+			if (!functionalInterface.isInterface()) {
+				throw new IllegalArgumentException(Strings.compile("{} is not an interface", functionalInterface.getName()));
+			}
+			Method interfaceMethod = null;
+			for (Method method : functionalInterface.getMethods()) {
+				if (!Modifier.isAbstract(method.getModifiers()) || isObjectMethod(method)) {
+					continue;
+				}
+				if (interfaceMethod != null) {
+					throw new IllegalArgumentException(Strings.compile("{} is not a functional interface", functionalInterface.getName()));
+				}
+				interfaceMethod = method;
+			}
+			if (interfaceMethod == null) {
+				throw new IllegalArgumentException(Strings.compile("{} is not a functional interface", functionalInterface.getName()));
+			}
+			return interfaceMethod;
+		}
+
+		protected boolean isObjectMethod(Method method) {
+			try {
+				Object.class.getMethod(method.getName(), method.getParameterTypes());
+				return true;
+			} catch (NoSuchMethodException exc) {
+				return false;
+			}
+		}
+
+	}
+
+}
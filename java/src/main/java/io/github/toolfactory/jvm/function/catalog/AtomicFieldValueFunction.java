@@ -0,0 +1,398 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import io.github.toolfactory.jvm.function.InitializeException;
+import io.github.toolfactory.jvm.util.Classes;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+import io.github.toolfactory.jvm.util.Strings;
+import io.github.toolfactory.narcissus.Narcissus;
+
+
+@SuppressWarnings("all")
+public interface AtomicFieldValueFunction {
+
+	public boolean compareAndSet(Object target, Field field, Object expected, Object value);
+
+	public boolean compareAndSetInt(Object target, Field field, int expected, int value);
+
+	public boolean compareAndSetLong(Object target, Field field, long expected, long value);
+
+	public Object getAndSet(Object target, Field field, Object value);
+
+	public int getAndSetInt(Object target, Field field, int value);
+
+	public long getAndSetLong(Object target, Field field, long value);
+
+	public int getAndAddInt(Object target, Field field, int delta);
+
+	public long getAndAddLong(Object target, Field field, long delta);
+
+	public abstract static class Abst implements AtomicFieldValueFunction {
+
+		protected void checkType(Field field, Class<?> type) {
+			if (field.getType() != type) {
+				throw new IllegalArgumentException(Strings.compile("Field {} is not of type {}", field.getName(), type.getName()));
+			}
+		}
+
+		protected void checkValue(Field field, Object value) {
+			Class<?> fieldType = field.getType();
+			if (fieldType.isPrimitive()) {
+				throw new IllegalArgumentException(Strings.compile("Field {} is of primitive type {}", field.getName(), fieldType.getName()));
+			}
+			if (value != null && !Classes.isAssignableFrom(fieldType, value.getClass())) {
+				throw new IllegalArgumentException(Strings.compile("Value {} is not assignable to {}", value , field.getName()));
+			}
+		}
+
+		protected Object checkTarget(Object target, Field field) {
+			if (Modifier.isStatic(field.getModifiers())) {
+				return field.getDeclaringClass();
+			}
+			if (target == null) {
+				throw new IllegalArgumentException("Target object is null");
+			}
+			Class<?> fieldDeclaringClass = field.getDeclaringClass();
+			Class<?> targetObjectClass = target.getClass();
+			if (!Classes.isAssignableFrom(fieldDeclaringClass, targetObjectClass)) {
+				throw new IllegalArgumentException("Target object class " + targetObjectClass + " is not assignable to " + fieldDeclaringClass);
+			}
+			return target;
+		}
+
+	}
+
+	public static class ForJava7 extends Abst {
+		protected sun.misc.Unsafe unsafe;
+
+		public ForJava7(Map<Object, Object> context) {
+			unsafe = ObjectProvider.get(context).getOrBuildObject(UnsafeSupplier.class, context).get();
+		}
+
+		protected long fieldOffset(Field field) {
+			return Modifier.isStatic(field.getModifiers())?
+				unsafe.staticFieldOffset(field) :
+				unsafe.objectFieldOffset(field);
+		}
+
+		@Override
+		public boolean compareAndSet(Object target, Field field, Object expected, Object value) {
+			checkValue(field, value);
+			return unsafe.compareAndSwapObject(checkTarget(target, field), fieldOffset(field), expected, value);
+		}
+
+		@Override
+		public boolean compareAndSetInt(Object target, Field field, int expected, int value) {
+			checkType(field, int.class);
+			return unsafe.compareAndSwapInt(checkTarget(target, field), fieldOffset(field), expected, value);
+		}
+
+		@Override
+		public boolean compareAndSetLong(Object target, Field field, long expected, long value) {
+			checkType(field, long.class);
+			return unsafe.compareAndSwapLong(checkTarget(target, field), fieldOffset(field), expected, value);
+		}
+
+		@Override
+		public Object getAndSet(Object target, Field field, Object value) {
+			checkValue(field, value);
+			target = checkTarget(target, field);
+			long fieldOffset = fieldOffset(field);
+			Object current;
+			do {
+				current = unsafe.getObjectVolatile(target, fieldOffset);
+			} while (!unsafe.compareAndSwapObject(target, fieldOffset, current, value));
+			return current;
+		}
+
+		@Override
+		public int getAndSetInt(Object target, Field field, int value) {
+			checkType(field, int.class);
+			target = checkTarget(target, field);
+			long fieldOffset = fieldOffset(field);
+			int current;
+			do {
+				current = unsafe.getIntVolatile(target, fieldOffset);
+			} while (!unsafe.compareAndSwapInt(target, fieldOffset, current, value));
+			return current;
+		}
+
+		@Override
+		public long getAndSetLong(Object target, Field field, long value) {
+			checkType(field, long.class);
+			target = checkTarget(target, field);
+			long fieldOffset = fieldOffset(field);
+			long current;
+			do {
+				current = unsafe.getLongVolatile(target, fieldOffset);
+			} while (!unsafe.compareAndSwapLong(target, fieldOffset, current, value));
+			return current;
+		}
+
+		@Override
+		public int getAndAddInt(Object target, Field field, int delta) {
+			checkType(field, int.class);
+			target = checkTarget(target, field);
+			long fieldOffset = fieldOffset(field);
+			int current;
+			do {
+				current = unsafe.getIntVolatile(target, fieldOffset);
+			} while (!unsafe.compareAndSwapInt(target, fieldOffset, current, current + delta));
+			return current;
+		}
+
+		@Override
+		public long getAndAddLong(Object target, Field field, long delta) {
+			checkType(field, long.class);
+			target = checkTarget(target, field);
+			long fieldOffset = fieldOffset(field);
+			long current;
+			do {
+				current = unsafe.getLongVolatile(target, fieldOffset);
+			} while (!unsafe.compareAndSwapLong(target, fieldOffset, current, current + delta));
+			return current;
+		}
+
+	}
+
+	public static class ForJava9 extends ForJava7 {
+
+		public ForJava9(Map<Object, Object> context) {
+			super(context);
+		}
+
+		@Override
+		public Object getAndSet(Object target, Field field, Object value) {
+			checkValue(field, value);
+			return unsafe.getAndSetObject(checkTarget(target, field), fieldOffset(field), value);
+		}
+
+		@Override
+		public int getAndSetInt(Object target, Field field, int value) {
+			checkType(field, int.class);
+			return unsafe.getAndSetInt(checkTarget(target, field), fieldOffset(field), value);
+		}
+
+		@Override
+		public long getAndSetLong(Object target, Field field, long value) {
+			checkType(field, long.class);
+			return unsafe.getAndSetLong(checkTarget(target, field), fieldOffset(field), value);
+		}
+
+		@Override
+		public int getAndAddInt(Object target, Field field, int delta) {
+			checkType(field, int.class);
+			return unsafe.getAndAddInt(checkTarget(target, field), fieldOffset(field), delta);
+		}
+
+		@Override
+		public long getAndAddLong(Object target, Field field, long delta) {
+			checkType(field, long.class);
+			return unsafe.getAndAddLong(checkTarget(target, field), fieldOffset(field), delta);
+		}
+
+	}
+
+	public static interface VarHandleBased extends AtomicFieldValueFunction {
+
+		public static class ForJava9 extends AtomicFieldValueFunction.ForJava9 implements VarHandleBased {
+			protected GetFieldVarHandleFunction varHandleRetriever;
+
+			public ForJava9(Map<Object, Object> context) {
+				super(context);
+				varHandleRetriever = ObjectProvider.get(context).getOrBuildObject(GetFieldVarHandleFunction.class, context);
+			}
+
+			//The VarHandles of final fields are read only
+			protected VarHandle getVarHandle(Field field) {
+				if (Modifier.isFinal(field.getModifiers())) {
+					return null;
+				}
+				return varHandleRetriever.apply(field);
+			}
+
+			@Override
+			public boolean compareAndSet(Object target, Field field, Object expected, Object value) {
+				checkValue(field, value);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					return super.compareAndSet(target, field, expected, value);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return varHandle.compareAndSet(expected, value);
+				}
+				return varHandle.compareAndSet(checkTarget(target, field), expected, value);
+			}
+
+			@Override
+			public boolean compareAndSetInt(Object target, Field field, int expected, int value) {
+				checkType(field, int.class);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					return super.compareAndSetInt(target, field, expected, value);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return varHandle.compareAndSet(expected, value);
+				}
+				return varHandle.compareAndSet(checkTarget(target, field), expected, value);
+			}
+
+			@Override
+			public boolean compareAndSetLong(Object target, Field field, long expected, long value) {
+				checkType(field, long.class);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					return super.compareAndSetLong(target, field, expected, value);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return varHandle.compareAndSet(expected, value);
+				}
+				return varHandle.compareAndSet(checkTarget(target, field), expected, value);
+			}
+
+			@Override
+			public Object getAndSet(Object target, Field field, Object value) {
+				checkValue(field, value);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					return super.getAndSet(target, field, value);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return (Object)varHandle.getAndSet(value);
+				}
+				return (Object)varHandle.getAndSet(checkTarget(target, field), value);
+			}
+
+			@Override
+			public int getAndSetInt(Object target, Field field, int value) {
+				checkType(field, int.class);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					return super.getAndSetInt(target, field, value);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return (int)varHandle.getAndSet(value);
+				}
+				return (int)varHandle.getAndSet(checkTarget(target, field), value);
+			}
+
+			@Override
+			public long getAndSetLong(Object target, Field field, long value) {
+				checkType(field, long.class);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					return super.getAndSetLong(target, field, value);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return (long)varHandle.getAndSet(value);
+				}
+				return (long)varHandle.getAndSet(checkTarget(target, field), value);
+			}
+
+			@Override
+			public int getAndAddInt(Object target, Field field, int delta) {
+				checkType(field, int.class);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					return super.getAndAddInt(target, field, delta);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return (int)varHandle.getAndAdd(delta);
+				}
+				return (int)varHandle.getAndAdd(checkTarget(target, field), delta);
+			}
+
+			@Override
+			public long getAndAddLong(Object target, Field field, long delta) {
+				checkType(field, long.class);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					return super.getAndAddLong(target, field, delta);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return (long)varHandle.getAndAdd(delta);
+				}
+				return (long)varHandle.getAndAdd(checkTarget(target, field), delta);
+			}
+
+		}
+
+	}
+
+	public static interface Native extends AtomicFieldValueFunction {
+
+		//The native engine exposes no atomic primitives, so before Java 9 the atomic operations are delegated to Unsafe
+		public static class ForJava7 extends AtomicFieldValueFunction.ForJava7 implements Native {
+
+			public ForJava7(Map<Object, Object> context) throws InitializeException {
+				super(context);
+				checkNativeEngine();
+			}
+
+			protected void checkNativeEngine() throws InitializeException {
+				if (!Narcissus.libraryLoaded) {
+					throw new InitializeException(
+						Strings.compile(
+							"Could not initialize the native engine {}",
+							io.github.toolfactory.narcissus.Narcissus.class.getName()
+						)
+					);
+				}
+			}
+
+		}
+
+		public static class ForJava9 extends VarHandleBased.ForJava9 implements Native {
+
+			public ForJava9(Map<Object, Object> context) throws InitializeException {
+				super(context);
+				checkNativeEngine();
+			}
+
+			protected void checkNativeEngine() throws InitializeException {
+				if (!Narcissus.libraryLoaded) {
+					throw new InitializeException(
+						Strings.compile(
+							"Could not initialize the native engine {}",
+							io.github.toolfactory.narcissus.Narcissus.class.getName()
+						)
+					);
+				}
+			}
+
+		}
+
+	}
+
+}
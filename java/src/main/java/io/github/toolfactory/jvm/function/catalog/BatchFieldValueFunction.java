@@ -0,0 +1,215 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import io.github.toolfactory.jvm.util.Classes;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+import io.github.toolfactory.jvm.util.Strings;
+
+
+@SuppressWarnings("all")
+public interface BatchFieldValueFunction {
+
+	public Object[] getValues(Object target, Field[] fields);
+
+	public void setValues(Object target, Field[] fields, Object[] values);
+
+	public Object[] getValues(Object[] targets, Field field);
+
+	public void setValues(Object[] targets, Field field, Object[] values);
+
+	public abstract static class Abst implements BatchFieldValueFunction {
+
+		protected void checkTarget(Object target, Field field) {
+			if (Modifier.isStatic(field.getModifiers())) {
+				return;
+			}
+			if (target == null) {
+				throw new IllegalArgumentException("Target cannot be null when the field is not static");
+			}
+			if (!field.getDeclaringClass().isInstance(target)) {
+				throw new IllegalArgumentException(
+					Strings.compile("Target object class {} is not assignable to {}", target.getClass(), field.getDeclaringClass())
+				);
+			}
+		}
+
+		protected void checkValue(Field field, Object value) {
+			Class<?> fieldType = field.getType();
+			if (value == null ? fieldType.isPrimitive() : !Classes.isAssignableFrom(fieldType, value.getClass())) {
+				throw new IllegalArgumentException(Strings.compile("Value {} is not assignable to {}", value , field.getName()));
+			}
+		}
+
+		protected void checkLength(Object[] items, Object[] values) {
+			if (items.length != values.length) {
+				throw new IllegalArgumentException(
+					Strings.compile("The number of values ({}) does not match the expected one ({})", values.length, items.length)
+				);
+			}
+		}
+
+		protected void checkTargetAndFields(Object target, Field[] fields) {
+			for (Field field : fields) {
+				checkTarget(target, field);
+			}
+		}
+
+		protected void checkTargetsAndField(Object[] targets, Field field) {
+			for (Object target : targets) {
+				checkTarget(target, field);
+			}
+		}
+
+		@Override
+		public Object[] getValues(Object target, Field[] fields) {
+			checkTargetAndFields(target, fields);
+			return getValuesUnchecked(target, fields);
+		}
+
+		@Override
+		public void setValues(Object target, Field[] fields, Object[] values) {
+			checkLength(fields, values);
+			checkTargetAndFields(target, fields);
+			for (int i = 0; i < fields.length; i++) {
+				checkValue(fields[i], values[i]);
+			}
+			setValuesUnchecked(target, fields, values);
+		}
+
+		@Override
+		public Object[] getValues(Object[] targets, Field field) {
+			checkTargetsAndField(targets, field);
+			return getValuesUnchecked(targets, field);
+		}
+
+		@Override
+		public void setValues(Object[] targets, Field field, Object[] values) {
+			checkLength(targets, values);
+			checkTargetsAndField(targets, field);
+			for (Object value : values) {
+				checkValue(field, value);
+			}
+			setValuesUnchecked(targets, field, values);
+		}
+
+		protected abstract Object[] getValuesUnchecked(Object target, Field[] fields);
+
+		protected abstract void setValuesUnchecked(Object target, Field[] fields, Object[] values);
+
+		protected abstract Object[] getValuesUnchecked(Object[] targets, Field field);
+
+		protected abstract void setValuesUnchecked(Object[] targets, Field field, Object[] values);
+
+	}
+
+
+	public static class ForJava7 extends Abst {
+		protected GetFieldValueFunction fieldValueRetriever;
+		protected SetFieldValueFunction fieldValueSetter;
+
+		public ForJava7(Map<Object, Object> context) {
+			ObjectProvider functionProvider = ObjectProvider.get(context);
+			fieldValueRetriever = functionProvider.getOrBuildObject(GetFieldValueFunction.class, context);
+			fieldValueSetter = functionProvider.getOrBuildObject(SetFieldValueFunction.class, context);
+		}
+
+		@Override
+		protected Object[] getValuesUnchecked(Object target, Field[] fields) {
+			Object[] values = new Object[fields.length];
+			for (int i = 0; i < fields.length; i++) {
+				values[i] = fieldValueRetriever.apply(target, fields[i]);
+			}
+			return values;
+		}
+
+		@Override
+		protected void setValuesUnchecked(Object target, Field[] fields, Object[] values) {
+			for (int i = 0; i < fields.length; i++) {
+				fieldValueSetter.accept(target, fields[i], values[i]);
+			}
+		}
+
+		@Override
+		protected Object[] getValuesUnchecked(Object[] targets, Field field) {
+			Object[] values = new Object[targets.length];
+			for (int i = 0; i < targets.length; i++) {
+				values[i] = fieldValueRetriever.apply(targets[i], field);
+			}
+			return values;
+		}
+
+		@Override
+		protected void setValuesUnchecked(Object[] targets, Field field, Object[] values) {
+			for (int i = 0; i < targets.length; i++) {
+				fieldValueSetter.accept(targets[i], field, values[i]);
+			}
+		}
+
+	}
+
+
+	public static interface Native extends BatchFieldValueFunction {
+
+		//Each batch is handed over to the native engine in a single call
+		public static class ForJava7 extends Abst implements Native {
+			protected NativeEngine nativeEngine;
+
+			public ForJava7(Map<Object, Object> context) {
+				nativeEngine = ObjectProvider.get(context).getOrBuildObject(NativeEngine.class, context);
+			}
+
+			@Override
+			protected Object[] getValuesUnchecked(Object target, Field[] fields) {
+				return nativeEngine.getFieldValues(target, fields);
+			}
+
+			@Override
+			protected void setValuesUnchecked(Object target, Field[] fields, Object[] values) {
+				nativeEngine.setFieldValues(target, fields, values);
+			}
+
+			@Override
+			protected Object[] getValuesUnchecked(Object[] targets, Field field) {
+				return nativeEngine.getFieldValues(targets, field);
+			}
+
+			@Override
+			protected void setValuesUnchecked(Object[] targets, Field field, Object[] values) {
+				nativeEngine.setFieldValues(targets, field, values);
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,435 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.toolfactory.jvm.function.template.ThrowingBiFunction;
+import io.github.toolfactory.jvm.function.template.TriConsumer;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+import io.github.toolfactory.jvm.util.PropertyPath;
+import io.github.toolfactory.jvm.util.Strings;
+
+
+@SuppressWarnings("all")
+public interface CompilePathFunction extends ThrowingBiFunction<Class<?>, String, PropertyPath, Throwable> {
+
+	public static class ForJava7 implements CompilePathFunction {
+		protected static final MethodType GENERIC_GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+		protected static final MethodType GENERIC_SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+		protected GetDeclaredFieldsFunction getDeclaredFieldsFunction;
+		protected DeepConsulterSupplyFunction deepConsulterRetriever;
+		protected SetFieldValueFunction setFieldValueFunction;
+		protected ThrowExceptionFunction throwExceptionFunction;
+		protected MethodHandle fieldValueSetter;
+		protected ClassValue<ConcurrentHashMap<String, PropertyPath>> paths;
+
+		public ForJava7(Map<Object, Object> context) throws Throwable {
+			ObjectProvider functionProvider = ObjectProvider.get(context);
+			getDeclaredFieldsFunction = functionProvider.getOrBuildObject(GetDeclaredFieldsFunction.class, context);
+			deepConsulterRetriever = functionProvider.getOrBuildObject(DeepConsulterSupplyFunction.class, context);
+			setFieldValueFunction = functionProvider.getOrBuildObject(SetFieldValueFunction.class, context);
+			throwExceptionFunction = functionProvider.getOrBuildObject(ThrowExceptionFunction.class, context);
+			fieldValueSetter = MethodHandles.publicLookup().findVirtual(
+				TriConsumer.class, "accept", MethodType.methodType(void.class, Object.class, Object.class, Object.class)
+			).bindTo(setFieldValueFunction);
+			paths = new ClassValue<ConcurrentHashMap<String, PropertyPath>>() {
+				@Override
+				protected ConcurrentHashMap<String, PropertyPath> computeValue(Class<?> cls) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+		}
+
+		//The paths are stored in a ClassValue of the root type so that they do not keep its class loader alive
+		@Override
+		public PropertyPath apply(Class<?> rootType, String path) throws Throwable {
+			ConcurrentHashMap<String, PropertyPath> pathsForRootType = paths.get(rootType);
+			PropertyPath propertyPath = pathsForRootType.get(path);
+			if (propertyPath == null) {
+				propertyPath = compile(rootType, path);
+				PropertyPath oldPropertyPath = pathsForRootType.putIfAbsent(path, propertyPath);
+				if (oldPropertyPath != null) {
+					propertyPath = oldPropertyPath;
+				}
+			}
+			return propertyPath;
+		}
+
+		//Every hop is resolved against the declared type of the previous one and the resulting handles are
+		//composed so that reading a path is a chain of field loads and array loads without reflective lookups
+		protected PropertyPath compile(Class<?> rootType, String path) throws Throwable {
+			MethodHandle getter = null;
+			MethodHandle parentGetter = null;
+			MethodHandle setter = null;
+			Class<?> currentType = rootType;
+			int position = 0;
+			int length = path.length();
+			while (position < length) {
+				MethodHandle hopGetter;
+				MethodHandle hopSetter;
+				char character = path.charAt(position);
+				if (character == '[') {
+					int end = path.indexOf(']', position);
+					if (end < 0 || !currentType.isArray()) {
+						throw new IllegalArgumentException(Strings.compile("Invalid index at position {} of path {} for type {}", position, path, currentType));
+					}
+					int index;
+					try {
+						index = Integer.parseInt(path.substring(position + 1, end).trim());
+					} catch (NumberFormatException exc) {
+						throw new IllegalArgumentException(Strings.compile("Invalid index at position {} of path {}", position, path), exc);
+					}
+					if (index < 0) {
+						throw new IllegalArgumentException(Strings.compile("Negative index at position {} of path {}", position, path));
+					}
+					hopGetter = MethodHandles.insertArguments(MethodHandles.arrayElementGetter(currentType), 1, index);
+					hopSetter = MethodHandles.insertArguments(MethodHandles.arrayElementSetter(currentType), 1, index);
+					position = end + 1;
+				} else {
+					if (character == '.') {
+						if (position == 0) {
+							throw new IllegalArgumentException(Strings.compile("Path {} cannot start with a dot", path));
+						}
+						position++;
+					} else if (position > 0) {
+						throw new IllegalArgumentException(Strings.compile("Invalid character at position {} of path {}", position, path));
+					}
+					int end = position;
+					while (end < length && path.charAt(end) != '.' && path.charAt(end) != '[') {
+						end++;
+					}
+					String fieldName = path.substring(position, end);
+					if (fieldName.isEmpty()) {
+						throw new IllegalArgumentException(Strings.compile("Empty field name at position {} of path {}", position, path));
+					}
+					Field field = findField(currentType, fieldName);
+					MethodHandles.Lookup consulter = deepConsulterRetriever.apply(field.getDeclaringClass());
+					hopGetter = consulter.unreflectGetter(field);
+					if (Modifier.isFinal(field.getModifiers())) {
+						hopSetter = MethodHandles.insertArguments(fieldValueSetter, 1, field).asType(
+							MethodType.methodType(void.class, Object.class, field.getType())
+						);
+					} else {
+						hopSetter = consulter.unreflectSetter(field);
+					}
+					if (Modifier.isStatic(field.getModifiers())) {
+						hopGetter = MethodHandles.dropArguments(hopGetter, 0, currentType);
+						if (hopSetter.type().parameterCount() == 1) {
+							hopSetter = MethodHandles.dropArguments(hopSetter, 0, currentType);
+						}
+					}
+					position = end;
+				}
+				hopGetter = hopGetter.asType(hopGetter.type().changeParameterType(0, currentType));
+				hopSetter = hopSetter.asType(hopSetter.type().changeParameterType(0, currentType));
+				parentGetter = getter;
+				if (getter == null) {
+					getter = hopGetter;
+					setter = hopSetter;
+				} else {
+					getter = MethodHandles.filterReturnValue(getter, hopGetter);
+					setter = MethodHandles.filterArguments(hopSetter, 0, parentGetter);
+				}
+				currentType = hopGetter.type().returnType();
+			}
+			if (getter == null) {
+				throw new IllegalArgumentException("Empty path");
+			}
+			getter = getter.asType(getter.type().changeParameterType(0, Object.class));
+			setter = setter.asType(setter.type().changeParameterType(0, Object.class));
+			return new Path(rootType, path, getter, setter);
+		}
+
+		protected Field findField(Class<?> cls, String name) throws Throwable {
+			for (Class<?> currentClass = cls; currentClass != null; currentClass = currentClass.getSuperclass()) {
+				for (Field field : getDeclaredFieldsFunction.apply(currentClass)) {
+					if (field.getName().equals(name)) {
+						return field;
+					}
+				}
+			}
+			throw new IllegalArgumentException(
+				Strings.compile("Field named {} not found in the hierarchy of {}", name, cls.getName())
+			);
+		}
+
+		protected MethodHandle adapt(MethodHandle methodHandle, MethodType type) {
+			try {
+				return methodHandle.asType(type);
+			} catch (WrongMethodTypeException exc) {
+				return null;
+			}
+		}
+
+
+		protected class Path implements PropertyPath {
+			protected final Class<?> rootType;
+			protected final String path;
+			protected final Class<?> type;
+			protected final MethodHandle getter;
+			protected final MethodHandle setter;
+			protected final MethodHandle shortGetter;
+			protected final MethodHandle shortSetter;
+			protected final MethodHandle intGetter;
+			protected final MethodHandle intSetter;
+			protected final MethodHandle longGetter;
+			protected final MethodHandle longSetter;
+			protected final MethodHandle floatGetter;
+			protected final MethodHandle floatSetter;
+			protected final MethodHandle doubleGetter;
+			protected final MethodHandle doubleSetter;
+			protected final MethodHandle booleanGetter;
+			protected final MethodHandle booleanSetter;
+			protected final MethodHandle byteGetter;
+			protected final MethodHandle byteSetter;
+			protected final MethodHandle charGetter;
+			protected final MethodHandle charSetter;
+
+			protected Path(Class<?> rootType, String path, MethodHandle getter, MethodHandle setter) {
+				this.rootType = rootType;
+				this.path = path;
+				this.type = getter.type().returnType();
+				this.getter = adapt(getter, GENERIC_GETTER_TYPE);
+				this.setter = adapt(setter, GENERIC_SETTER_TYPE);
+				this.shortGetter = adapt(getter, MethodType.methodType(short.class, Object.class));
+				this.shortSetter = adapt(setter, MethodType.methodType(void.class, Object.class, short.class));
+				this.intGetter = adapt(getter, MethodType.methodType(int.class, Object.class));
+				this.intSetter = adapt(setter, MethodType.methodType(void.class, Object.class, int.class));
+				this.longGetter = adapt(getter, MethodType.methodType(long.class, Object.class));
+				this.longSetter = adapt(setter, MethodType.methodType(void.class, Object.class, long.class));
+				this.floatGetter = adapt(getter, MethodType.methodType(float.class, Object.class));
+				this.floatSetter = adapt(setter, MethodType.methodType(void.class, Object.class, float.class));
+				this.doubleGetter = adapt(getter, MethodType.methodType(double.class, Object.class));
+				this.doubleSetter = adapt(setter, MethodType.methodType(void.class, Object.class, double.class));
+				this.booleanGetter = adapt(getter, MethodType.methodType(boolean.class, Object.class));
+				this.booleanSetter = adapt(setter, MethodType.methodType(void.class, Object.class, boolean.class));
+				this.byteGetter = adapt(getter, MethodType.methodType(byte.class, Object.class));
+				this.byteSetter = adapt(setter, MethodType.methodType(void.class, Object.class, byte.class));
+				this.charGetter = adapt(getter, MethodType.methodType(char.class, Object.class));
+				this.charSetter = adapt(setter, MethodType.methodType(void.class, Object.class, char.class));
+			}
+
+			@Override
+			public Class<?> getRootType() {
+				return rootType;
+			}
+
+			@Override
+			public String getPath() {
+				return path;
+			}
+
+			@Override
+			public Class<?> getType() {
+				return type;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T get(Object root) {
+				try {
+					return (T)(Object)getter.invokeExact(root);
+				} catch (Throwable exc) {
+					return throwExceptionFunction.apply(exc);
+				}
+			}
+
+			@Override
+			public void set(Object root, Object value) {
+				try {
+					setter.invokeExact(root, value);
+				} catch (Throwable exc) {
+					throwExceptionFunction.apply(exc);
+				}
+			}
+
+			@Override
+			public short getShort(Object root) {
+				try {
+					return (short)checkConversion(shortGetter, short.class).invokeExact(root);
+				} catch (Throwable exc) {
+					return throwExceptionFunction.<Short>apply(exc);
+				}
+			}
+
+			@Override
+			public int getInt(Object root) {
+				try {
+					return (int)checkConversion(intGetter, int.class).invokeExact(root);
+				} catch (Throwable exc) {
+					return throwExceptionFunction.<Integer>apply(exc);
+				}
+			}
+
+			@Override
+			public long getLong(Object root) {
+				try {
+					return (long)checkConversion(longGetter, long.class).invokeExact(root);
+				} catch (Throwable exc) {
+					return throwExceptionFunction.<Long>apply(exc);
+				}
+			}
+
+			@Override
+			public float getFloat(Object root) {
+				try {
+					return (float)checkConversion(floatGetter, float.class).invokeExact(root);
+				} catch (Throwable exc) {
+					return throwExceptionFunction.<Float>apply(exc);
+				}
+			}
+
+			@Override
+			public double getDouble(Object root) {
+				try {
+					return (double)checkConversion(doubleGetter, double.class).invokeExact(root);
+				} catch (Throwable exc) {
+					return throwExceptionFunction.<Double>apply(exc);
+				}
+			}
+
+			@Override
+			public boolean getBoolean(Object root) {
+				try {
+					return (boolean)checkConversion(booleanGetter, boolean.class).invokeExact(root);
+				} catch (Throwable exc) {
+					return throwExceptionFunction.<Boolean>apply(exc);
+				}
+			}
+
+			@Override
+			public byte getByte(Object root) {
+				try {
+					return (byte)checkConversion(byteGetter, byte.class).invokeExact(root);
+				} catch (Throwable exc) {
+					return throwExceptionFunction.<Byte>apply(exc);
+				}
+			}
+
+			@Override
+			public char getChar(Object root) {
+				try {
+					return (char)checkConversion(charGetter, char.class).invokeExact(root);
+				} catch (Throwable exc) {
+					return throwExceptionFunction.<Character>apply(exc);
+				}
+			}
+
+			@Override
+			public void setShort(Object root, short value) {
+				try {
+					checkConversion(shortSetter, short.class).invokeExact(root, value);
+				} catch (Throwable exc) {
+					throwExceptionFunction.apply(exc);
+				}
+			}
+
+			@Override
+			public void setInt(Object root, int value) {
+				try {
+					checkConversion(intSetter, int.class).invokeExact(root, value);
+				} catch (Throwable exc) {
+					throwExceptionFunction.apply(exc);
+				}
+			}
+
+			@Override
+			public void setLong(Object root, long value) {
+				try {
+					checkConversion(longSetter, long.class).invokeExact(root, value);
+				} catch (Throwable exc) {
+					throwExceptionFunction.apply(exc);
+				}
+			}
+
+			@Override
+			public void setFloat(Object root, float value) {
+				try {
+					checkConversion(floatSetter, float.class).invokeExact(root, value);
+				} catch (Throwable exc) {
+					throwExceptionFunction.apply(exc);
+				}
+			}
+
+			@Override
+			public void setDouble(Object root, double value) {
+				try {
+					checkConversion(doubleSetter, double.class).invokeExact(root, value);
+				} catch (Throwable exc) {
+					throwExceptionFunction.apply(exc);
+				}
+			}
+
+			@Override
+			public void setBoolean(Object root, boolean value) {
+				try {
+					checkConversion(booleanSetter, boolean.class).invokeExact(root, value);
+				} catch (Throwable exc) {
+					throwExceptionFunction.apply(exc);
+				}
+			}
+
+			@Override
+			public void setByte(Object root, byte value) {
+				try {
+					checkConversion(byteSetter, byte.class).invokeExact(root, value);
+				} catch (Throwable exc) {
+					throwExceptionFunction.apply(exc);
+				}
+			}
+
+			@Override
+			public void setChar(Object root, char value) {
+				try {
+					checkConversion(charSetter, char.class).invokeExact(root, value);
+				} catch (Throwable exc) {
+					throwExceptionFunction.apply(exc);
+				}
+			}
+
+			protected MethodHandle checkConversion(MethodHandle methodHandle, Class<?> type) {
+				if (methodHandle == null) {
+					throw new IllegalArgumentException(Strings.compile("Path {} of type {} is not convertible to {}", path, getType(), type));
+				}
+				return methodHandle;
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,207 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.github.toolfactory.jvm.function.template.BiFunction;
+import io.github.toolfactory.jvm.function.template.Predicate;
+import io.github.toolfactory.jvm.util.DeepSize;
+import io.github.toolfactory.jvm.util.ObjectLayout;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+
+
+@SuppressWarnings("all")
+public interface ComputeDeepSizeFunction extends BiFunction<Object, Predicate<Object>, DeepSize> {
+
+	public static class ForJava7 implements ComputeDeepSizeFunction {
+		protected GetLayoutFunction layoutRetriever;
+		protected GetDeclaredFieldsFunction declaredFieldsRetriever;
+		protected GetFieldValueFunction fieldValueRetriever;
+		protected ThrowExceptionFunction throwExceptionFunction;
+		protected ClassValue<Shape> shapes;
+
+		public ForJava7(Map<Object, Object> context) {
+			ObjectProvider functionProvider = ObjectProvider.get(context);
+			layoutRetriever = functionProvider.getOrBuildObject(GetLayoutFunction.class, context);
+			declaredFieldsRetriever = functionProvider.getOrBuildObject(GetDeclaredFieldsFunction.class, context);
+			fieldValueRetriever = functionProvider.getOrBuildObject(GetFieldValueFunction.class, context);
+			throwExceptionFunction = functionProvider.getOrBuildObject(ThrowExceptionFunction.class, context);
+			shapes = new ClassValue<Shape>() {
+				@Override
+				protected Shape computeValue(Class<?> cls) {
+					try {
+						return computeShape(cls);
+					} catch (Throwable exc) {
+						return throwExceptionFunction.apply(exc);
+					}
+				}
+			};
+		}
+
+		//The graph is visited without recursion: the objects for which the stop predicate returns true and the
+		//instances of Class, that are shared by the whole VM, are neither accounted for nor traversed
+		@Override
+		public DeepSize apply(Object root, Predicate<Object> stopPredicate) {
+			Map<Class<?>, long[]> countsAndSizes = new HashMap<>();
+			if (root == null) {
+				return new DeepSize(root, countsAndSizes);
+			}
+			Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+			Deque<Object> toBeVisited = new ArrayDeque<>();
+			visited.add(root);
+			toBeVisited.push(root);
+			while (!toBeVisited.isEmpty()) {
+				Object object = toBeVisited.pop();
+				Class<?> cls = object.getClass();
+				Shape shape = shapes.get(cls);
+				long[] countAndSize = countsAndSizes.get(cls);
+				if (countAndSize == null) {
+					countsAndSizes.put(cls, countAndSize = new long[2]);
+				}
+				++countAndSize[0];
+				if (shape.arrayLayout != null) {
+					int length = Array.getLength(object);
+					countAndSize[1] += shape.arrayLayout.getArraySize(length);
+					if (shape.referenceArray) {
+						Object[] elements = (Object[])object;
+						for (int i = 0; i < length; i++) {
+							push(elements[i], visited, toBeVisited, stopPredicate);
+						}
+					}
+				} else {
+					countAndSize[1] += shape.size;
+					for (Field field : shape.referenceFields) {
+						Object value;
+						try {
+							value = fieldValueRetriever.apply(object, field);
+						} catch (Exception | LinkageError exc) {
+							//The value of a field that can't be read is not traversed
+							continue;
+						} catch (Throwable exc) {
+							return throwExceptionFunction.apply(exc);
+						}
+						push(value, visited, toBeVisited, stopPredicate);
+					}
+				}
+			}
+			return new DeepSize(root, countsAndSizes);
+		}
+
+		protected void push(Object object, Set<Object> visited, Deque<Object> toBeVisited, Predicate<Object> stopPredicate) {
+			if (object != null && !(object instanceof Class) && (stopPredicate == null || !stopPredicate.test(object)) && visited.add(object)) {
+				toBeVisited.push(object);
+			}
+		}
+
+		protected Shape computeShape(Class<?> cls) throws Throwable {
+			if (cls.isArray()) {
+				return new Shape(layoutRetriever.apply(cls), !cls.getComponentType().isPrimitive(), 0, new Field[0]);
+			}
+			List<Field> referenceFields = new ArrayList<>();
+			long fieldsSize = 0;
+			for (Class<?> currentClass = cls; currentClass != null; currentClass = currentClass.getSuperclass()) {
+				for (Field field : declaredFieldsRetriever.apply(currentClass)) {
+					if (!Modifier.isStatic(field.getModifiers())) {
+						if (!field.getType().isPrimitive()) {
+							referenceFields.add(field);
+						}
+					}
+				}
+			}
+			long size;
+			try {
+				size = layoutRetriever.apply(cls).getInstanceSize();
+			} catch (Exception | LinkageError exc) {
+				//The layout retriever also reads the offsets of the fields of records and hidden classes through the
+				//internal Unsafe: the size is estimated by packing the fields right after the header only when the
+				//offsets can't be read at all, e.g. when the internal Unsafe is not reachable or when the memory
+				//access methods of sun.misc.Unsafe are denied
+				size = estimateSize(cls);
+			}
+			return new Shape(null, false, size, referenceFields.toArray(new Field[referenceFields.size()]));
+		}
+
+		protected long estimateSize(Class<?> cls) throws Throwable {
+			ObjectLayout objectLayout = layoutRetriever.apply(Object.class);
+			int referenceSize = layoutRetriever.apply(Object[].class).getElementSize();
+			long size = objectLayout.getHeaderSize();
+			for (Class<?> currentClass = cls; currentClass != null; currentClass = currentClass.getSuperclass()) {
+				for (Field field : declaredFieldsRetriever.apply(currentClass)) {
+					if (!Modifier.isStatic(field.getModifiers())) {
+						size += getSize(field.getType(), referenceSize);
+					}
+				}
+			}
+			int alignment = objectLayout.getAlignment();
+			return (size + alignment - 1) / alignment * alignment;
+		}
+
+		protected int getSize(Class<?> type, int referenceSize) {
+			if (!type.isPrimitive()) {
+				return referenceSize;
+			} else if (type == long.class || type == double.class) {
+				return 8;
+			} else if (type == int.class || type == float.class) {
+				return 4;
+			} else if (type == short.class || type == char.class) {
+				return 2;
+			}
+			return 1;
+		}
+
+
+		protected static class Shape {
+			protected final ObjectLayout arrayLayout;
+			protected final boolean referenceArray;
+			protected final long size;
+			protected final Field[] referenceFields;
+
+			protected Shape(ObjectLayout arrayLayout, boolean referenceArray, long size, Field[] referenceFields) {
+				this.arrayLayout = arrayLayout;
+				this.referenceArray = referenceArray;
+				this.size = size;
+				this.referenceFields = referenceFields;
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,255 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.toolfactory.jvm.util.ObjectProvider;
+import io.github.toolfactory.jvm.util.Strings;
+
+
+@SuppressWarnings("all")
+public interface FixedArityInvokeFunction {
+
+	public Object invoke(Object target, Method method);
+
+	public Object invoke(Object target, Method method, Object arg0);
+
+	public Object invoke(Object target, Method method, Object arg0, Object arg1);
+
+	public Object invoke(Object target, Method method, Object arg0, Object arg1, Object arg2);
+
+	public Object invoke(Object target, Method method, Object arg0, Object arg1, Object arg2, Object arg3);
+
+	public Object invoke(Object target, Method method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4);
+
+	public Object invoke(Object target, Method method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5);
+
+	public Object newInstance(Constructor<?> ctor);
+
+	public Object newInstance(Constructor<?> ctor, Object arg0);
+
+	public Object newInstance(Constructor<?> ctor, Object arg0, Object arg1);
+
+	public Object newInstance(Constructor<?> ctor, Object arg0, Object arg1, Object arg2);
+
+	public Object newInstance(Constructor<?> ctor, Object arg0, Object arg1, Object arg2, Object arg3);
+
+	public Object newInstance(Constructor<?> ctor, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4);
+
+	public Object newInstance(Constructor<?> ctor, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5);
+
+
+	public static class ForJava7 implements FixedArityInvokeFunction {
+		protected DeepConsulterSupplyFunction deepConsulterRetriever;
+		protected ThrowExceptionFunction throwExceptionFunction;
+		protected ClassValue<ConcurrentHashMap<Member, MethodHandle>> methodHandles;
+
+		public ForJava7(Map<Object, Object> context) {
+			ObjectProvider functionProvider = ObjectProvider.get(context);
+			deepConsulterRetriever = functionProvider.getOrBuildObject(DeepConsulterSupplyFunction.class, context);
+			throwExceptionFunction = functionProvider.getOrBuildObject(ThrowExceptionFunction.class, context);
+			methodHandles = new ClassValue<ConcurrentHashMap<Member, MethodHandle>>() {
+				@Override
+				protected ConcurrentHashMap<Member, MethodHandle> computeValue(Class<?> cls) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+		}
+
+		@Override
+		public Object invoke(Object target, Method method) {
+			try {
+				return (Object)retrieveMethodHandle(method, 0).invokeExact(target);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		@Override
+		public Object invoke(Object target, Method method, Object arg0) {
+			try {
+				return (Object)retrieveMethodHandle(method, 1).invokeExact(target, arg0);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		@Override
+		public Object invoke(Object target, Method method, Object arg0, Object arg1) {
+			try {
+				return (Object)retrieveMethodHandle(method, 2).invokeExact(target, arg0, arg1);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		@Override
+		public Object invoke(Object target, Method method, Object arg0, Object arg1, Object arg2) {
+			try {
+				return (Object)retrieveMethodHandle(method, 3).invokeExact(target, arg0, arg1, arg2);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		@Override
+		public Object invoke(Object target, Method method, Object arg0, Object arg1, Object arg2, Object arg3) {
+			try {
+				return (Object)retrieveMethodHandle(method, 4).invokeExact(target, arg0, arg1, arg2, arg3);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		@Override
+		public Object invoke(Object target, Method method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) {
+			try {
+				return (Object)retrieveMethodHandle(method, 5).invokeExact(target, arg0, arg1, arg2, arg3, arg4);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		@Override
+		public Object invoke(Object target, Method method, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) {
+			try {
+				return (Object)retrieveMethodHandle(method, 6).invokeExact(target, arg0, arg1, arg2, arg3, arg4, arg5);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		@Override
+		public Object newInstance(Constructor<?> ctor) {
+			try {
+				return (Object)retrieveMethodHandle(ctor, 0).invokeExact();
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		@Override
+		public Object newInstance(Constructor<?> ctor, Object arg0) {
+			try {
+				return (Object)retrieveMethodHandle(ctor, 1).invokeExact(arg0);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		@Override
+		public Object newInstance(Constructor<?> ctor, Object arg0, Object arg1) {
+			try {
+				return (Object)retrieveMethodHandle(ctor, 2).invokeExact(arg0, arg1);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		@Override
+		public Object newInstance(Constructor<?> ctor, Object arg0, Object arg1, Object arg2) {
+			try {
+				return (Object)retrieveMethodHandle(ctor, 3).invokeExact(arg0, arg1, arg2);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		@Override
+		public Object newInstance(Constructor<?> ctor, Object arg0, Object arg1, Object arg2, Object arg3) {
+			try {
+				return (Object)retrieveMethodHandle(ctor, 4).invokeExact(arg0, arg1, arg2, arg3);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		@Override
+		public Object newInstance(Constructor<?> ctor, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) {
+			try {
+				return (Object)retrieveMethodHandle(ctor, 5).invokeExact(arg0, arg1, arg2, arg3, arg4);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		@Override
+		public Object newInstance(Constructor<?> ctor, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) {
+			try {
+				return (Object)retrieveMethodHandle(ctor, 6).invokeExact(arg0, arg1, arg2, arg3, arg4, arg5);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		//The method handles are stored by declaring class so that they do not keep its class loader alive
+		protected MethodHandle retrieveMethodHandle(Member member, int parameterCount) throws Throwable {
+			ConcurrentHashMap<Member, MethodHandle> methodHandlesForClass = methodHandles.get(member.getDeclaringClass());
+			MethodHandle methodHandle = methodHandlesForClass.get(member);
+			if (methodHandle == null) {
+				methodHandle = buildMethodHandle(member);
+				MethodHandle oldMethodHandle = methodHandlesForClass.putIfAbsent(member, methodHandle);
+				if (oldMethodHandle != null) {
+					methodHandle = oldMethodHandle;
+				}
+			}
+			int expectedParameterCount = methodHandle.type().parameterCount() - (member instanceof Method ? 1 : 0);
+			if (expectedParameterCount != parameterCount) {
+				throw new IllegalArgumentException(
+					Strings.compile("Wrong number of arguments for {}: expected {}, found {}", member, expectedParameterCount, parameterCount)
+				);
+			}
+			return methodHandle;
+		}
+
+		//Methods are adapted to the (Object, Object...)Object type and constructors to the (Object...)Object type
+		protected MethodHandle buildMethodHandle(Member member) throws Throwable {
+			MethodHandles.Lookup consulter = deepConsulterRetriever.apply(member.getDeclaringClass());
+			MethodHandle methodHandle;
+			if (member instanceof Method) {
+				methodHandle = consulter.unreflect((Method)member).asFixedArity();
+				if (Modifier.isStatic(member.getModifiers())) {
+					methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+				}
+			} else {
+				methodHandle = consulter.unreflectConstructor((Constructor<?>)member).asFixedArity();
+			}
+			return methodHandle.asType(methodHandle.type().generic());
+		}
+
+	}
+
+}
@@ -0,0 +1,284 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.toolfactory.jvm.function.template.Function;
+import io.github.toolfactory.jvm.util.ClassMembers;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+import io.github.toolfactory.jvm.util.Strings;
+
+
+@SuppressWarnings("all")
+public interface GetClassMembersFunction extends Function<Class<?>, ClassMembers> {
+
+	//The members are stored in a ClassValue so that the cache cannot prevent the class loaders from being collected
+	public static class ForJava7 implements GetClassMembersFunction {
+		protected GetDeclaredFieldsFunction declaredFieldsRetriever;
+		protected GetDeclaredMethodsFunction declaredMethodsRetriever;
+		protected GetDeclaredConstructorsFunction declaredConstructorsRetriever;
+		protected ThrowExceptionFunction throwExceptionFunction;
+		protected ClassValue<ClassMembers> classMembers;
+
+		public ForJava7(Map<Object, Object> context) {
+			ObjectProvider functionProvider = ObjectProvider.get(context);
+			declaredFieldsRetriever = functionProvider.getOrBuildObject(GetDeclaredFieldsFunction.class, context);
+			declaredMethodsRetriever = functionProvider.getOrBuildObject(GetDeclaredMethodsFunction.class, context);
+			declaredConstructorsRetriever = functionProvider.getOrBuildObject(GetDeclaredConstructorsFunction.class, context);
+			throwExceptionFunction = functionProvider.getOrBuildObject(ThrowExceptionFunction.class, context);
+			classMembers = new ClassValue<ClassMembers>() {
+				@Override
+				protected ClassMembers computeValue(Class<?> cls) {
+					try {
+						return new Members(
+							cls,
+							declaredFieldsRetriever.apply(cls),
+							declaredMethodsRetriever.apply(cls),
+							declaredConstructorsRetriever.apply(cls)
+						);
+					} catch (Throwable exc) {
+						return throwExceptionFunction.apply(exc);
+					}
+				}
+			};
+		}
+
+		@Override
+		public ClassMembers apply(Class<?> cls) {
+			return classMembers.get(cls);
+		}
+
+
+		protected static class Members implements ClassMembers {
+			protected final Class<?> type;
+			protected final List<Field> fields;
+			protected final List<Method> methods;
+			protected final List<Constructor<?>> constructors;
+			protected final Map<String, Field> fieldsByName;
+			protected final Map<String, List<Method>> methodsByName;
+			protected final Map<Member, List<Class<?>>> parameterTypes;
+			protected final Index<Field> fieldIndex;
+			protected final Index<Method> methodIndex;
+			protected final Index<Constructor<?>> constructorIndex;
+
+			protected Members(Class<?> type, Field[] fields, Method[] methods, Constructor<?>[] constructors) {
+				this.type = type;
+				this.fields = Collections.unmodifiableList(Arrays.asList(fields));
+				this.methods = Collections.unmodifiableList(Arrays.asList(methods));
+				this.constructors = Collections.unmodifiableList(Arrays.<Constructor<?>>asList(constructors));
+				Map<String, Field> fieldsByName = new LinkedHashMap<>();
+				for (Field field : fields) {
+					fieldsByName.put(field.getName(), field);
+				}
+				this.fieldsByName = Collections.unmodifiableMap(fieldsByName);
+				Map<String, List<Method>> methodsByName = new LinkedHashMap<>();
+				Map<Member, List<Class<?>>> parameterTypes = new HashMap<>();
+				for (Method method : methods) {
+					List<Method> methodsForName = methodsByName.get(method.getName());
+					if (methodsForName == null) {
+						methodsByName.put(method.getName(), methodsForName = new ArrayList<>(1));
+					}
+					methodsForName.add(method);
+					parameterTypes.put(method, Collections.unmodifiableList(Arrays.<Class<?>>asList(method.getParameterTypes())));
+				}
+				for (Map.Entry<String, List<Method>> methodsForName : methodsByName.entrySet()) {
+					methodsForName.setValue(Collections.unmodifiableList(methodsForName.getValue()));
+				}
+				this.methodsByName = Collections.unmodifiableMap(methodsByName);
+				for (Constructor<?> constructor : constructors) {
+					parameterTypes.put(constructor, Collections.unmodifiableList(Arrays.<Class<?>>asList(constructor.getParameterTypes())));
+				}
+				this.parameterTypes = parameterTypes;
+				this.fieldIndex = new Index<>(fields.length);
+				for (Field field : fields) {
+					fieldIndex.put(field, field.getName(), null);
+				}
+				this.methodIndex = new Index<>(methods.length);
+				for (Method method : methods) {
+					methodIndex.put(method, method.getName(), method.getParameterTypes());
+				}
+				this.constructorIndex = new Index<>(constructors.length);
+				for (Constructor<?> constructor : constructors) {
+					constructorIndex.put(constructor, null, constructor.getParameterTypes());
+				}
+			}
+
+			@Override
+			public Class<?> getType() {
+				return type;
+			}
+
+			@Override
+			public List<Field> getFields() {
+				return fields;
+			}
+
+			@Override
+			public List<Method> getMethods() {
+				return methods;
+			}
+
+			@Override
+			public List<Constructor<?>> getConstructors() {
+				return constructors;
+			}
+
+			@Override
+			public Map<String, Field> getFieldsByName() {
+				return fieldsByName;
+			}
+
+			@Override
+			public Map<String, List<Method>> getMethodsByName() {
+				return methodsByName;
+			}
+
+			@Override
+			public List<Class<?>> getParameterTypes(Member executable) {
+				List<Class<?>> parameterTypesOfExecutable = parameterTypes.get(executable);
+				if (parameterTypesOfExecutable == null) {
+					throw new IllegalArgumentException(Strings.compile("{} is not a method or a constructor declared by {}", executable, type));
+				}
+				return parameterTypesOfExecutable;
+			}
+
+			@Override
+			public Field getField(String name) {
+				return fieldIndex.get(name, null);
+			}
+
+			@Override
+			public Method getMethod(String name, Class<?>... parameterTypes) {
+				return methodIndex.get(name, parameterTypes);
+			}
+
+			@Override
+			public Constructor<?> getConstructor(Class<?>... parameterTypes) {
+				return constructorIndex.get(null, parameterTypes);
+			}
+
+			@Override
+			public String toString() {
+				return "Members of " + type;
+			}
+
+		}
+
+
+		//Open addressing hash table keyed by name and parameter types: the lookups neither allocate keys
+		//nor clone the parameter types of the candidates
+		protected static class Index<M extends Member> {
+			protected final Object[] members;
+			protected final String[] names;
+			protected final Class<?>[][] parameterTypes;
+			protected final int[] hashes;
+			protected final int mask;
+
+			protected Index(int size) {
+				int capacity = 2;
+				while (capacity < size * 2) {
+					capacity <<= 1;
+				}
+				members = new Object[capacity];
+				names = new String[capacity];
+				parameterTypes = new Class<?>[capacity][];
+				hashes = new int[capacity];
+				mask = capacity - 1;
+			}
+
+			protected void put(M member, String name, Class<?>[] memberParameterTypes) {
+				int hash = hash(name, memberParameterTypes);
+				int slot = hash & mask;
+				while (members[slot] != null) {
+					//The first declared member wins as in the linear scans
+					if (hashes[slot] == hash && matches(slot, name, memberParameterTypes)) {
+						return;
+					}
+					slot = (slot + 1) & mask;
+				}
+				members[slot] = member;
+				names[slot] = name;
+				parameterTypes[slot] = memberParameterTypes;
+				hashes[slot] = hash;
+			}
+
+			@SuppressWarnings("unchecked")
+			protected M get(String name, Class<?>[] memberParameterTypes) {
+				int hash = hash(name, memberParameterTypes);
+				for (int slot = hash & mask; members[slot] != null; slot = (slot + 1) & mask) {
+					if (hashes[slot] == hash && matches(slot, name, memberParameterTypes)) {
+						return (M)members[slot];
+					}
+				}
+				return null;
+			}
+
+			protected boolean matches(int slot, String name, Class<?>[] memberParameterTypes) {
+				if (name != null && !name.equals(names[slot])) {
+					return false;
+				}
+				Class<?>[] slotParameterTypes = parameterTypes[slot];
+				int length = memberParameterTypes != null ? memberParameterTypes.length : 0;
+				int slotLength = slotParameterTypes != null ? slotParameterTypes.length : 0;
+				if (length != slotLength) {
+					return false;
+				}
+				for (int i = 0; i < length; i++) {
+					if (memberParameterTypes[i] != slotParameterTypes[i]) {
+						return false;
+					}
+				}
+				return true;
+			}
+
+			protected int hash(String name, Class<?>[] memberParameterTypes) {
+				int hash = name != null ? name.hashCode() : 0;
+				if (memberParameterTypes != null) {
+					for (Class<?> parameterType : memberParameterTypes) {
+						hash = 31 * hash + (parameterType != null ? parameterType.hashCode() : 0);
+					}
+				}
+				return hash ^ (hash >>> 16);
+			}
+
+		}
+
+	}
+
+}
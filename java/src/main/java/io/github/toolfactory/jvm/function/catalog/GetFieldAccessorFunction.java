@@ -0,0 +1,1108 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import io.github.toolfactory.jvm.function.InitializeException;
+import io.github.toolfactory.jvm.function.template.Function;
+import io.github.toolfactory.jvm.util.FieldAccessor;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+import io.github.toolfactory.jvm.util.Strings;
+import io.github.toolfactory.narcissus.Narcissus;
+
+
+@SuppressWarnings("all")
+public interface GetFieldAccessorFunction extends Function<Field, FieldAccessor> {
+
+
+	public static class ForJava7 implements GetFieldAccessorFunction {
+		protected sun.misc.Unsafe unsafe;
+
+		public ForJava7(Map<Object, Object> context) {
+			unsafe = ObjectProvider.get(context).getOrBuildObject(UnsafeSupplier.class, context).get();
+		}
+
+		@Override
+		public FieldAccessor apply(Field field) {
+			if (Modifier.isStatic(field.getModifiers())) {
+				return buildAccessor(field, unsafe.staticFieldBase(field), unsafe.staticFieldOffset(field));
+			}
+			return buildAccessor(field, null, unsafe.objectFieldOffset(field));
+		}
+
+		protected FieldAccessor buildAccessor(Field field, Object staticFieldBase, long fieldOffset) {
+			Class<?> cls = field.getType();
+			if(!cls.isPrimitive()) {
+				return new ObjectAccessor(unsafe, field, staticFieldBase, fieldOffset);
+			} else if (cls == short.class) {
+				return new ShortAccessor(unsafe, field, staticFieldBase, fieldOffset);
+			} else if (cls == int.class) {
+				return new IntAccessor(unsafe, field, staticFieldBase, fieldOffset);
+			} else if (cls == long.class) {
+				return new LongAccessor(unsafe, field, staticFieldBase, fieldOffset);
+			} else if (cls == float.class) {
+				return new FloatAccessor(unsafe, field, staticFieldBase, fieldOffset);
+			} else if (cls == double.class) {
+				return new DoubleAccessor(unsafe, field, staticFieldBase, fieldOffset);
+			} else if (cls == boolean.class) {
+				return new BooleanAccessor(unsafe, field, staticFieldBase, fieldOffset);
+			} else if (cls == byte.class) {
+				return new ByteAccessor(unsafe, field, staticFieldBase, fieldOffset);
+			} else {
+				return new CharAccessor(unsafe, field, staticFieldBase, fieldOffset);
+			}
+		}
+
+		public abstract static class Accessor extends FieldAccessor.Abst {
+			protected final sun.misc.Unsafe unsafe;
+			protected final Object staticFieldBase;
+			protected final long fieldOffset;
+			protected final boolean isVolatile;
+
+			public Accessor(sun.misc.Unsafe unsafe, Field field, Object staticFieldBase, long fieldOffset) {
+				super(field);
+				this.unsafe = unsafe;
+				this.staticFieldBase = staticFieldBase;
+				this.fieldOffset = fieldOffset;
+				this.isVolatile = Modifier.isVolatile(field.getModifiers());
+			}
+
+			protected Object base(Object target) {
+				return isStatic ? staticFieldBase : checkTarget(target);
+			}
+
+		}
+
+		public static class ObjectAccessor extends Accessor {
+
+			public ObjectAccessor(sun.misc.Unsafe unsafe, Field field, Object staticFieldBase, long fieldOffset) {
+				super(unsafe, field, staticFieldBase, fieldOffset);
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T get(Object target) {
+				if (!isVolatile) {
+					return (T)unsafe.getObject(base(target), fieldOffset);
+				}
+				return (T)unsafe.getObjectVolatile(base(target), fieldOffset);
+			}
+
+			@Override
+			public void set(Object target, Object value) {
+				if (!isVolatile) {
+					unsafe.putObject(base(target), fieldOffset, checkValue(value));
+				} else {
+					unsafe.putObjectVolatile(base(target), fieldOffset, checkValue(value));
+				}
+			}
+
+		}
+
+		public static class ShortAccessor extends Accessor {
+
+			public ShortAccessor(sun.misc.Unsafe unsafe, Field field, Object staticFieldBase, long fieldOffset) {
+				super(unsafe, field, staticFieldBase, fieldOffset);
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T get(Object target) {
+				return (T)Short.valueOf(getShort(target));
+			}
+
+			@Override
+			public void set(Object target, Object value) {
+				setShort(target, ((Short)checkValue(value)).shortValue());
+			}
+
+			@Override
+			public short getShort(Object target) {
+				if (!isVolatile) {
+					return unsafe.getShort(base(target), fieldOffset);
+				}
+				return unsafe.getShortVolatile(base(target), fieldOffset);
+			}
+
+			@Override
+			public void setShort(Object target, short value) {
+				if (!isVolatile) {
+					unsafe.putShort(base(target), fieldOffset, value);
+				} else {
+					unsafe.putShortVolatile(base(target), fieldOffset, value);
+				}
+			}
+
+		}
+
+		public static class IntAccessor extends Accessor {
+
+			public IntAccessor(sun.misc.Unsafe unsafe, Field field, Object staticFieldBase, long fieldOffset) {
+				super(unsafe, field, staticFieldBase, fieldOffset);
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T get(Object target) {
+				return (T)Integer.valueOf(getInt(target));
+			}
+
+			@Override
+			public void set(Object target, Object value) {
+				setInt(target, ((Integer)checkValue(value)).intValue());
+			}
+
+			@Override
+			public int getInt(Object target) {
+				if (!isVolatile) {
+					return unsafe.getInt(base(target), fieldOffset);
+				}
+				return unsafe.getIntVolatile(base(target), fieldOffset);
+			}
+
+			@Override
+			public void setInt(Object target, int value) {
+				if (!isVolatile) {
+					unsafe.putInt(base(target), fieldOffset, value);
+				} else {
+					unsafe.putIntVolatile(base(target), fieldOffset, value);
+				}
+			}
+
+		}
+
+		public static class LongAccessor extends Accessor {
+
+			public LongAccessor(sun.misc.Unsafe unsafe, Field field, Object staticFieldBase, long fieldOffset) {
+				super(unsafe, field, staticFieldBase, fieldOffset);
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T get(Object target) {
+				return (T)Long.valueOf(getLong(target));
+			}
+
+			@Override
+			public void set(Object target, Object value) {
+				setLong(target, ((Long)checkValue(value)).longValue());
+			}
+
+			@Override
+			public long getLong(Object target) {
+				if (!isVolatile) {
+					return unsafe.getLong(base(target), fieldOffset);
+				}
+				return unsafe.getLongVolatile(base(target), fieldOffset);
+			}
+
+			@Override
+			public void setLong(Object target, long value) {
+				if (!isVolatile) {
+					unsafe.putLong(base(target), fieldOffset, value);
+				} else {
+					unsafe.putLongVolatile(base(target), fieldOffset, value);
+				}
+			}
+
+		}
+
+		public static class FloatAccessor extends Accessor {
+
+			public FloatAccessor(sun.misc.Unsafe unsafe, Field field, Object staticFieldBase, long fieldOffset) {
+				super(unsafe, field, staticFieldBase, fieldOffset);
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T get(Object target) {
+				return (T)Float.valueOf(getFloat(target));
+			}
+
+			@Override
+			public void set(Object target, Object value) {
+				setFloat(target, ((Float)checkValue(value)).floatValue());
+			}
+
+			@Override
+			public float getFloat(Object target) {
+				if (!isVolatile) {
+					return unsafe.getFloat(base(target), fieldOffset);
+				}
+				return unsafe.getFloatVolatile(base(target), fieldOffset);
+			}
+
+			@Override
+			public void setFloat(Object target, float value) {
+				if (!isVolatile) {
+					unsafe.putFloat(base(target), fieldOffset, value);
+				} else {
+					unsafe.putFloatVolatile(base(target), fieldOffset, value);
+				}
+			}
+
+		}
+
+		public static class DoubleAccessor extends Accessor {
+
+			public DoubleAccessor(sun.misc.Unsafe unsafe, Field field, Object staticFieldBase, long fieldOffset) {
+				super(unsafe, field, staticFieldBase, fieldOffset);
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T get(Object target) {
+				return (T)Double.valueOf(getDouble(target));
+			}
+
+			@Override
+			public void set(Object target, Object value) {
+				setDouble(target, ((Double)checkValue(value)).doubleValue());
+			}
+
+			@Override
+			public double getDouble(Object target) {
+				if (!isVolatile) {
+					return unsafe.getDouble(base(target), fieldOffset);
+				}
+				return unsafe.getDoubleVolatile(base(target), fieldOffset);
+			}
+
+			@Override
+			public void setDouble(Object target, double value) {
+				if (!isVolatile) {
+					unsafe.putDouble(base(target), fieldOffset, value);
+				} else {
+					unsafe.putDoubleVolatile(base(target), fieldOffset, value);
+				}
+			}
+
+		}
+
+		public static class BooleanAccessor extends Accessor {
+
+			public BooleanAccessor(sun.misc.Unsafe unsafe, Field field, Object staticFieldBase, long fieldOffset) {
+				super(unsafe, field, staticFieldBase, fieldOffset);
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T get(Object target) {
+				return (T)Boolean.valueOf(getBoolean(target));
+			}
+
+			@Override
+			public void set(Object target, Object value) {
+				setBoolean(target, ((Boolean)checkValue(value)).booleanValue());
+			}
+
+			@Override
+			public boolean getBoolean(Object target) {
+				if (!isVolatile) {
+					return unsafe.getBoolean(base(target), fieldOffset);
+				}
+				return unsafe.getBooleanVolatile(base(target), fieldOffset);
+			}
+
+			@Override
+			public void setBoolean(Object target, boolean value) {
+				if (!isVolatile) {
+					unsafe.putBoolean(base(target), fieldOffset, value);
+				} else {
+					unsafe.putBooleanVolatile(base(target), fieldOffset, value);
+				}
+			}
+
+		}
+
+		public static class ByteAccessor extends Accessor {
+
+			public ByteAccessor(sun.misc.Unsafe unsafe, Field field, Object staticFieldBase, long fieldOffset) {
+				super(unsafe, field, staticFieldBase, fieldOffset);
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T get(Object target) {
+				return (T)Byte.valueOf(getByte(target));
+			}
+
+			@Override
+			public void set(Object target, Object value) {
+				setByte(target, ((Byte)checkValue(value)).byteValue());
+			}
+
+			@Override
+			public byte getByte(Object target) {
+				if (!isVolatile) {
+					return unsafe.getByte(base(target), fieldOffset);
+				}
+				return unsafe.getByteVolatile(base(target), fieldOffset);
+			}
+
+			@Override
+			public void setByte(Object target, byte value) {
+				if (!isVolatile) {
+					unsafe.putByte(base(target), fieldOffset, value);
+				} else {
+					unsafe.putByteVolatile(base(target), fieldOffset, value);
+				}
+			}
+
+		}
+
+		public static class CharAccessor extends Accessor {
+
+			public CharAccessor(sun.misc.Unsafe unsafe, Field field, Object staticFieldBase, long fieldOffset) {
+				super(unsafe, field, staticFieldBase, fieldOffset);
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T get(Object target) {
+				return (T)Character.valueOf(getChar(target));
+			}
+
+			@Override
+			public void set(Object target, Object value) {
+				setChar(target, ((Character)checkValue(value)).charValue());
+			}
+
+			@Override
+			public char getChar(Object target) {
+				if (!isVolatile) {
+					return unsafe.getChar(base(target), fieldOffset);
+				}
+				return unsafe.getCharVolatile(base(target), fieldOffset);
+			}
+
+			@Override
+			public void setChar(Object target, char value) {
+				if (!isVolatile) {
+					unsafe.putChar(base(target), fieldOffset, value);
+				} else {
+					unsafe.putCharVolatile(base(target), fieldOffset, value);
+				}
+			}
+
+		}
+	}
+
+
+	public static class ForJava25 extends ForJava7 {
+		protected GetFieldAccessorFunction varHandleBasedFieldAccessorRetriever;
+
+		public ForJava25(Map<Object, Object> context) {
+			super(context);
+			varHandleBasedFieldAccessorRetriever = ObjectProvider.get(context).getOrBuildObject(VarHandleBased.class, context);
+		}
+
+		@Override
+		public FieldAccessor apply(Field field) {
+			try {
+				return super.apply(field);
+			} catch (UnsupportedOperationException exc) {
+				//Unsafe does not support the fields of records and hidden classes
+				return varHandleBasedFieldAccessorRetriever.apply(field);
+			}
+		}
+
+	}
+
+
+	public static interface VarHandleBased extends GetFieldAccessorFunction {
+
+		public static class ForJava9 extends GetFieldAccessorFunction.ForJava7 implements VarHandleBased {
+			protected GetFieldVarHandleFunction varHandleRetriever;
+
+			public ForJava9(Map<Object, Object> context) {
+				super(context);
+				varHandleRetriever = ObjectProvider.get(context).getOrBuildObject(GetFieldVarHandleFunction.class, context);
+			}
+
+			@Override
+			public FieldAccessor apply(Field field) {
+				VarHandle varHandle = varHandleRetriever.apply(field);
+				if (varHandle == null) {
+					return super.apply(field);
+				}
+				//The VarHandles of final fields are read only: Unsafe, when it supports the field, can also write them
+				if (Modifier.isFinal(field.getModifiers())) {
+					try {
+						return super.apply(field);
+					} catch (UnsupportedOperationException exc) {
+
+					}
+				}
+				return new VarHandleAccessor(field, varHandle);
+			}
+
+			public static class VarHandleAccessor extends FieldAccessor.Abst {
+				protected final VarHandle varHandle;
+				protected final boolean isVolatile;
+
+				public VarHandleAccessor(Field field, VarHandle varHandle) {
+					super(field);
+					this.varHandle = varHandle;
+					this.isVolatile = Modifier.isVolatile(field.getModifiers());
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public <T> T get(Object target) {
+					if (isStatic) {
+						return isVolatile ?
+							(T)(Object)varHandle.getVolatile() :
+							(T)(Object)varHandle.get();
+					}
+					return isVolatile ?
+						(T)(Object)varHandle.getVolatile(checkTarget(target)) :
+						(T)(Object)varHandle.get(checkTarget(target));
+				}
+
+				@Override
+				public void set(Object target, Object value) {
+					checkValue(value);
+					if (isStatic) {
+						if (isVolatile) {
+							varHandle.setVolatile(value);
+						} else {
+							varHandle.set(value);
+						}
+					} else if (isVolatile) {
+						varHandle.setVolatile(checkTarget(target), value);
+					} else {
+						varHandle.set(checkTarget(target), value);
+					}
+				}
+
+
+				@Override
+				public short getShort(Object target) {
+					checkType(short.class);
+					if (isStatic) {
+						return isVolatile ?
+							(short)varHandle.getVolatile() :
+							(short)varHandle.get();
+					}
+					return isVolatile ?
+						(short)varHandle.getVolatile(checkTarget(target)) :
+						(short)varHandle.get(checkTarget(target));
+				}
+
+				@Override
+				public void setShort(Object target, short value) {
+					checkType(short.class);
+					if (isStatic) {
+						if (isVolatile) {
+							varHandle.setVolatile(value);
+						} else {
+							varHandle.set(value);
+						}
+					} else if (isVolatile) {
+						varHandle.setVolatile(checkTarget(target), value);
+					} else {
+						varHandle.set(checkTarget(target), value);
+					}
+				}
+
+				@Override
+				public int getInt(Object target) {
+					checkType(int.class);
+					if (isStatic) {
+						return isVolatile ?
+							(int)varHandle.getVolatile() :
+							(int)varHandle.get();
+					}
+					return isVolatile ?
+						(int)varHandle.getVolatile(checkTarget(target)) :
+						(int)varHandle.get(checkTarget(target));
+				}
+
+				@Override
+				public void setInt(Object target, int value) {
+					checkType(int.class);
+					if (isStatic) {
+						if (isVolatile) {
+							varHandle.setVolatile(value);
+						} else {
+							varHandle.set(value);
+						}
+					} else if (isVolatile) {
+						varHandle.setVolatile(checkTarget(target), value);
+					} else {
+						varHandle.set(checkTarget(target), value);
+					}
+				}
+
+				@Override
+				public long getLong(Object target) {
+					checkType(long.class);
+					if (isStatic) {
+						return isVolatile ?
+							(long)varHandle.getVolatile() :
+							(long)varHandle.get();
+					}
+					return isVolatile ?
+						(long)varHandle.getVolatile(checkTarget(target)) :
+						(long)varHandle.get(checkTarget(target));
+				}
+
+				@Override
+				public void setLong(Object target, long value) {
+					checkType(long.class);
+					if (isStatic) {
+						if (isVolatile) {
+							varHandle.setVolatile(value);
+						} else {
+							varHandle.set(value);
+						}
+					} else if (isVolatile) {
+						varHandle.setVolatile(checkTarget(target), value);
+					} else {
+						varHandle.set(checkTarget(target), value);
+					}
+				}
+
+				@Override
+				public float getFloat(Object target) {
+					checkType(float.class);
+					if (isStatic) {
+						return isVolatile ?
+							(float)varHandle.getVolatile() :
+							(float)varHandle.get();
+					}
+					return isVolatile ?
+						(float)varHandle.getVolatile(checkTarget(target)) :
+						(float)varHandle.get(checkTarget(target));
+				}
+
+				@Override
+				public void setFloat(Object target, float value) {
+					checkType(float.class);
+					if (isStatic) {
+						if (isVolatile) {
+							varHandle.setVolatile(value);
+						} else {
+							varHandle.set(value);
+						}
+					} else if (isVolatile) {
+						varHandle.setVolatile(checkTarget(target), value);
+					} else {
+						varHandle.set(checkTarget(target), value);
+					}
+				}
+
+				@Override
+				public double getDouble(Object target) {
+					checkType(double.class);
+					if (isStatic) {
+						return isVolatile ?
+							(double)varHandle.getVolatile() :
+							(double)varHandle.get();
+					}
+					return isVolatile ?
+						(double)varHandle.getVolatile(checkTarget(target)) :
+						(double)varHandle.get(checkTarget(target));
+				}
+
+				@Override
+				public void setDouble(Object target, double value) {
+					checkType(double.class);
+					if (isStatic) {
+						if (isVolatile) {
+							varHandle.setVolatile(value);
+						} else {
+							varHandle.set(value);
+						}
+					} else if (isVolatile) {
+						varHandle.setVolatile(checkTarget(target), value);
+					} else {
+						varHandle.set(checkTarget(target), value);
+					}
+				}
+
+				@Override
+				public boolean getBoolean(Object target) {
+					checkType(boolean.class);
+					if (isStatic) {
+						return isVolatile ?
+							(boolean)varHandle.getVolatile() :
+							(boolean)varHandle.get();
+					}
+					return isVolatile ?
+						(boolean)varHandle.getVolatile(checkTarget(target)) :
+						(boolean)varHandle.get(checkTarget(target));
+				}
+
+				@Override
+				public void setBoolean(Object target, boolean value) {
+					checkType(boolean.class);
+					if (isStatic) {
+						if (isVolatile) {
+							varHandle.setVolatile(value);
+						} else {
+							varHandle.set(value);
+						}
+					} else if (isVolatile) {
+						varHandle.setVolatile(checkTarget(target), value);
+					} else {
+						varHandle.set(checkTarget(target), value);
+					}
+				}
+
+				@Override
+				public byte getByte(Object target) {
+					checkType(byte.class);
+					if (isStatic) {
+						return isVolatile ?
+							(byte)varHandle.getVolatile() :
+							(byte)varHandle.get();
+					}
+					return isVolatile ?
+						(byte)varHandle.getVolatile(checkTarget(target)) :
+						(byte)varHandle.get(checkTarget(target));
+				}
+
+				@Override
+				public void setByte(Object target, byte value) {
+					checkType(byte.class);
+					if (isStatic) {
+						if (isVolatile) {
+							varHandle.setVolatile(value);
+						} else {
+							varHandle.set(value);
+						}
+					} else if (isVolatile) {
+						varHandle.setVolatile(checkTarget(target), value);
+					} else {
+						varHandle.set(checkTarget(target), value);
+					}
+				}
+
+				@Override
+				public char getChar(Object target) {
+					checkType(char.class);
+					if (isStatic) {
+						return isVolatile ?
+							(char)varHandle.getVolatile() :
+							(char)varHandle.get();
+					}
+					return isVolatile ?
+						(char)varHandle.getVolatile(checkTarget(target)) :
+						(char)varHandle.get(checkTarget(target));
+				}
+
+				@Override
+				public void setChar(Object target, char value) {
+					checkType(char.class);
+					if (isStatic) {
+						if (isVolatile) {
+							varHandle.setVolatile(value);
+						} else {
+							varHandle.set(value);
+						}
+					} else if (isVolatile) {
+						varHandle.setVolatile(checkTarget(target), value);
+					} else {
+						varHandle.set(checkTarget(target), value);
+					}
+				}
+
+			}
+
+		}
+
+	}
+
+
+	public static interface Native extends GetFieldAccessorFunction {
+
+		public static class ForJava7 implements Native {
+
+			public ForJava7(Map<Object, Object> context) throws InitializeException {
+				checkNativeEngine();
+			}
+
+			protected void checkNativeEngine() throws InitializeException {
+				if (!Narcissus.libraryLoaded) {
+					throw new InitializeException(
+						Strings.compile(
+							"Could not initialize the native engine {}",
+							io.github.toolfactory.narcissus.Narcissus.class.getName()
+						)
+					);
+				}
+			}
+
+			@Override
+			public FieldAccessor apply(Field field) {
+				Class<?> cls = field.getType();
+				if(!cls.isPrimitive()) {
+					return new ObjectAccessor(field);
+				} else if (cls == short.class) {
+					return new ShortAccessor(field);
+				} else if (cls == int.class) {
+					return new IntAccessor(field);
+				} else if (cls == long.class) {
+					return new LongAccessor(field);
+				} else if (cls == float.class) {
+					return new FloatAccessor(field);
+				} else if (cls == double.class) {
+					return new DoubleAccessor(field);
+				} else if (cls == boolean.class) {
+					return new BooleanAccessor(field);
+				} else if (cls == byte.class) {
+					return new ByteAccessor(field);
+				} else {
+					return new CharAccessor(field);
+				}
+			}
+
+			public static class ObjectAccessor extends FieldAccessor.Abst {
+
+				public ObjectAccessor(Field field) {
+					super(field);
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public <T> T get(Object target) {
+					if (isStatic) {
+						return (T)io.github.toolfactory.narcissus.Narcissus.getStaticObjectField(field);
+					}
+					return (T)io.github.toolfactory.narcissus.Narcissus.getObjectField(checkTarget(target), field);
+				}
+
+				@Override
+				public void set(Object target, Object value) {
+					if (isStatic) {
+						io.github.toolfactory.narcissus.Narcissus.setStaticObjectField(field, checkValue(value));
+					} else {
+						io.github.toolfactory.narcissus.Narcissus.setObjectField(checkTarget(target), field, checkValue(value));
+					}
+				}
+
+			}
+
+			public static class ShortAccessor extends FieldAccessor.Abst {
+
+				public ShortAccessor(Field field) {
+					super(field);
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public <T> T get(Object target) {
+					return (T)Short.valueOf(getShort(target));
+				}
+
+				@Override
+				public void set(Object target, Object value) {
+					setShort(target, ((Short)checkValue(value)).shortValue());
+				}
+
+				@Override
+				public short getShort(Object target) {
+					if (isStatic) {
+						return io.github.toolfactory.narcissus.Narcissus.getStaticShortField(field);
+					}
+					return io.github.toolfactory.narcissus.Narcissus.getShortField(checkTarget(target), field);
+				}
+
+				@Override
+				public void setShort(Object target, short value) {
+					if (isStatic) {
+						io.github.toolfactory.narcissus.Narcissus.setStaticShortField(field, value);
+					} else {
+						io.github.toolfactory.narcissus.Narcissus.setShortField(checkTarget(target), field, value);
+					}
+				}
+
+			}
+
+			public static class IntAccessor extends FieldAccessor.Abst {
+
+				public IntAccessor(Field field) {
+					super(field);
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public <T> T get(Object target) {
+					return (T)Integer.valueOf(getInt(target));
+				}
+
+				@Override
+				public void set(Object target, Object value) {
+					setInt(target, ((Integer)checkValue(value)).intValue());
+				}
+
+				@Override
+				public int getInt(Object target) {
+					if (isStatic) {
+						return io.github.toolfactory.narcissus.Narcissus.getStaticIntField(field);
+					}
+					return io.github.toolfactory.narcissus.Narcissus.getIntField(checkTarget(target), field);
+				}
+
+				@Override
+				public void setInt(Object target, int value) {
+					if (isStatic) {
+						io.github.toolfactory.narcissus.Narcissus.setStaticIntField(field, value);
+					} else {
+						io.github.toolfactory.narcissus.Narcissus.setIntField(checkTarget(target), field, value);
+					}
+				}
+
+			}
+
+			public static class LongAccessor extends FieldAccessor.Abst {
+
+				public LongAccessor(Field field) {
+					super(field);
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public <T> T get(Object target) {
+					return (T)Long.valueOf(getLong(target));
+				}
+
+				@Override
+				public void set(Object target, Object value) {
+					setLong(target, ((Long)checkValue(value)).longValue());
+				}
+
+				@Override
+				public long getLong(Object target) {
+					if (isStatic) {
+						return io.github.toolfactory.narcissus.Narcissus.getStaticLongField(field);
+					}
+					return io.github.toolfactory.narcissus.Narcissus.getLongField(checkTarget(target), field);
+				}
+
+				@Override
+				public void setLong(Object target, long value) {
+					if (isStatic) {
+						io.github.toolfactory.narcissus.Narcissus.setStaticLongField(field, value);
+					} else {
+						io.github.toolfactory.narcissus.Narcissus.setLongField(checkTarget(target), field, value);
+					}
+				}
+
+			}
+
+			public static class FloatAccessor extends FieldAccessor.Abst {
+
+				public FloatAccessor(Field field) {
+					super(field);
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public <T> T get(Object target) {
+					return (T)Float.valueOf(getFloat(target));
+				}
+
+				@Override
+				public void set(Object target, Object value) {
+					setFloat(target, ((Float)checkValue(value)).floatValue());
+				}
+
+				@Override
+				public float getFloat(Object target) {
+					if (isStatic) {
+						return io.github.toolfactory.narcissus.Narcissus.getStaticFloatField(field);
+					}
+					return io.github.toolfactory.narcissus.Narcissus.getFloatField(checkTarget(target), field);
+				}
+
+				@Override
+				public void setFloat(Object target, float value) {
+					if (isStatic) {
+						io.github.toolfactory.narcissus.Narcissus.setStaticFloatField(field, value);
+					} else {
+						io.github.toolfactory.narcissus.Narcissus.setFloatField(checkTarget(target), field, value);
+					}
+				}
+
+			}
+
+			public static class DoubleAccessor extends FieldAccessor.Abst {
+
+				public DoubleAccessor(Field field) {
+					super(field);
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public <T> T get(Object target) {
+					return (T)Double.valueOf(getDouble(target));
+				}
+
+				@Override
+				public void set(Object target, Object value) {
+					setDouble(target, ((Double)checkValue(value)).doubleValue());
+				}
+
+				@Override
+				public double getDouble(Object target) {
+					if (isStatic) {
+						return io.github.toolfactory.narcissus.Narcissus.getStaticDoubleField(field);
+					}
+					return io.github.toolfactory.narcissus.Narcissus.getDoubleField(checkTarget(target), field);
+				}
+
+				@Override
+				public void setDouble(Object target, double value) {
+					if (isStatic) {
+						io.github.toolfactory.narcissus.Narcissus.setStaticDoubleField(field, value);
+					} else {
+						io.github.toolfactory.narcissus.Narcissus.setDoubleField(checkTarget(target), field, value);
+					}
+				}
+
+			}
+
+			public static class BooleanAccessor extends FieldAccessor.Abst {
+
+				public BooleanAccessor(Field field) {
+					super(field);
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public <T> T get(Object target) {
+					return (T)Boolean.valueOf(getBoolean(target));
+				}
+
+				@Override
+				public void set(Object target, Object value) {
+					setBoolean(target, ((Boolean)checkValue(value)).booleanValue());
+				}
+
+				@Override
+				public boolean getBoolean(Object target) {
+					if (isStatic) {
+						return io.github.toolfactory.narcissus.Narcissus.getStaticBooleanField(field);
+					}
+					return io.github.toolfactory.narcissus.Narcissus.getBooleanField(checkTarget(target), field);
+				}
+
+				@Override
+				public void setBoolean(Object target, boolean value) {
+					if (isStatic) {
+						io.github.toolfactory.narcissus.Narcissus.setStaticBooleanField(field, value);
+					} else {
+						io.github.toolfactory.narcissus.Narcissus.setBooleanField(checkTarget(target), field, value);
+					}
+				}
+
+			}
+
+			public static class ByteAccessor extends FieldAccessor.Abst {
+
+				public ByteAccessor(Field field) {
+					super(field);
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public <T> T get(Object target) {
+					return (T)Byte.valueOf(getByte(target));
+				}
+
+				@Override
+				public void set(Object target, Object value) {
+					setByte(target, ((Byte)checkValue(value)).byteValue());
+				}
+
+				@Override
+				public byte getByte(Object target) {
+					if (isStatic) {
+						return io.github.toolfactory.narcissus.Narcissus.getStaticByteField(field);
+					}
+					return io.github.toolfactory.narcissus.Narcissus.getByteField(checkTarget(target), field);
+				}
+
+				@Override
+				public void setByte(Object target, byte value) {
+					if (isStatic) {
+						io.github.toolfactory.narcissus.Narcissus.setStaticByteField(field, value);
+					} else {
+						io.github.toolfactory.narcissus.Narcissus.setByteField(checkTarget(target), field, value);
+					}
+				}
+
+			}
+
+			public static class CharAccessor extends FieldAccessor.Abst {
+
+				public CharAccessor(Field field) {
+					super(field);
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public <T> T get(Object target) {
+					return (T)Character.valueOf(getChar(target));
+				}
+
+				@Override
+				public void set(Object target, Object value) {
+					setChar(target, ((Character)checkValue(value)).charValue());
+				}
+
+				@Override
+				public char getChar(Object target) {
+					if (isStatic) {
+						return io.github.toolfactory.narcissus.Narcissus.getStaticCharField(field);
+					}
+					return io.github.toolfactory.narcissus.Narcissus.getCharField(checkTarget(target), field);
+				}
+
+				@Override
+				public void setChar(Object target, char value) {
+					if (isStatic) {
+						io.github.toolfactory.narcissus.Narcissus.setStaticCharField(field, value);
+					} else {
+						io.github.toolfactory.narcissus.Narcissus.setCharField(checkTarget(target), field, value);
+					}
+				}
+
+			}
+		}
+
+	}
+
+}
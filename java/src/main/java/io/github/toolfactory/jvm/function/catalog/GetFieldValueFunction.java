@@ -27,13 +27,17 @@
 package io.github.toolfactory.jvm.function.catalog;
 
 
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import io.github.toolfactory.jvm.function.InitializeException;
 import io.github.toolfactory.jvm.function.template.BiFunction;
 import io.github.toolfactory.jvm.function.template.Supplier;
+import io.github.toolfactory.jvm.util.AccessMode;
 import io.github.toolfactory.jvm.util.ObjectProvider;
 import io.github.toolfactory.jvm.util.Strings;
 import io.github.toolfactory.narcissus.Narcissus;
@@ -42,8 +46,41 @@ import io.github.toolfactory.narcissus.Narcissus;
 @SuppressWarnings("all")
 public interface GetFieldValueFunction extends BiFunction<Object, Field, Object> {
 
+	public Object apply(Object target, Field field, AccessMode accessMode);
 
-	public static class ForJava7 implements GetFieldValueFunction {
+	public short getShort(Object target, Field field);
+
+	public int getInt(Object target, Field field);
+
+	public long getLong(Object target, Field field);
+
+	public float getFloat(Object target, Field field);
+
+	public double getDouble(Object target, Field field);
+
+	public boolean getBoolean(Object target, Field field);
+
+	public byte getByte(Object target, Field field);
+
+	public char getChar(Object target, Field field);
+
+	public abstract static class Abst implements GetFieldValueFunction {
+
+		protected void checkAccessMode(AccessMode accessMode) {
+			if (!accessMode.isAllowedForReads()) {
+				throw new IllegalArgumentException(Strings.compile("Access mode {} is not allowed for reads", accessMode));
+			}
+		}
+
+		protected void checkType(Field field, Class<?> type) {
+			if (field.getType() != type) {
+				throw new IllegalArgumentException(Strings.compile("Field {} is not of type {}", field.getName(), type.getName()));
+			}
+		}
+
+	}
+
+	public static class ForJava7 extends Abst {
 		protected sun.misc.Unsafe unsafe;
 
 		public ForJava7(Map<Object, Object> context) {
@@ -62,57 +99,211 @@ public interface GetFieldValueFunction extends BiFunction<Object, Field, Object>
 			return getByUnsafe(target, field, fieldOffset, field.getType());
 		}
 
+		@Override
+		public Object apply(Object target, Field field, AccessMode accessMode) {
+			checkAccessMode(accessMode);
+			boolean isStatic = Modifier.isStatic(field.getModifiers());
+			target = isStatic?
+				field.getDeclaringClass() :
+				target;
+			long fieldOffset = isStatic?
+				unsafe.staticFieldOffset(field) :
+				unsafe.objectFieldOffset(field);
+			//Unsafe on Java 7 has no acquire or opaque reads: the volatile read is the weakest one that satisfies them
+			return getByUnsafe(target, fieldOffset, field.getType(), accessMode != AccessMode.PLAIN);
+		}
+
+		@Override
+		public short getShort(Object target, Field field) {
+			checkType(field, short.class);
+			boolean isStatic = Modifier.isStatic(field.getModifiers());
+			target = isStatic?
+				field.getDeclaringClass() :
+				target;
+			long fieldOffset = isStatic?
+				unsafe.staticFieldOffset(field) :
+				unsafe.objectFieldOffset(field);
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				return unsafe.getShort(target, fieldOffset);
+			} else {
+				return unsafe.getShortVolatile(target, fieldOffset);
+			}
+		}
+
+		@Override
+		public int getInt(Object target, Field field) {
+			checkType(field, int.class);
+			boolean isStatic = Modifier.isStatic(field.getModifiers());
+			target = isStatic?
+				field.getDeclaringClass() :
+				target;
+			long fieldOffset = isStatic?
+				unsafe.staticFieldOffset(field) :
+				unsafe.objectFieldOffset(field);
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				return unsafe.getInt(target, fieldOffset);
+			} else {
+				return unsafe.getIntVolatile(target, fieldOffset);
+			}
+		}
+
+		@Override
+		public long getLong(Object target, Field field) {
+			checkType(field, long.class);
+			boolean isStatic = Modifier.isStatic(field.getModifiers());
+			target = isStatic?
+				field.getDeclaringClass() :
+				target;
+			long fieldOffset = isStatic?
+				unsafe.staticFieldOffset(field) :
+				unsafe.objectFieldOffset(field);
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				return unsafe.getLong(target, fieldOffset);
+			} else {
+				return unsafe.getLongVolatile(target, fieldOffset);
+			}
+		}
+
+		@Override
+		public float getFloat(Object target, Field field) {
+			checkType(field, float.class);
+			boolean isStatic = Modifier.isStatic(field.getModifiers());
+			target = isStatic?
+				field.getDeclaringClass() :
+				target;
+			long fieldOffset = isStatic?
+				unsafe.staticFieldOffset(field) :
+				unsafe.objectFieldOffset(field);
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				return unsafe.getFloat(target, fieldOffset);
+			} else {
+				return unsafe.getFloatVolatile(target, fieldOffset);
+			}
+		}
+
+		@Override
+		public double getDouble(Object target, Field field) {
+			checkType(field, double.class);
+			boolean isStatic = Modifier.isStatic(field.getModifiers());
+			target = isStatic?
+				field.getDeclaringClass() :
+				target;
+			long fieldOffset = isStatic?
+				unsafe.staticFieldOffset(field) :
+				unsafe.objectFieldOffset(field);
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				return unsafe.getDouble(target, fieldOffset);
+			} else {
+				return unsafe.getDoubleVolatile(target, fieldOffset);
+			}
+		}
+
+		@Override
+		public boolean getBoolean(Object target, Field field) {
+			checkType(field, boolean.class);
+			boolean isStatic = Modifier.isStatic(field.getModifiers());
+			target = isStatic?
+				field.getDeclaringClass() :
+				target;
+			long fieldOffset = isStatic?
+				unsafe.staticFieldOffset(field) :
+				unsafe.objectFieldOffset(field);
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				return unsafe.getBoolean(target, fieldOffset);
+			} else {
+				return unsafe.getBooleanVolatile(target, fieldOffset);
+			}
+		}
+
+		@Override
+		public byte getByte(Object target, Field field) {
+			checkType(field, byte.class);
+			boolean isStatic = Modifier.isStatic(field.getModifiers());
+			target = isStatic?
+				field.getDeclaringClass() :
+				target;
+			long fieldOffset = isStatic?
+				unsafe.staticFieldOffset(field) :
+				unsafe.objectFieldOffset(field);
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				return unsafe.getByte(target, fieldOffset);
+			} else {
+				return unsafe.getByteVolatile(target, fieldOffset);
+			}
+		}
+
+		@Override
+		public char getChar(Object target, Field field) {
+			checkType(field, char.class);
+			boolean isStatic = Modifier.isStatic(field.getModifiers());
+			target = isStatic?
+				field.getDeclaringClass() :
+				target;
+			long fieldOffset = isStatic?
+				unsafe.staticFieldOffset(field) :
+				unsafe.objectFieldOffset(field);
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				return unsafe.getChar(target, fieldOffset);
+			} else {
+				return unsafe.getCharVolatile(target, fieldOffset);
+			}
+		}
+
 		protected Object getByUnsafe(Object target, Field field, long fieldOffset, Class<?> cls) {
+			return getByUnsafe(target, fieldOffset, cls, Modifier.isVolatile(field.getModifiers()));
+		}
+
+		protected Object getByUnsafe(Object target, long fieldOffset, Class<?> cls, boolean isVolatile) {
 			if(!cls.isPrimitive()) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					return unsafe.getObject(target, fieldOffset);
 				} else {
 					return unsafe.getObjectVolatile(target, fieldOffset);
 				}
 			} else if (cls == short.class) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					return Short.valueOf(unsafe.getShort(target, fieldOffset));
 				} else {
 					return Short.valueOf(unsafe.getShortVolatile(target, fieldOffset));
 				}
 			} else if (cls == int.class) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					return Integer.valueOf(unsafe.getInt(target, fieldOffset));
 				} else {
 					return Integer.valueOf(unsafe.getIntVolatile(target, fieldOffset));
 				}
 			} else if (cls == long.class) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					return Long.valueOf(unsafe.getLong(target, fieldOffset));
 				} else {
 					return Long.valueOf(unsafe.getLongVolatile(target, fieldOffset));
 				}
 			} else if (cls == float.class) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					return Float.valueOf(unsafe.getFloat(target, fieldOffset));
 				} else {
 					return Float.valueOf(unsafe.getFloatVolatile(target, fieldOffset));
 				}
 			} else if (cls == double.class) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					return Double.valueOf(unsafe.getDouble(target, fieldOffset));
 				} else {
 					return Double.valueOf(unsafe.getDoubleVolatile(target, fieldOffset));
 				}
 			} else if (cls == boolean.class) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					return Boolean.valueOf(unsafe.getBoolean(target, fieldOffset));
 				} else {
 					return Boolean.valueOf(unsafe.getBooleanVolatile(target, fieldOffset));
 				}
 			} else if (cls == byte.class) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					return Byte.valueOf(unsafe.getByte(target, fieldOffset));
 				} else {
 					return Byte.valueOf(unsafe.getByteVolatile(target, fieldOffset));
 				}
 			} else {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					return Character.valueOf(unsafe.getChar(target, fieldOffset));
 				} else {
 					return Character.valueOf(unsafe.getCharVolatile(target, fieldOffset));
@@ -122,68 +313,344 @@ public interface GetFieldValueFunction extends BiFunction<Object, Field, Object>
 	}
 
 	public static class ForJava25 extends ForJava7 {
-		protected SetAccessibleFunction setAccessibleFunction;
-		protected ThrowExceptionFunction throwExceptionFunction;
-		protected Supplier<SetAccessibleFunction> setAccessibleFunctionSupplier;
+		protected GetFieldValueFunction varHandleBasedFieldValueRetriever;
+		protected ClassValue<Boolean> unsafeSupport;
 
-		public ForJava25(final Map<Object, Object> context) {
+		public ForJava25(Map<Object, Object> context) {
 			super(context);
-			throwExceptionFunction = ObjectProvider.get(context).getOrBuildObject(ThrowExceptionFunction.class, context);
-			setAccessibleFunctionSupplier = new Supplier<SetAccessibleFunction>() {
+			varHandleBasedFieldValueRetriever = ObjectProvider.get(context).getOrBuildObject(VarHandleBased.class, context);
+			unsafeSupport = new ClassValue<Boolean>() {
 				@Override
-				public SetAccessibleFunction get() {
-					return ObjectProvider.get(context).getOrBuildObject(SetAccessibleFunction.class, context);
+				protected Boolean computeValue(Class<?> cls) {
+					for (Field field : cls.getDeclaredFields()) {
+						try {
+							if (Modifier.isStatic(field.getModifiers())) {
+								unsafe.staticFieldOffset(field);
+							} else {
+								unsafe.objectFieldOffset(field);
+							}
+						} catch (UnsupportedOperationException exc) {
+							return Boolean.FALSE;
+						}
+						break;
+					}
+					return Boolean.TRUE;
 				}
 			};
 		}
 
+		//Unsafe does not support the fields of records and hidden classes: since it rejects them by their declaring
+		//class the probe is executed once for each class and the fields of the rejected classes are read through
+		//their VarHandles
+		protected boolean isUnsafeSupported(Field field) {
+			return unsafeSupport.get(field.getDeclaringClass());
+		}
+
 		@Override
 		public Object apply(Object target, Field field) {
-			boolean isStatic = Modifier.isStatic(field.getModifiers());
-			try {
-				target = isStatic?
-					field.getDeclaringClass() :
-					target;
-				Long fieldOffset = isStatic?
-					unsafe.staticFieldOffset(field) :
-					unsafe.objectFieldOffset(field);
-				return getByUnsafe(target, field, fieldOffset,  field.getType());
-			} catch (UnsupportedOperationException exc) {
-				try {
-					setAccessible(field);
-					if (isStatic) {
-						return field.get(null);
-					} else {
-						return field.get(target);
+			if (isUnsafeSupported(field)) {
+				return super.apply(target, field);
+			}
+			return varHandleBasedFieldValueRetriever.apply(target, field);
+		}
+
+		@Override
+		public Object apply(Object target, Field field, AccessMode accessMode) {
+			if (isUnsafeSupported(field)) {
+				return super.apply(target, field, accessMode);
+			}
+			return varHandleBasedFieldValueRetriever.apply(target, field, accessMode);
+		}
+
+		@Override
+		public short getShort(Object target, Field field) {
+			if (isUnsafeSupported(field)) {
+				return super.getShort(target, field);
+			}
+			return varHandleBasedFieldValueRetriever.getShort(target, field);
+		}
+
+		@Override
+		public int getInt(Object target, Field field) {
+			if (isUnsafeSupported(field)) {
+				return super.getInt(target, field);
+			}
+			return varHandleBasedFieldValueRetriever.getInt(target, field);
+		}
+
+		@Override
+		public long getLong(Object target, Field field) {
+			if (isUnsafeSupported(field)) {
+				return super.getLong(target, field);
+			}
+			return varHandleBasedFieldValueRetriever.getLong(target, field);
+		}
+
+		@Override
+		public float getFloat(Object target, Field field) {
+			if (isUnsafeSupported(field)) {
+				return super.getFloat(target, field);
+			}
+			return varHandleBasedFieldValueRetriever.getFloat(target, field);
+		}
+
+		@Override
+		public double getDouble(Object target, Field field) {
+			if (isUnsafeSupported(field)) {
+				return super.getDouble(target, field);
+			}
+			return varHandleBasedFieldValueRetriever.getDouble(target, field);
+		}
+
+		@Override
+		public boolean getBoolean(Object target, Field field) {
+			if (isUnsafeSupported(field)) {
+				return super.getBoolean(target, field);
+			}
+			return varHandleBasedFieldValueRetriever.getBoolean(target, field);
+		}
+
+		@Override
+		public byte getByte(Object target, Field field) {
+			if (isUnsafeSupported(field)) {
+				return super.getByte(target, field);
+			}
+			return varHandleBasedFieldValueRetriever.getByte(target, field);
+		}
+
+		@Override
+		public char getChar(Object target, Field field) {
+			if (isUnsafeSupported(field)) {
+				return super.getChar(target, field);
+			}
+			return varHandleBasedFieldValueRetriever.getChar(target, field);
+		}
+
+	}
+
+	public static interface VarHandleBased extends GetFieldValueFunction {
+
+		public static class ForJava9 extends GetFieldValueFunction.ForJava7 implements VarHandleBased {
+			protected GetFieldVarHandleFunction varHandleRetriever;
+
+			public ForJava9(Map<Object, Object> context) {
+				super(context);
+				varHandleRetriever = ObjectProvider.get(context).getOrBuildObject(GetFieldVarHandleFunction.class, context);
+			}
+
+			@Override
+			public Object apply(Object target, Field field) {
+				return apply(
+					target,
+					field,
+					Modifier.isVolatile(field.getModifiers()) ?
+						AccessMode.VOLATILE :
+						AccessMode.PLAIN
+				);
+			}
+
+			@Override
+			public Object apply(Object target, Field field, AccessMode accessMode) {
+				checkAccessMode(accessMode);
+				VarHandle varHandle = varHandleRetriever.apply(field);
+				if (varHandle == null) {
+					return super.apply(target, field, accessMode);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					if (accessMode == AccessMode.PLAIN) {
+						return (Object)varHandle.get();
+					} else if (accessMode == AccessMode.OPAQUE) {
+						return (Object)varHandle.getOpaque();
+					} else if (accessMode == AccessMode.ACQUIRE) {
+						return (Object)varHandle.getAcquire();
 					}
-				} catch (Throwable exc2) {
-					return throwExceptionFunction.apply(exc2);
+					return (Object)varHandle.getVolatile();
 				}
+				if (accessMode == AccessMode.PLAIN) {
+					return (Object)varHandle.get(target);
+				} else if (accessMode == AccessMode.OPAQUE) {
+					return (Object)varHandle.getOpaque(target);
+				} else if (accessMode == AccessMode.ACQUIRE) {
+					return (Object)varHandle.getAcquire(target);
+				}
+				return (Object)varHandle.getVolatile(target);
+			}
 
+			@Override
+			public short getShort(Object target, Field field) {
+				checkType(field, short.class);
+				VarHandle varHandle = varHandleRetriever.apply(field);
+				if (varHandle == null) {
+					return super.getShort(target, field);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return Modifier.isVolatile(field.getModifiers()) ?
+						(short)varHandle.getVolatile() :
+						(short)varHandle.get();
+				}
+				return Modifier.isVolatile(field.getModifiers()) ?
+					(short)varHandle.getVolatile(target) :
+					(short)varHandle.get(target);
 			}
-		}
 
-		protected void setAccessible(Field field) throws Throwable {
-			try {
-				setAccessibleFunction.accept(field, true);
-			} catch (NullPointerException exc) {
-				if (setAccessibleFunction == null) {
-					setAccessibleFunction = setAccessibleFunctionSupplier.get();
-					setAccessible(field);
-				} else {
-					throwExceptionFunction.accept(exc);
+			@Override
+			public int getInt(Object target, Field field) {
+				checkType(field, int.class);
+				VarHandle varHandle = varHandleRetriever.apply(field);
+				if (varHandle == null) {
+					return super.getInt(target, field);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return Modifier.isVolatile(field.getModifiers()) ?
+						(int)varHandle.getVolatile() :
+						(int)varHandle.get();
+				}
+				return Modifier.isVolatile(field.getModifiers()) ?
+					(int)varHandle.getVolatile(target) :
+					(int)varHandle.get(target);
+			}
+
+			@Override
+			public long getLong(Object target, Field field) {
+				checkType(field, long.class);
+				VarHandle varHandle = varHandleRetriever.apply(field);
+				if (varHandle == null) {
+					return super.getLong(target, field);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return Modifier.isVolatile(field.getModifiers()) ?
+						(long)varHandle.getVolatile() :
+						(long)varHandle.get();
+				}
+				return Modifier.isVolatile(field.getModifiers()) ?
+					(long)varHandle.getVolatile(target) :
+					(long)varHandle.get(target);
+			}
+
+			@Override
+			public float getFloat(Object target, Field field) {
+				checkType(field, float.class);
+				VarHandle varHandle = varHandleRetriever.apply(field);
+				if (varHandle == null) {
+					return super.getFloat(target, field);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return Modifier.isVolatile(field.getModifiers()) ?
+						(float)varHandle.getVolatile() :
+						(float)varHandle.get();
+				}
+				return Modifier.isVolatile(field.getModifiers()) ?
+					(float)varHandle.getVolatile(target) :
+					(float)varHandle.get(target);
+			}
+
+			@Override
+			public double getDouble(Object target, Field field) {
+				checkType(field, double.class);
+				VarHandle varHandle = varHandleRetriever.apply(field);
+				if (varHandle == null) {
+					return super.getDouble(target, field);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return Modifier.isVolatile(field.getModifiers()) ?
+						(double)varHandle.getVolatile() :
+						(double)varHandle.get();
+				}
+				return Modifier.isVolatile(field.getModifiers()) ?
+					(double)varHandle.getVolatile(target) :
+					(double)varHandle.get(target);
+			}
+
+			@Override
+			public boolean getBoolean(Object target, Field field) {
+				checkType(field, boolean.class);
+				VarHandle varHandle = varHandleRetriever.apply(field);
+				if (varHandle == null) {
+					return super.getBoolean(target, field);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return Modifier.isVolatile(field.getModifiers()) ?
+						(boolean)varHandle.getVolatile() :
+						(boolean)varHandle.get();
+				}
+				return Modifier.isVolatile(field.getModifiers()) ?
+					(boolean)varHandle.getVolatile(target) :
+					(boolean)varHandle.get(target);
+			}
+
+			@Override
+			public byte getByte(Object target, Field field) {
+				checkType(field, byte.class);
+				VarHandle varHandle = varHandleRetriever.apply(field);
+				if (varHandle == null) {
+					return super.getByte(target, field);
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return Modifier.isVolatile(field.getModifiers()) ?
+						(byte)varHandle.getVolatile() :
+						(byte)varHandle.get();
+				}
+				return Modifier.isVolatile(field.getModifiers()) ?
+					(byte)varHandle.getVolatile(target) :
+					(byte)varHandle.get(target);
+			}
+
+			@Override
+			public char getChar(Object target, Field field) {
+				checkType(field, char.class);
+				VarHandle varHandle = varHandleRetriever.apply(field);
+				if (varHandle == null) {
+					return super.getChar(target, field);
 				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					return Modifier.isVolatile(field.getModifiers()) ?
+						(char)varHandle.getVolatile() :
+						(char)varHandle.get();
+				}
+				return Modifier.isVolatile(field.getModifiers()) ?
+					(char)varHandle.getVolatile(target) :
+					(char)varHandle.get(target);
 			}
+
 		}
 
 	}
 
 	public static interface Native extends GetFieldValueFunction {
 
-		public static class ForJava7 implements Native {
+		public static class ForJava7 extends Abst implements Native {
+			protected volatile GetFieldValueFunction unsafeBasedFieldValueRetriever;
+			protected Supplier<GetFieldValueFunction> unsafeBasedFieldValueRetrieverSupplier;
 
-			public ForJava7(Map<Object, Object> context) throws InitializeException {
+			public ForJava7(final Map<Object, Object> context) throws InitializeException {
 				checkNativeEngine();
+				//Unsafe is only needed by the ordered accesses, that the native engine does not expose
+				unsafeBasedFieldValueRetrieverSupplier = new Supplier<GetFieldValueFunction>() {
+					@Override
+					public GetFieldValueFunction get() {
+						//The native engine is left out of the context, otherwise it would be returned in place of the
+						//implementation selected for the running JVM
+						Map<Object, Object> unsafeBasedContext = new HashMap<>();
+						for (Entry<Object, Object> entry : context.entrySet()) {
+							if (!(entry.getValue() instanceof GetFieldValueFunction)) {
+								unsafeBasedContext.put(entry.getKey(), entry.getValue());
+							}
+						}
+						return ObjectProvider.get(unsafeBasedContext).getOrBuildObject(GetFieldValueFunction.class, unsafeBasedContext);
+					}
+				};
+			}
+
+			protected GetFieldValueFunction getUnsafeBasedFieldValueRetriever() {
+				GetFieldValueFunction unsafeBasedFieldValueRetriever = this.unsafeBasedFieldValueRetriever;
+				if (unsafeBasedFieldValueRetriever == null) {
+					synchronized (this) {
+						if ((unsafeBasedFieldValueRetriever = this.unsafeBasedFieldValueRetriever) == null) {
+							this.unsafeBasedFieldValueRetriever = unsafeBasedFieldValueRetriever = unsafeBasedFieldValueRetrieverSupplier.get();
+						}
+					}
+				}
+				return unsafeBasedFieldValueRetriever;
 			}
 
 			protected void checkNativeEngine() throws InitializeException {
@@ -205,6 +672,95 @@ public interface GetFieldValueFunction extends BiFunction<Object, Field, Object>
 					return io.github.toolfactory.narcissus.Narcissus.getField(target, field);
 				}
 			}
+
+			@Override
+			public Object apply(Object target, Field field, AccessMode accessMode) {
+				checkAccessMode(accessMode);
+				if (accessMode == AccessMode.PLAIN) {
+					return apply(target, field);
+				}
+				return getUnsafeBasedFieldValueRetriever().apply(target, field, accessMode);
+			}
+
+			@Override
+			public short getShort(Object target, Field field) {
+				checkType(field, short.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					return io.github.toolfactory.narcissus.Narcissus.getStaticShortField(field);
+				} else {
+					return io.github.toolfactory.narcissus.Narcissus.getShortField(target, field);
+				}
+			}
+
+			@Override
+			public int getInt(Object target, Field field) {
+				checkType(field, int.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					return io.github.toolfactory.narcissus.Narcissus.getStaticIntField(field);
+				} else {
+					return io.github.toolfactory.narcissus.Narcissus.getIntField(target, field);
+				}
+			}
+
+			@Override
+			public long getLong(Object target, Field field) {
+				checkType(field, long.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					return io.github.toolfactory.narcissus.Narcissus.getStaticLongField(field);
+				} else {
+					return io.github.toolfactory.narcissus.Narcissus.getLongField(target, field);
+				}
+			}
+
+			@Override
+			public float getFloat(Object target, Field field) {
+				checkType(field, float.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					return io.github.toolfactory.narcissus.Narcissus.getStaticFloatField(field);
+				} else {
+					return io.github.toolfactory.narcissus.Narcissus.getFloatField(target, field);
+				}
+			}
+
+			@Override
+			public double getDouble(Object target, Field field) {
+				checkType(field, double.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					return io.github.toolfactory.narcissus.Narcissus.getStaticDoubleField(field);
+				} else {
+					return io.github.toolfactory.narcissus.Narcissus.getDoubleField(target, field);
+				}
+			}
+
+			@Override
+			public boolean getBoolean(Object target, Field field) {
+				checkType(field, boolean.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					return io.github.toolfactory.narcissus.Narcissus.getStaticBooleanField(field);
+				} else {
+					return io.github.toolfactory.narcissus.Narcissus.getBooleanField(target, field);
+				}
+			}
+
+			@Override
+			public byte getByte(Object target, Field field) {
+				checkType(field, byte.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					return io.github.toolfactory.narcissus.Narcissus.getStaticByteField(field);
+				} else {
+					return io.github.toolfactory.narcissus.Narcissus.getByteField(target, field);
+				}
+			}
+
+			@Override
+			public char getChar(Object target, Field field) {
+				checkType(field, char.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					return io.github.toolfactory.narcissus.Narcissus.getStaticCharField(field);
+				} else {
+					return io.github.toolfactory.narcissus.Narcissus.getCharField(target, field);
+				}
+			}
 		}
 
 	}
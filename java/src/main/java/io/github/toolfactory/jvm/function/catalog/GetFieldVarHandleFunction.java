@@ -0,0 +1,118 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.toolfactory.jvm.function.template.Function;
+import io.github.toolfactory.jvm.function.template.Supplier;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+
+
+//Returns null while the deep consulter is being built: callers must fall back to another access strategy in that case
+@SuppressWarnings("all")
+public interface GetFieldVarHandleFunction extends Function<Field, VarHandle> {
+
+	public static class ForJava9 implements GetFieldVarHandleFunction {
+		protected ThrowExceptionFunction throwExceptionFunction;
+		protected Supplier<DeepConsulterSupplyFunction> deepConsulterRetrieverSupplier;
+		protected DeepConsulterSupplyFunction deepConsulterRetriever;
+		protected boolean deepConsulterRetrieverInitializing;
+		protected ClassValue<ConcurrentHashMap<Field, VarHandle>> varHandles;
+
+		public ForJava9(final Map<Object, Object> context) {
+			throwExceptionFunction = ObjectProvider.get(context).getOrBuildObject(ThrowExceptionFunction.class, context);
+			deepConsulterRetrieverSupplier = new Supplier<DeepConsulterSupplyFunction>() {
+				@Override
+				public DeepConsulterSupplyFunction get() {
+					return ObjectProvider.get(context).getOrBuildObject(DeepConsulterSupplyFunction.class, context);
+				}
+			};
+			varHandles = new ClassValue<ConcurrentHashMap<Field, VarHandle>>() {
+				@Override
+				protected ConcurrentHashMap<Field, VarHandle> computeValue(Class<?> cls) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+		}
+
+		@Override
+		public VarHandle apply(Field field) {
+			//The VarHandles are stored by declaring class so that they do not keep its class loader alive
+			ConcurrentHashMap<Field, VarHandle> varHandlesForClass = varHandles.get(field.getDeclaringClass());
+			VarHandle varHandle = varHandlesForClass.get(field);
+			if (varHandle != null) {
+				return varHandle;
+			}
+			DeepConsulterSupplyFunction deepConsulterRetriever = getDeepConsulterRetriever();
+			if (deepConsulterRetriever == null) {
+				return null;
+			}
+			try {
+				Class<?> fieldDeclaringClass = field.getDeclaringClass();
+				MethodHandles.Lookup consulter = deepConsulterRetriever.apply(fieldDeclaringClass);
+				varHandle = Modifier.isStatic(field.getModifiers()) ?
+					consulter.findStaticVarHandle(fieldDeclaringClass, field.getName(), field.getType()) :
+					consulter.findVarHandle(fieldDeclaringClass, field.getName(), field.getType());
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+			VarHandle oldVarHandle = varHandlesForClass.putIfAbsent(field, varHandle);
+			return oldVarHandle != null ? oldVarHandle : varHandle;
+		}
+
+		protected DeepConsulterSupplyFunction getDeepConsulterRetriever() {
+			DeepConsulterSupplyFunction deepConsulterRetriever = this.deepConsulterRetriever;
+			if (deepConsulterRetriever == null) {
+				synchronized (this) {
+					if (this.deepConsulterRetriever == null) {
+						//The deep consulter can access fields through the functions that are asking for it
+						if (deepConsulterRetrieverInitializing) {
+							return null;
+						}
+						deepConsulterRetrieverInitializing = true;
+						try {
+							this.deepConsulterRetriever = deepConsulterRetrieverSupplier.get();
+						} finally {
+							deepConsulterRetrieverInitializing = false;
+						}
+					}
+					deepConsulterRetriever = this.deepConsulterRetriever;
+				}
+			}
+			return deepConsulterRetriever;
+		}
+
+	}
+
+}
@@ -0,0 +1,392 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.toolfactory.jvm.function.template.Function;
+import io.github.toolfactory.jvm.util.Classes;
+import io.github.toolfactory.jvm.util.FieldAccessor;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+
+
+@SuppressWarnings("all")
+public interface GetGeneratedFieldAccessorFunction extends Function<Field, FieldAccessor> {
+
+	//No accessor class is generated on Java 7 and 8: the Unsafe based accessors are returned instead
+	public static class ForJava7 implements GetGeneratedFieldAccessorFunction {
+		protected GetFieldAccessorFunction fieldAccessorRetriever;
+
+		public ForJava7(Map<Object, Object> context) {
+			fieldAccessorRetriever = ObjectProvider.get(context).getOrBuildObject(GetFieldAccessorFunction.class, context);
+		}
+
+		@Override
+		public FieldAccessor apply(Field field) {
+			return fieldAccessorRetriever.apply(field);
+		}
+
+	}
+
+
+	public static class ForJava9 extends ForJava7 {
+		protected static final int ACC_SUPER = 0x0020;
+		protected static final int ALOAD_0 = 0x2A;
+		protected static final int ALOAD_1 = 0x2B;
+		protected static final int ALOAD_2 = 0x2C;
+		protected static final int ILOAD = 0x15;
+		protected static final int LLOAD = 0x16;
+		protected static final int FLOAD = 0x17;
+		protected static final int DLOAD = 0x18;
+		protected static final int IRETURN = 0xAC;
+		protected static final int LRETURN = 0xAD;
+		protected static final int FRETURN = 0xAE;
+		protected static final int DRETURN = 0xAF;
+		protected static final int ARETURN = 0xB0;
+		protected static final int RETURN = 0xB1;
+		protected static final int GETSTATIC = 0xB2;
+		protected static final int PUTSTATIC = 0xB3;
+		protected static final int GETFIELD = 0xB4;
+		protected static final int PUTFIELD = 0xB5;
+		protected static final int INVOKEVIRTUAL = 0xB6;
+		protected static final int INVOKESPECIAL = 0xB7;
+		protected static final int INVOKESTATIC = 0xB8;
+		protected static final int CHECKCAST = 0xC0;
+		protected static final String GENERATED_ACCESSOR_RAW_NAME = GeneratedAccessor.class.getName().replace('.', '/');
+		protected static final String GENERATED_ACCESSOR_CONSTRUCTOR_DESCRIPTOR =
+			"(Ljava/lang/reflect/Field;L" + GetFieldAccessorFunction.class.getName().replace('.', '/') + ";)V";
+
+		protected ThrowExceptionFunction throwExceptionFunction;
+		protected DefineHookClassFunction hookClassDefiner;
+		protected DeepConsulterSupplyFunction deepConsulterRetriever;
+		protected ClassValue<Map<Field, FieldAccessor>> generatedAccessors;
+
+		public ForJava9(Map<Object, Object> context) {
+			super(context);
+			ObjectProvider functionProvider = ObjectProvider.get(context);
+			throwExceptionFunction = functionProvider.getOrBuildObject(ThrowExceptionFunction.class, context);
+			deepConsulterRetriever = functionProvider.getOrBuildObject(DeepConsulterSupplyFunction.class, context);
+			initHookClassDefiner(functionProvider, context);
+			generatedAccessors = new ClassValue<Map<Field, FieldAccessor>>() {
+				@Override
+				protected Map<Field, FieldAccessor> computeValue(Class<?> cls) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+		}
+
+		protected void initHookClassDefiner(ObjectProvider functionProvider, Map<Object, Object> context) {
+			hookClassDefiner = functionProvider.getOrBuildObject(DefineHookClassFunction.class, context);
+		}
+
+		//Only the accessor of the requested field is generated and each field gets at most one accessor class
+		@Override
+		public FieldAccessor apply(Field field) {
+			Map<Field, FieldAccessor> accessors = generatedAccessors.get(field.getDeclaringClass());
+			FieldAccessor accessor = accessors.get(field);
+			if (accessor == null) {
+				synchronized (accessors) {
+					if ((accessor = accessors.get(field)) == null) {
+						accessors.put(field, accessor = generateAccessor(field));
+					}
+				}
+			}
+			return accessor;
+		}
+
+		protected FieldAccessor generateAccessor(Field field) {
+			Class<?> cls = field.getDeclaringClass();
+			//Hidden and VM anonymous classes cannot be referred by name from the generated code and the generated
+			//class must be able to load its superclass through the class loader of the field declaring class
+			if (cls.getName().indexOf('/') >= 0 || !isGeneratedAccessorVisibleFrom(cls)) {
+				return super.apply(field);
+			}
+			try {
+				Class<?> accessorClass = defineAccessorClass(
+					cls, generateByteCode(field, cls.getName().replace('.', '/') + "$$FieldAccessor$" + field.getName())
+				);
+				return (FieldAccessor)deepConsulterRetriever.apply(accessorClass).findConstructor(
+					accessorClass, MethodType.methodType(void.class, Field.class, GetFieldAccessorFunction.class)
+				).invokeWithArguments(field, fieldAccessorRetriever);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		protected boolean isGeneratedAccessorVisibleFrom(Class<?> cls) {
+			if (!cls.getModule().canRead(GeneratedAccessor.class.getModule())) {
+				return false;
+			}
+			try {
+				return Class.forName(GeneratedAccessor.class.getName(), false, cls.getClassLoader()) == GeneratedAccessor.class;
+			} catch (ClassNotFoundException exc) {
+				return false;
+			}
+		}
+
+		protected Class<?> defineAccessorClass(Class<?> host, byte[] byteCode) throws Throwable {
+			return hookClassDefiner.apply(host, byteCode);
+		}
+
+		//The generated class extends GeneratedAccessor and overrides the boxed methods and the typed methods of the
+		//field type with a direct getfield or putfield: the setters of final fields are left to GeneratedAccessor
+		protected byte[] generateByteCode(Field field, String className) {
+			String ownerName = field.getDeclaringClass().getName().replace('.', '/');
+			Class<?> fieldType = field.getType();
+			String fieldTypeDescriptor = getDescriptor(fieldType);
+			boolean isStatic = Modifier.isStatic(field.getModifiers());
+			boolean withSetters = !Modifier.isFinal(field.getModifiers());
+			Classes.File.Writer classWriter = new Classes.File.Writer(52, Modifier.PUBLIC | Modifier.FINAL | ACC_SUPER, className, GENERATED_ACCESSOR_RAW_NAME);
+			int fieldRef = classWriter.newFieldRef(ownerName, field.getName(), fieldTypeDescriptor);
+			int ownerRef = classWriter.newClass(ownerName);
+			int generatedAccessorRef = classWriter.newClass(GENERATED_ACCESSOR_RAW_NAME);
+			int targetRef = classWriter.newMethodRef(GENERATED_ACCESSOR_RAW_NAME, "target", "(Ljava/lang/Object;)Ljava/lang/Object;");
+			int valueRef = classWriter.newMethodRef(GENERATED_ACCESSOR_RAW_NAME, "value", "(Ljava/lang/Object;)Ljava/lang/Object;");
+
+			Classes.File.Writer.Buffer code = new Classes.File.Writer.Buffer();
+			code.u1(ALOAD_0).u1(ALOAD_1).u1(ALOAD_2).u1(INVOKESPECIAL).u2(
+				classWriter.newMethodRef(GENERATED_ACCESSOR_RAW_NAME, "<init>", GENERATED_ACCESSOR_CONSTRUCTOR_DESCRIPTOR)
+			).u1(RETURN);
+			classWriter.addMethod(Modifier.PUBLIC, "<init>", GENERATED_ACCESSOR_CONSTRUCTOR_DESCRIPTOR, 3, 3, code);
+
+			code = loadField(new Classes.File.Writer.Buffer(), isStatic, generatedAccessorRef, ownerRef, targetRef, fieldRef);
+			if (fieldType.isPrimitive()) {
+				String wrapperName = Classes.getClassOrWrapper(fieldType).getName().replace('.', '/');
+				code.u1(INVOKESTATIC).u2(classWriter.newMethodRef(wrapperName, "valueOf", "(" + fieldTypeDescriptor + ")L" + wrapperName + ";"));
+			}
+			code.u1(ARETURN);
+			classWriter.addMethod(Modifier.PUBLIC, "get", "(Ljava/lang/Object;)Ljava/lang/Object;", 2, 2, code);
+			if (fieldType.isPrimitive()) {
+				String typeName = Character.toUpperCase(fieldType.getName().charAt(0)) + fieldType.getName().substring(1);
+				code = loadField(new Classes.File.Writer.Buffer(), isStatic, generatedAccessorRef, ownerRef, targetRef, fieldRef);
+				code.u1(getReturnOpcode(fieldType));
+				classWriter.addMethod(Modifier.PUBLIC, "get" + typeName, "(Ljava/lang/Object;)" + fieldTypeDescriptor, 2, 2, code);
+				if (withSetters) {
+					code = loadTarget(new Classes.File.Writer.Buffer(), isStatic, generatedAccessorRef, ownerRef, targetRef);
+					code.u1(getLoadOpcode(fieldType)).u1(2).u1(isStatic ? PUTSTATIC : PUTFIELD).u2(fieldRef).u1(RETURN);
+					classWriter.addMethod(Modifier.PUBLIC, "set" + typeName, "(Ljava/lang/Object;" + fieldTypeDescriptor + ")V", 4, 4, code);
+				}
+			}
+
+			if (withSetters) {
+				code = loadTarget(new Classes.File.Writer.Buffer(), isStatic, generatedAccessorRef, ownerRef, targetRef);
+				code.u1(ALOAD_0).u1(CHECKCAST).u2(generatedAccessorRef).u1(ALOAD_2).u1(INVOKEVIRTUAL).u2(valueRef);
+				if (fieldType.isPrimitive()) {
+					String wrapperName = Classes.getClassOrWrapper(fieldType).getName().replace('.', '/');
+					code.u1(CHECKCAST).u2(classWriter.newClass(wrapperName)).u1(INVOKEVIRTUAL).u2(
+						classWriter.newMethodRef(wrapperName, fieldType.getName() + "Value", "()" + fieldTypeDescriptor)
+					);
+				} else if (fieldType != Object.class) {
+					code.u1(CHECKCAST).u2(classWriter.newClass(fieldType.isArray() ? fieldTypeDescriptor : fieldType.getName().replace('.', '/')));
+				}
+				code.u1(isStatic ? PUTSTATIC : PUTFIELD).u2(fieldRef).u1(RETURN);
+				classWriter.addMethod(Modifier.PUBLIC, "set", "(Ljava/lang/Object;Ljava/lang/Object;)V", 4, 3, code);
+			}
+			return classWriter.toByteArray();
+		}
+
+		//The receiver is cast to GeneratedAccessor since the verifier of Java 9 to 16 would look the VM anonymous class
+		//up by name to check that it is assignable to the owner of the invoked method
+		protected Classes.File.Writer.Buffer loadTarget(Classes.File.Writer.Buffer code, boolean isStatic, int generatedAccessorRef, int ownerRef, int targetRef) {
+			if (!isStatic) {
+				code.u1(ALOAD_0).u1(CHECKCAST).u2(generatedAccessorRef).u1(ALOAD_1).u1(INVOKEVIRTUAL).u2(targetRef).u1(CHECKCAST).u2(ownerRef);
+			}
+			return code;
+		}
+
+		protected Classes.File.Writer.Buffer loadField(Classes.File.Writer.Buffer code, boolean isStatic, int generatedAccessorRef, int ownerRef, int targetRef, int fieldRef) {
+			return loadTarget(code, isStatic, generatedAccessorRef, ownerRef, targetRef).u1(isStatic ? GETSTATIC : GETFIELD).u2(fieldRef);
+		}
+
+		protected int getLoadOpcode(Class<?> primitiveType) {
+			if (primitiveType == long.class) {
+				return LLOAD;
+			} else if (primitiveType == float.class) {
+				return FLOAD;
+			} else if (primitiveType == double.class) {
+				return DLOAD;
+			}
+			return ILOAD;
+		}
+
+		protected int getReturnOpcode(Class<?> primitiveType) {
+			if (primitiveType == long.class) {
+				return LRETURN;
+			} else if (primitiveType == float.class) {
+				return FRETURN;
+			} else if (primitiveType == double.class) {
+				return DRETURN;
+			}
+			return IRETURN;
+		}
+
+		protected String getDescriptor(Class<?> cls) {
+			if (cls.isArray()) {
+				return cls.getName().replace('.', '/');
+			} else if (!cls.isPrimitive()) {
+				return "L" + cls.getName().replace('.', '/') + ";";
+			} else if (cls == short.class) {
+				return "S";
+			} else if (cls == int.class) {
+				return "I";
+			} else if (cls == long.class) {
+				return "J";
+			} else if (cls == float.class) {
+				return "F";
+			} else if (cls == double.class) {
+				return "D";
+			} else if (cls == boolean.class) {
+				return "Z";
+			} else if (cls == byte.class) {
+				return "B";
+			}
+			return "C";
+		}
+
+
+		//The JVM refuses putfield on final fields outside the initializers: their setters go through the Unsafe or
+		//VarHandle based accessor
+		public abstract static class GeneratedAccessor extends FieldAccessor.Abst {
+			protected final GetFieldAccessorFunction fieldAccessorRetriever;
+			protected FieldAccessor finalFieldAccessor;
+
+			public GeneratedAccessor(Field field, GetFieldAccessorFunction fieldAccessorRetriever) {
+				super(field);
+				this.fieldAccessorRetriever = fieldAccessorRetriever;
+			}
+
+			//Invoked by the generated code, that can't use the protected methods since the verifier sees its receiver
+			//as a GeneratedAccessor
+			public final Object target(Object target) {
+				return checkTarget(target);
+			}
+
+			public final Object value(Object value) {
+				return checkValue(value);
+			}
+
+			protected FieldAccessor getFinalFieldAccessor() {
+				FieldAccessor finalFieldAccessor = this.finalFieldAccessor;
+				if (finalFieldAccessor == null) {
+					this.finalFieldAccessor = finalFieldAccessor = fieldAccessorRetriever.apply(field);
+				}
+				return finalFieldAccessor;
+			}
+
+			@Override
+			public void set(Object target, Object value) {
+				getFinalFieldAccessor().set(target, value);
+			}
+
+			@Override
+			public void setShort(Object target, short value) {
+				getFinalFieldAccessor().setShort(target, value);
+			}
+
+			@Override
+			public void setInt(Object target, int value) {
+				getFinalFieldAccessor().setInt(target, value);
+			}
+
+			@Override
+			public void setLong(Object target, long value) {
+				getFinalFieldAccessor().setLong(target, value);
+			}
+
+			@Override
+			public void setFloat(Object target, float value) {
+				getFinalFieldAccessor().setFloat(target, value);
+			}
+
+			@Override
+			public void setDouble(Object target, double value) {
+				getFinalFieldAccessor().setDouble(target, value);
+			}
+
+			@Override
+			public void setBoolean(Object target, boolean value) {
+				getFinalFieldAccessor().setBoolean(target, value);
+			}
+
+			@Override
+			public void setByte(Object target, byte value) {
+				getFinalFieldAccessor().setByte(target, value);
+			}
+
+			@Override
+			public void setChar(Object target, char value) {
+				getFinalFieldAccessor().setChar(target, value);
+			}
+
+		}
+
+	}
+
+
+	//On Java 17 and later the accessor classes are defined as hidden nestmates of the field declaring class:
+	//Lookup.defineHiddenClass is a Java 15 method and is invoked through a MethodHandle
+	public static class ForJava17 extends ForJava9 {
+		protected MethodHandle defineHiddenClassMethodHandle;
+		protected Object nestmateClassOptions;
+
+		public ForJava17(Map<Object, Object> context) {
+			super(context);
+			try {
+				Class<?> classOptionClass = Class.forName(MethodHandles.Lookup.class.getName() + "$ClassOption");
+				nestmateClassOptions = Array.newInstance(classOptionClass, 1);
+				Array.set(nestmateClassOptions, 0, classOptionClass.getField("NESTMATE").get(null));
+				defineHiddenClassMethodHandle = MethodHandles.publicLookup().findVirtual(
+					MethodHandles.Lookup.class,
+					"defineHiddenClass",
+					MethodType.methodType(MethodHandles.Lookup.class, byte[].class, boolean.class, nestmateClassOptions.getClass())
+				).asFixedArity();
+			} catch (Throwable exc) {
+				throwExceptionFunction.apply(exc);
+			}
+		}
+
+		@Override
+		protected void initHookClassDefiner(ObjectProvider functionProvider, Map<Object, Object> context) {}
+
+		@Override
+		protected Class<?> defineAccessorClass(Class<?> host, byte[] byteCode) throws Throwable {
+			return ((MethodHandles.Lookup)defineHiddenClassMethodHandle.invokeWithArguments(
+				deepConsulterRetriever.apply(host), byteCode, true, nestmateClassOptions
+			)).lookupClass();
+		}
+
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.toolfactory.jvm.util.InstanceFactory;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+import io.github.toolfactory.jvm.util.Strings;
+
+
+@SuppressWarnings("all")
+public interface GetInstanceFactoryFunction {
+
+	public <T> InstanceFactory<T> apply(Constructor<T> ctor);
+
+
+	public static class ForJava7 implements GetInstanceFactoryFunction {
+		protected DeepConsulterSupplyFunction deepConsulterRetriever;
+		protected ThrowExceptionFunction throwExceptionFunction;
+		protected ClassValue<ConcurrentHashMap<Constructor<?>, InstanceFactory<?>>> instanceFactories;
+
+		public ForJava7(Map<Object, Object> context) {
+			ObjectProvider functionProvider = ObjectProvider.get(context);
+			deepConsulterRetriever = functionProvider.getOrBuildObject(DeepConsulterSupplyFunction.class, context);
+			throwExceptionFunction = functionProvider.getOrBuildObject(ThrowExceptionFunction.class, context);
+			instanceFactories = new ClassValue<ConcurrentHashMap<Constructor<?>, InstanceFactory<?>>>() {
+				@Override
+				protected ConcurrentHashMap<Constructor<?>, InstanceFactory<?>> computeValue(Class<?> cls) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+		}
+
+		//The factories are stored by declaring class so that they do not keep its class loader alive: each one is
+		//mapped to its own constructor, so the cast to the type of the constructor is safe
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> InstanceFactory<T> apply(Constructor<T> ctor) {
+			ConcurrentHashMap<Constructor<?>, InstanceFactory<?>> instanceFactoriesForClass = instanceFactories.get(ctor.getDeclaringClass());
+			InstanceFactory<T> instanceFactory = (InstanceFactory<T>)instanceFactoriesForClass.get(ctor);
+			if (instanceFactory == null) {
+				try {
+					instanceFactory = new Factory<>(ctor, buildMethodHandle(ctor), throwExceptionFunction);
+				} catch (Throwable exc) {
+					return throwExceptionFunction.apply(exc);
+				}
+				InstanceFactory<T> oldInstanceFactory = (InstanceFactory<T>)instanceFactoriesForClass.putIfAbsent(ctor, instanceFactory);
+				if (oldInstanceFactory != null) {
+					return oldInstanceFactory;
+				}
+			}
+			return instanceFactory;
+		}
+
+		protected MethodHandle buildMethodHandle(Constructor<?> ctor) throws Throwable {
+			Class<?> declaringClass = ctor.getDeclaringClass();
+			return deepConsulterRetriever.apply(declaringClass).findConstructor(
+				declaringClass, MethodType.methodType(void.class, ctor.getParameterTypes())
+			).asFixedArity();
+		}
+
+
+		public static class Factory<T> implements InstanceFactory<T> {
+			protected final Constructor<T> ctor;
+			protected final MethodHandle supplierMethodHandle;
+			protected final MethodHandle functionMethodHandle;
+			protected final MethodHandle spreaderMethodHandle;
+			protected final ThrowExceptionFunction throwExceptionFunction;
+
+			public Factory(Constructor<T> ctor, MethodHandle methodHandle, ThrowExceptionFunction throwExceptionFunction) {
+				this.ctor = ctor;
+				int parameterCount = methodHandle.type().parameterCount();
+				MethodHandle genericMethodHandle = methodHandle.asType(methodHandle.type().generic());
+				this.supplierMethodHandle = parameterCount == 0 ? genericMethodHandle : null;
+				this.functionMethodHandle = parameterCount == 1 ? genericMethodHandle : null;
+				this.spreaderMethodHandle = genericMethodHandle.asSpreader(Object[].class, parameterCount);
+				this.throwExceptionFunction = throwExceptionFunction;
+			}
+
+			@Override
+			public Constructor<T> getConstructor() {
+				return ctor;
+			}
+
+			@Override
+			public T get() {
+				if (supplierMethodHandle == null) {
+					throw new IllegalArgumentException(Strings.compile("{} requires parameters", ctor));
+				}
+				try {
+					return ctor.getDeclaringClass().cast((Object)supplierMethodHandle.invokeExact());
+				} catch (Throwable exc) {
+					return throwExceptionFunction.apply(exc);
+				}
+			}
+
+			@Override
+			public T apply(Object arg) {
+				if (functionMethodHandle == null) {
+					throw new IllegalArgumentException(Strings.compile("{} does not require exactly one parameter", ctor));
+				}
+				try {
+					return ctor.getDeclaringClass().cast((Object)functionMethodHandle.invokeExact(arg));
+				} catch (Throwable exc) {
+					return throwExceptionFunction.apply(exc);
+				}
+			}
+
+			@Override
+			public T newInstance(Object... args) {
+				try {
+					return ctor.getDeclaringClass().cast((Object)spreaderMethodHandle.invokeExact(args));
+				} catch (Throwable exc) {
+					return throwExceptionFunction.apply(exc);
+				}
+			}
+
+			@Override
+			public String toString() {
+				return getClass().getSimpleName() + " for " + ctor;
+			}
+
+		}
+
+	}
+
+}
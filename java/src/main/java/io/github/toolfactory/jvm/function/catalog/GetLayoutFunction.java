@@ -0,0 +1,170 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import io.github.toolfactory.jvm.InfoImpl;
+import io.github.toolfactory.jvm.function.template.Function;
+import io.github.toolfactory.jvm.util.ObjectLayout;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+
+
+@SuppressWarnings("all")
+public interface GetLayoutFunction extends Function<Class<?>, ObjectLayout> {
+
+	public static class ForJava7 implements GetLayoutFunction {
+		protected sun.misc.Unsafe unsafe;
+		protected GetDeclaredFieldsFunction declaredFieldsRetriever;
+		protected ThrowExceptionFunction throwExceptionFunction;
+		protected int headerSize;
+		protected int referenceSize;
+		protected int alignment;
+		protected ClassValue<ObjectLayout> layouts;
+
+		public ForJava7(Map<Object, Object> context) throws Throwable {
+			ObjectProvider functionProvider = ObjectProvider.get(context);
+			unsafe = functionProvider.getOrBuildObject(UnsafeSupplier.class, context).get();
+			declaredFieldsRetriever = functionProvider.getOrBuildObject(GetDeclaredFieldsFunction.class, context);
+			throwExceptionFunction = functionProvider.getOrBuildObject(ThrowExceptionFunction.class, context);
+			//The single field of Integer is laid out right after the header: this takes into account the compressed
+			//class pointers and the compact object headers without reading the VM flags
+			headerSize = (int)unsafe.objectFieldOffset(functionProvider.getOrBuildObject(GetDeclaredFieldFunction.class, context).apply(Integer.class, "value"));
+			referenceSize = unsafe.arrayIndexScale(Object[].class);
+			alignment = InfoImpl.getInstance().getObjectAlignmentInBytes();
+			layouts = new ClassValue<ObjectLayout>() {
+				@Override
+				protected ObjectLayout computeValue(Class<?> cls) {
+					try {
+						return computeLayout(cls);
+					} catch (Throwable exc) {
+						return throwExceptionFunction.apply(exc);
+					}
+				}
+			};
+		}
+
+		@Override
+		public ObjectLayout apply(Class<?> cls) {
+			return layouts.get(cls);
+		}
+
+		protected ObjectLayout computeLayout(Class<?> cls) throws Throwable {
+			if (cls.isPrimitive()) {
+				throw new IllegalArgumentException(cls + " has no object layout");
+			}
+			if (cls.isArray()) {
+				return new ObjectLayout(
+					cls, unsafe.arrayBaseOffset(cls), alignment, unsafe.arrayIndexScale(cls), new ArrayList<ObjectLayout.FieldLayout>()
+				);
+			}
+			List<ObjectLayout.FieldLayout> fields = new ArrayList<>();
+			for (Class<?> currentClass = cls; currentClass != null; currentClass = currentClass.getSuperclass()) {
+				for (Field field : declaredFieldsRetriever.apply(currentClass)) {
+					if (!Modifier.isStatic(field.getModifiers())) {
+						fields.add(new ObjectLayout.FieldLayout(field, getOffset(field), getSize(field.getType())));
+					}
+				}
+			}
+			Collections.sort(fields, new Comparator<ObjectLayout.FieldLayout>() {
+				@Override
+				public int compare(ObjectLayout.FieldLayout fieldOne, ObjectLayout.FieldLayout fieldTwo) {
+					return Long.compare(fieldOne.getOffset(), fieldTwo.getOffset());
+				}
+			});
+			return new ObjectLayout(cls, headerSize, alignment, 0, fields);
+		}
+
+		protected long getOffset(Field field) throws Throwable {
+			return unsafe.objectFieldOffset(field);
+		}
+
+		protected int getSize(Class<?> type) {
+			if (!type.isPrimitive()) {
+				return referenceSize;
+			} else if (type == long.class || type == double.class) {
+				return 8;
+			} else if (type == int.class || type == float.class) {
+				return 4;
+			} else if (type == short.class || type == char.class) {
+				return 2;
+			}
+			return 1;
+		}
+
+	}
+
+	public static class ForJava14 extends ForJava7 {
+		protected DeepConsulterSupplyFunction deepConsulterRetriever;
+		protected volatile MethodHandle internalOffsetRetriever;
+
+		public ForJava14(Map<Object, Object> context) throws Throwable {
+			super(context);
+			deepConsulterRetriever = ObjectProvider.get(context).getOrBuildObject(DeepConsulterSupplyFunction.class, context);
+		}
+
+		//sun.misc.Unsafe rejects the fields of records and hidden classes, while the internal Unsafe still
+		//returns their offsets
+		@Override
+		protected long getOffset(Field field) throws Throwable {
+			try {
+				return super.getOffset(field);
+			} catch (UnsupportedOperationException exc) {
+				return (long)getInternalOffsetRetriever().invokeExact(field);
+			}
+		}
+
+		protected MethodHandle getInternalOffsetRetriever() throws Throwable {
+			MethodHandle internalOffsetRetriever = this.internalOffsetRetriever;
+			if (internalOffsetRetriever == null) {
+				synchronized (this) {
+					internalOffsetRetriever = this.internalOffsetRetriever;
+					if (internalOffsetRetriever == null) {
+						Class<?> internalUnsafeClass = Class.forName("jdk.internal.misc.Unsafe");
+						MethodHandles.Lookup consulter = deepConsulterRetriever.apply(internalUnsafeClass);
+						this.internalOffsetRetriever = internalOffsetRetriever = consulter.findVirtual(
+							internalUnsafeClass, "objectFieldOffset", MethodType.methodType(long.class, Field.class)
+						).bindTo(consulter.findStaticGetter(internalUnsafeClass, "theUnsafe", internalUnsafeClass).invoke());
+					}
+				}
+			}
+			return internalOffsetRetriever;
+		}
+
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.toolfactory.jvm.function.template.Function;
+import io.github.toolfactory.jvm.util.MethodInvoker;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+
+
+@SuppressWarnings("all")
+public interface GetMethodInvokerFunction extends Function<Method, MethodInvoker> {
+
+	public static class ForJava7 implements GetMethodInvokerFunction {
+		protected static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+		protected DeepConsulterSupplyFunction deepConsulterRetriever;
+		protected ThrowExceptionFunction throwExceptionFunction;
+		protected ClassValue<ConcurrentHashMap<Method, MethodInvoker>> invokers;
+
+		public ForJava7(Map<Object, Object> context) {
+			ObjectProvider functionProvider = ObjectProvider.get(context);
+			deepConsulterRetriever = functionProvider.getOrBuildObject(DeepConsulterSupplyFunction.class, context);
+			throwExceptionFunction = functionProvider.getOrBuildObject(ThrowExceptionFunction.class, context);
+			invokers = new ClassValue<ConcurrentHashMap<Method, MethodInvoker>>() {
+				@Override
+				protected ConcurrentHashMap<Method, MethodInvoker> computeValue(Class<?> cls) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+		}
+
+		//The invokers are stored by declaring class so that they do not keep its class loader alive
+		@Override
+		public MethodInvoker apply(Method method) {
+			ConcurrentHashMap<Method, MethodInvoker> invokersForClass = invokers.get(method.getDeclaringClass());
+			MethodInvoker invoker = invokersForClass.get(method);
+			if (invoker == null) {
+				try {
+					invoker = new Invoker(method, buildMethodHandle(method), throwExceptionFunction);
+				} catch (Throwable exc) {
+					return throwExceptionFunction.apply(exc);
+				}
+				MethodInvoker oldInvoker = invokersForClass.putIfAbsent(method, invoker);
+				if (oldInvoker != null) {
+					return oldInvoker;
+				}
+			}
+			return invoker;
+		}
+
+		//Adapts the method to the (Object, Object[])Object shape so that it can be called with invokeExact
+		protected MethodHandle buildMethodHandle(Method method) throws Throwable {
+			MethodHandle methodHandle = deepConsulterRetriever.apply(method.getDeclaringClass()).unreflect(method).asFixedArity();
+			if (Modifier.isStatic(method.getModifiers())) {
+				methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+			}
+			return methodHandle.asSpreader(Object[].class, method.getParameterTypes().length).asType(INVOKER_TYPE);
+		}
+
+
+		public static class Invoker implements MethodInvoker {
+			protected final Method method;
+			protected final MethodHandle methodHandle;
+			protected final ThrowExceptionFunction throwExceptionFunction;
+
+			public Invoker(Method method, MethodHandle methodHandle, ThrowExceptionFunction throwExceptionFunction) {
+				this.method = method;
+				this.methodHandle = methodHandle;
+				this.throwExceptionFunction = throwExceptionFunction;
+			}
+
+			@Override
+			public Method getMethod() {
+				return method;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T invoke(Object target, Object... params) {
+				try {
+					return (T)(Object)methodHandle.invokeExact(target, params);
+				} catch (Throwable exc) {
+					return throwExceptionFunction.apply(exc);
+				}
+			}
+
+			@Override
+			public String toString() {
+				return getClass().getSimpleName() + " for " + method;
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import io.github.toolfactory.jvm.util.MethodInvoker;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+import io.github.toolfactory.jvm.util.Strings;
+
+
+@SuppressWarnings("all")
+public interface InvokeAllFunction {
+
+	//results can be null when the returned values are not needed and forkJoinPool can be null for a sequential execution
+	public void apply(Method method, Iterable<?> targets, Object[] params, Object[] results, ForkJoinPool forkJoinPool);
+
+
+	public static class ForJava7 implements InvokeAllFunction {
+		protected static final int SEQUENTIAL_THRESHOLD = 1024;
+
+		protected GetMethodInvokerFunction methodInvokerRetriever;
+
+		public ForJava7(Map<Object, Object> context) {
+			methodInvokerRetriever = ObjectProvider.get(context).getOrBuildObject(GetMethodInvokerFunction.class, context);
+		}
+
+		@Override
+		public void apply(Method method, Iterable<?> targets, Object[] params, Object[] results, ForkJoinPool forkJoinPool) {
+			MethodInvoker methodInvoker = methodInvokerRetriever.apply(method);
+			if (forkJoinPool == null || (targets instanceof Collection && ((Collection<?>)targets).size() <= SEQUENTIAL_THRESHOLD)) {
+				invokeSequentially(methodInvoker, targets, params, results);
+				return;
+			}
+			List<?> targetList = toRandomAccessList(targets);
+			checkResultsLength(targetList.size(), results);
+			forkJoinPool.invoke(new Task(methodInvoker, targetList, params, results, 0, targetList.size()));
+		}
+
+		protected void invokeSequentially(MethodInvoker methodInvoker, Iterable<?> targets, Object[] params, Object[] results) {
+			if (targets instanceof Collection) {
+				checkResultsLength(((Collection<?>)targets).size(), results);
+			}
+			int index = 0;
+			for (Object target : targets) {
+				Object result = methodInvoker.invoke(target, params);
+				if (results != null) {
+					if (index >= results.length) {
+						throw new IllegalArgumentException(
+							Strings.compile("The results array length ({}) is less than the number of targets", results.length)
+						);
+					}
+					results[index] = result;
+				}
+				index++;
+			}
+		}
+
+		protected void checkResultsLength(int targetsCount, Object[] results) {
+			if (results != null && results.length < targetsCount) {
+				throw new IllegalArgumentException(
+					Strings.compile("The results array length ({}) is less than the number of targets ({})", results.length, targetsCount)
+				);
+			}
+		}
+
+		protected List<?> toRandomAccessList(Iterable<?> targets) {
+			if (targets instanceof List && targets instanceof RandomAccess) {
+				return (List<?>)targets;
+			}
+			List<Object> targetList = targets instanceof Collection ?
+				new ArrayList<>(((Collection<?>)targets).size()) :
+				new ArrayList<>();
+			for (Object target : targets) {
+				targetList.add(target);
+			}
+			return targetList;
+		}
+
+
+		protected static class Task extends RecursiveAction {
+			private static final long serialVersionUID = 3442135815279540758L;
+
+			protected final MethodInvoker methodInvoker;
+			protected final List<?> targets;
+			protected final Object[] params;
+			protected final Object[] results;
+			protected final int from;
+			protected final int to;
+
+			protected Task(MethodInvoker methodInvoker, List<?> targets, Object[] params, Object[] results, int from, int to) {
+				this.methodInvoker = methodInvoker;
+				this.targets = targets;
+				this.params = params;
+				this.results = results;
+				this.from = from;
+				this.to = to;
+			}
+
+			@Override
+			protected void compute() {
+				if (to - from <= SEQUENTIAL_THRESHOLD) {
+					for (int i = from; i < to; i++) {
+						Object result = methodInvoker.invoke(targets.get(i), params);
+						if (results != null) {
+							results[i] = result;
+						}
+					}
+					return;
+				}
+				int middle = (from + to) >>> 1;
+				invokeAll(
+					new Task(methodInvoker, targets, params, results, from, middle),
+					new Task(methodInvoker, targets, params, results, middle, to)
+				);
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,344 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.toolfactory.jvm.util.Classes;
+import io.github.toolfactory.jvm.util.MethodInvoker;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+import io.github.toolfactory.jvm.util.Strings;
+
+
+@SuppressWarnings("all")
+public interface InvokeByNameFunction {
+
+	public Object apply(Object target, String name, Object[] args);
+
+
+	public static class ForJava7 implements InvokeByNameFunction {
+		protected static final int MAX_CACHED_RESOLUTIONS = 4096;
+		protected static final int STRICT_PHASE = 0;
+		protected static final int LOOSE_PHASE = 1;
+		protected static final int VARIABLE_ARITY_PHASE = 2;
+		protected static final Map<Class<?>, Collection<Class<?>>> PRIMITIVE_WIDENINGS;
+
+		static {
+			PRIMITIVE_WIDENINGS = new LinkedHashMap<>();
+			PRIMITIVE_WIDENINGS.put(byte.class, Arrays.<Class<?>>asList(short.class, int.class, long.class, float.class, double.class));
+			PRIMITIVE_WIDENINGS.put(short.class, Arrays.<Class<?>>asList(int.class, long.class, float.class, double.class));
+			PRIMITIVE_WIDENINGS.put(char.class, Arrays.<Class<?>>asList(int.class, long.class, float.class, double.class));
+			PRIMITIVE_WIDENINGS.put(int.class, Arrays.<Class<?>>asList(long.class, float.class, double.class));
+			PRIMITIVE_WIDENINGS.put(long.class, Arrays.<Class<?>>asList(float.class, double.class));
+			PRIMITIVE_WIDENINGS.put(float.class, Arrays.<Class<?>>asList(double.class));
+		}
+
+		protected GetDeclaredMethodsFunction getDeclaredMethodsFunction;
+		protected GetMethodInvokerFunction getMethodInvokerFunction;
+		protected ThrowExceptionFunction throwExceptionFunction;
+		protected ClassValue<ConcurrentHashMap<Key, Resolution>> resolutions;
+
+		public ForJava7(Map<Object, Object> context) {
+			ObjectProvider functionProvider = ObjectProvider.get(context);
+			getDeclaredMethodsFunction = functionProvider.getOrBuildObject(GetDeclaredMethodsFunction.class, context);
+			getMethodInvokerFunction = functionProvider.getOrBuildObject(GetMethodInvokerFunction.class, context);
+			throwExceptionFunction = functionProvider.getOrBuildObject(ThrowExceptionFunction.class, context);
+			resolutions = new ClassValue<ConcurrentHashMap<Key, Resolution>>() {
+				@Override
+				protected ConcurrentHashMap<Key, Resolution> computeValue(Class<?> cls) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+		}
+
+		@Override
+		public Object apply(Object target, String name, Object[] args) {
+			if (target == null) {
+				throw new IllegalArgumentException(Strings.compile("Cannot invoke method {} on a null target", name));
+			}
+			if (args == null) {
+				args = new Object[0];
+			}
+			Class<?>[] argumentTypes = new Class<?>[args.length];
+			for (int i = 0; i < args.length; i++) {
+				argumentTypes[i] = args[i] != null ? args[i].getClass() : null;
+			}
+			Class<?> cls = target.getClass();
+			Key key = new Key(name, argumentTypes);
+			//The resolutions are stored in a ClassValue of the target class and the ones of a class are discarded
+			//all together when they exceed the limit, so that the lookups never lock
+			ConcurrentHashMap<Key, Resolution> resolutionsForClass = resolutions.get(cls);
+			Resolution resolution = resolutionsForClass.get(key);
+			if (resolution == null) {
+				resolution = resolve(cls, key);
+				if (resolutionsForClass.size() >= MAX_CACHED_RESOLUTIONS) {
+					resolutionsForClass.clear();
+				}
+				resolutionsForClass.put(key, resolution);
+			}
+			return resolution.invoke(target, args);
+		}
+
+		protected Resolution resolve(Class<?> cls, Key key) {
+			Collection<Method> candidates = retrieveCandidates(cls, key.name);
+			//The phases of the Java compiler overload resolution are followed: subtyping only, then unboxing
+			//and primitive widening and finally variable arity
+			for (int phase = STRICT_PHASE; phase <= VARIABLE_ARITY_PHASE; phase++) {
+				Method method = findMostSpecific(candidates, key.argumentTypes, phase);
+				if (method != null) {
+					return new Resolution(getMethodInvokerFunction.apply(method), phase == VARIABLE_ARITY_PHASE);
+				}
+			}
+			throw new IllegalArgumentException(
+				Strings.compile("No method named {} applicable to arguments {} found in {} hierarchy", key.name, Arrays.toString(key.argumentTypes), cls)
+			);
+		}
+
+		//Methods declared by subclasses hide the overridden ones declared by superclasses and interfaces
+		protected Collection<Method> retrieveCandidates(Class<?> cls, String name) {
+			Collection<Method> candidates = new ArrayList<>();
+			Set<String> signatures = new HashSet<>();
+			Set<Class<?>> visitedClasses = new HashSet<>();
+			Collection<Class<?>> classes = new ArrayList<>();
+			classes.add(cls);
+			while (!classes.isEmpty()) {
+				Collection<Class<?>> nextClasses = new ArrayList<>();
+				for (Class<?> currentClass : classes) {
+					if (!visitedClasses.add(currentClass)) {
+						continue;
+					}
+					Method[] declaredMethods;
+					try {
+						declaredMethods = getDeclaredMethodsFunction.apply(currentClass);
+					} catch (Throwable exc) {
+						return throwExceptionFunction.apply(exc);
+					}
+					for (Method method : declaredMethods) {
+						if (method.getName().equals(name) && !method.isBridge() &&
+							signatures.add(Arrays.toString(method.getParameterTypes()))
+						) {
+							candidates.add(method);
+						}
+					}
+					if (currentClass.getSuperclass() != null) {
+						nextClasses.add(currentClass.getSuperclass());
+					}
+					nextClasses.addAll(Arrays.asList(currentClass.getInterfaces()));
+				}
+				classes = nextClasses;
+			}
+			return candidates;
+		}
+
+		//As the Java compiler does, the call is rejected when more than one applicable method is not less specific
+		//than all the others
+		protected Method findMostSpecific(Collection<Method> candidates, Class<?>[] argumentTypes, int phase) {
+			List<Method> applicableMethods = new ArrayList<>();
+			for (Method method : candidates) {
+				if (isApplicable(method, argumentTypes, phase)) {
+					applicableMethods.add(method);
+				}
+			}
+			Method mostSpecific = null;
+			for (Method method : applicableMethods) {
+				if (isMaximallySpecific(method, applicableMethods, phase == VARIABLE_ARITY_PHASE)) {
+					if (mostSpecific != null) {
+						throw new IllegalArgumentException(
+							Strings.compile(
+								"Ambiguous invocation of method {} with arguments {}: both {} and {} match",
+								method.getName(), Arrays.toString(argumentTypes), mostSpecific, method
+							)
+						);
+					}
+					mostSpecific = method;
+				}
+			}
+			return mostSpecific;
+		}
+
+		protected boolean isMaximallySpecific(Method method, Collection<Method> applicableMethods, boolean varArgs) {
+			for (Method other : applicableMethods) {
+				if (other != method && isMoreSpecific(other, method, varArgs)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		protected boolean isApplicable(Method method, Class<?>[] argumentTypes, int phase) {
+			Class<?>[] parameterTypes = method.getParameterTypes();
+			if (phase != VARIABLE_ARITY_PHASE) {
+				if (parameterTypes.length != argumentTypes.length) {
+					return false;
+				}
+				for (int i = 0; i < parameterTypes.length; i++) {
+					if (!isConvertible(argumentTypes[i], parameterTypes[i], phase == LOOSE_PHASE)) {
+						return false;
+					}
+				}
+				return true;
+			}
+			if (!method.isVarArgs()) {
+				return false;
+			}
+			int fixedParametersCount = parameterTypes.length - 1;
+			if (argumentTypes.length < fixedParametersCount) {
+				return false;
+			}
+			for (int i = 0; i < fixedParametersCount; i++) {
+				if (!isConvertible(argumentTypes[i], parameterTypes[i], true)) {
+					return false;
+				}
+			}
+			Class<?> componentType = parameterTypes[fixedParametersCount].getComponentType();
+			for (int i = fixedParametersCount; i < argumentTypes.length; i++) {
+				if (!isConvertible(argumentTypes[i], componentType, true)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		protected boolean isMoreSpecific(Method method, Method other, boolean varArgs) {
+			Class<?>[] parameterTypes = method.getParameterTypes();
+			Class<?>[] otherParameterTypes = other.getParameterTypes();
+			if (varArgs) {
+				if (parameterTypes.length != otherParameterTypes.length) {
+					return parameterTypes.length > otherParameterTypes.length;
+				}
+			}
+			for (int i = 0; i < parameterTypes.length; i++) {
+				if (!isSubtypeOrWidening(parameterTypes[i], otherParameterTypes[i])) {
+					return false;
+				}
+			}
+			return !Arrays.equals(parameterTypes, otherParameterTypes);
+		}
+
+		//A null argument type stands for a null argument that is convertible to any reference type
+		protected boolean isConvertible(Class<?> argumentType, Class<?> parameterType, boolean unboxing) {
+			if (argumentType == null) {
+				return !parameterType.isPrimitive();
+			}
+			if (!parameterType.isPrimitive()) {
+				return parameterType.isAssignableFrom(argumentType);
+			}
+			if (!unboxing) {
+				return false;
+			}
+			if (Classes.isAssignableFrom(parameterType, argumentType)) {
+				return true;
+			}
+			for (Map.Entry<Class<?>, Collection<Class<?>>> widening : PRIMITIVE_WIDENINGS.entrySet()) {
+				if (Classes.getClassOrWrapper(widening.getKey()) == argumentType) {
+					return widening.getValue().contains(parameterType);
+				}
+			}
+			return false;
+		}
+
+		protected boolean isSubtypeOrWidening(Class<?> type, Class<?> otherType) {
+			if (type.isPrimitive() && otherType.isPrimitive()) {
+				Collection<Class<?>> widenings = PRIMITIVE_WIDENINGS.get(type);
+				return type == otherType || (widenings != null && widenings.contains(otherType));
+			}
+			return otherType.isAssignableFrom(type);
+		}
+
+
+		protected static class Key {
+			protected final String name;
+			protected final Class<?>[] argumentTypes;
+			protected final int hashCode;
+
+			protected Key(String name, Class<?>[] argumentTypes) {
+				this.name = name;
+				this.argumentTypes = argumentTypes;
+				this.hashCode = 31 * name.hashCode() + Arrays.hashCode(argumentTypes);
+			}
+
+			@Override
+			public int hashCode() {
+				return hashCode;
+			}
+
+			@Override
+			public boolean equals(Object object) {
+				if (this == object) {
+					return true;
+				}
+				if (!(object instanceof Key)) {
+					return false;
+				}
+				Key key = (Key)object;
+				return name.equals(key.name) && Arrays.equals(argumentTypes, key.argumentTypes);
+			}
+
+		}
+
+
+		protected static class Resolution {
+			protected final MethodInvoker invoker;
+			protected final boolean packVarArgs;
+
+			protected Resolution(MethodInvoker invoker, boolean packVarArgs) {
+				this.invoker = invoker;
+				this.packVarArgs = packVarArgs;
+			}
+
+			protected Object invoke(Object target, Object[] args) {
+				if (!packVarArgs) {
+					return invoker.invoke(target, args);
+				}
+				Class<?>[] parameterTypes = invoker.getMethod().getParameterTypes();
+				int fixedParametersCount = parameterTypes.length - 1;
+				Object[] packedArgs = new Object[parameterTypes.length];
+				System.arraycopy(args, 0, packedArgs, 0, fixedParametersCount);
+				Object varArgs = Array.newInstance(parameterTypes[fixedParametersCount].getComponentType(), args.length - fixedParametersCount);
+				for (int i = fixedParametersCount; i < args.length; i++) {
+					Array.set(varArgs, i - fixedParametersCount, args[i]);
+				}
+				packedArgs[fixedParametersCount] = varArgs;
+				return invoker.invoke(target, packedArgs);
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.toolfactory.jvm.util.ObjectProvider;
+import io.github.toolfactory.jvm.util.Strings;
+
+
+@SuppressWarnings("all")
+public interface InvokeSpecialFunction {
+
+	public Object apply(Object target, Method method, Class<?> specialCaller, Object[] args);
+
+
+	public static class ForJava7 implements InvokeSpecialFunction {
+		protected static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+		protected DeepConsulterSupplyFunction deepConsulterRetriever;
+		protected ThrowExceptionFunction throwExceptionFunction;
+		protected ClassValue<ConcurrentHashMap<Method, MethodHandle>> methodHandles;
+
+		public ForJava7(Map<Object, Object> context) {
+			ObjectProvider functionProvider = ObjectProvider.get(context);
+			deepConsulterRetriever = functionProvider.getOrBuildObject(DeepConsulterSupplyFunction.class, context);
+			throwExceptionFunction = functionProvider.getOrBuildObject(ThrowExceptionFunction.class, context);
+			methodHandles = new ClassValue<ConcurrentHashMap<Method, MethodHandle>>() {
+				@Override
+				protected ConcurrentHashMap<Method, MethodHandle> computeValue(Class<?> cls) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+		}
+
+		@Override
+		public Object apply(Object target, Method method, Class<?> specialCaller, Object[] args) {
+			if (!specialCaller.isInstance(target)) {
+				throw new IllegalArgumentException(
+					Strings.compile("Target object class {} is not assignable to {}", target != null ? target.getClass() : null, specialCaller)
+				);
+			}
+			try {
+				return (Object)retrieveMethodHandle(method, specialCaller).invokeExact(target, args);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		//The method handles are stored in a ClassValue of the special caller, that is a subclass of the declaring class
+		//of the method, so that they do not keep the class loaders of both alive
+		protected MethodHandle retrieveMethodHandle(Method method, Class<?> specialCaller) throws Throwable {
+			ConcurrentHashMap<Method, MethodHandle> methodHandlesForSpecialCaller = methodHandles.get(specialCaller);
+			MethodHandle methodHandle = methodHandlesForSpecialCaller.get(method);
+			if (methodHandle == null) {
+				methodHandle = buildMethodHandle(method, specialCaller);
+				MethodHandle oldMethodHandle = methodHandlesForSpecialCaller.putIfAbsent(method, methodHandle);
+				if (oldMethodHandle != null) {
+					methodHandle = oldMethodHandle;
+				}
+			}
+			return methodHandle;
+		}
+
+		//The method is bound to the implementation visible from the special caller: overriding methods are skipped
+		protected MethodHandle buildMethodHandle(Method method, Class<?> specialCaller) throws Throwable {
+			if (Modifier.isStatic(method.getModifiers()) || Modifier.isAbstract(method.getModifiers())) {
+				throw new IllegalArgumentException(Strings.compile("{} cannot be invoked as a special method", method));
+			}
+			return deepConsulterRetriever.apply(specialCaller).unreflectSpecial(method, specialCaller).asFixedArity()
+				.asSpreader(Object[].class, method.getParameterTypes().length).asType(INVOKER_TYPE);
+		}
+
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import io.github.toolfactory.jvm.function.InitializeException;
+import io.github.toolfactory.jvm.util.Strings;
+import io.github.toolfactory.narcissus.Narcissus;
+
+
+//Entry points that a native engine exposes for batched field operations: arguments are validated by the caller
+@SuppressWarnings("all")
+public interface NativeEngine {
+
+	public Object[] getFieldValues(Object target, Field[] fields);
+
+	public void setFieldValues(Object target, Field[] fields, Object[] values);
+
+	public Object[] getFieldValues(Object[] targets, Field field);
+
+	public void setFieldValues(Object[] targets, Field field, Object[] values);
+
+
+	public static interface NarcissusBased extends NativeEngine {
+
+		//Narcissus exposes no batched entry points, so each value still costs a JNI transition:
+		//engines providing real batched natives can be plugged in through NativeDriver.getNativeEngineClass()
+		public static class ForJava7 implements NarcissusBased {
+
+			public ForJava7(Map<Object, Object> context) throws InitializeException {
+				checkNativeEngine();
+			}
+
+			protected void checkNativeEngine() throws InitializeException {
+				if (!Narcissus.libraryLoaded) {
+					throw new InitializeException(
+						Strings.compile(
+							"Could not initialize the native engine {}",
+							io.github.toolfactory.narcissus.Narcissus.class.getName()
+						)
+					);
+				}
+			}
+
+			@Override
+			public Object[] getFieldValues(Object target, Field[] fields) {
+				Object[] values = new Object[fields.length];
+				for (int i = 0; i < fields.length; i++) {
+					values[i] = getFieldValue(target, fields[i]);
+				}
+				return values;
+			}
+
+			@Override
+			public void setFieldValues(Object target, Field[] fields, Object[] values) {
+				for (int i = 0; i < fields.length; i++) {
+					setFieldValue(target, fields[i], values[i]);
+				}
+			}
+
+			@Override
+			public Object[] getFieldValues(Object[] targets, Field field) {
+				Object[] values = new Object[targets.length];
+				for (int i = 0; i < targets.length; i++) {
+					values[i] = getFieldValue(targets[i], field);
+				}
+				return values;
+			}
+
+			@Override
+			public void setFieldValues(Object[] targets, Field field, Object[] values) {
+				for (int i = 0; i < targets.length; i++) {
+					setFieldValue(targets[i], field, values[i]);
+				}
+			}
+
+			protected Object getFieldValue(Object target, Field field) {
+				if (Modifier.isStatic(field.getModifiers())) {
+					return io.github.toolfactory.narcissus.Narcissus.getStaticField(field);
+				}
+				return io.github.toolfactory.narcissus.Narcissus.getField(target, field);
+			}
+
+			protected void setFieldValue(Object target, Field field, Object value) {
+				if (Modifier.isStatic(field.getModifiers())) {
+					io.github.toolfactory.narcissus.Narcissus.setStaticField(field, value);
+				} else {
+					io.github.toolfactory.narcissus.Narcissus.setField(target, field, value);
+				}
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.toolfactory.jvm.util.ObjectProvider;
+import io.github.toolfactory.jvm.util.Strings;
+
+
+@SuppressWarnings("all")
+public interface NewInstanceWithSuperConstructorFunction {
+
+	public <T> T apply(Class<T> cls, Constructor<?> superCtor, Object[] args);
+
+
+	//The instances are allocated as the class passed as parameter but only the constructor of its superclass is executed,
+	//as the deserialization mechanism does
+	public static class ForJava7 implements NewInstanceWithSuperConstructorFunction {
+		protected sun.reflect.ReflectionFactory reflectionFactory;
+		protected SetAccessibleFunction accessibleSetter;
+		protected ThrowExceptionFunction throwExceptionFunction;
+		protected ClassValue<ConcurrentHashMap<Constructor<?>, Constructor<?>>> constructors;
+
+		public ForJava7(Map<Object, Object> context) {
+			ObjectProvider functionProvider = ObjectProvider.get(context);
+			accessibleSetter = functionProvider.getOrBuildObject(SetAccessibleFunction.class, context);
+			throwExceptionFunction = functionProvider.getOrBuildObject(ThrowExceptionFunction.class, context);
+			reflectionFactory = sun.reflect.ReflectionFactory.getReflectionFactory();
+			constructors = new ClassValue<ConcurrentHashMap<Constructor<?>, Constructor<?>>>() {
+				@Override
+				protected ConcurrentHashMap<Constructor<?>, Constructor<?>> computeValue(Class<?> cls) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+		}
+
+		@Override
+		public <T> T apply(Class<T> cls, Constructor<?> superCtor, Object[] args) {
+			try {
+				return cls.cast(retrieveConstructor(cls, superCtor).newInstance(args));
+			} catch (InvocationTargetException exc) {
+				return throwExceptionFunction.apply(exc.getCause());
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		//The constructors are stored in a ClassValue of the allocated class so that they do not keep its class loader alive
+		protected Constructor<?> retrieveConstructor(Class<?> cls, Constructor<?> superCtor) throws Throwable {
+			ConcurrentHashMap<Constructor<?>, Constructor<?>> constructorsForClass = constructors.get(cls);
+			Constructor<?> ctor = constructorsForClass.get(superCtor);
+			if (ctor == null) {
+				if (!superCtor.getDeclaringClass().isAssignableFrom(cls) || cls.isInterface() || cls.isArray() || cls.isPrimitive()) {
+					throw new IllegalArgumentException(
+						Strings.compile("{} is not a constructor of a superclass of {}", superCtor, cls.getName())
+					);
+				}
+				ctor = reflectionFactory.newConstructorForSerialization(cls, superCtor);
+				accessibleSetter.accept(ctor, true);
+				Constructor<?> oldCtor = constructorsForClass.putIfAbsent(superCtor, ctor);
+				if (oldCtor != null) {
+					ctor = oldCtor;
+				}
+			}
+			return ctor;
+		}
+
+	}
+
+}
@@ -0,0 +1,351 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.toolfactory.jvm.util.Classes;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+import io.github.toolfactory.jvm.util.Strings;
+
+
+@SuppressWarnings("all")
+public interface NewProxyFunction {
+
+	public <T> T apply(Class<T> type, Object handler);
+
+
+	//The generated class extends the proxied class (or implements the proxied interface) and every method
+	//for which the handler has a public method with the same name and parameter types is overridden with
+	//a straight call to it: arguments and return values are passed as they are, without boxing
+	public static class ForJava7 implements NewProxyFunction {
+		protected static final int ACC_SUPER = 0x0020;
+		protected static final int ILOAD = 0x15;
+		protected static final int LLOAD = 0x16;
+		protected static final int FLOAD = 0x17;
+		protected static final int DLOAD = 0x18;
+		protected static final int ALOAD = 0x19;
+		protected static final int ALOAD_0 = 0x2A;
+		protected static final int IRETURN = 0xAC;
+		protected static final int LRETURN = 0xAD;
+		protected static final int FRETURN = 0xAE;
+		protected static final int DRETURN = 0xAF;
+		protected static final int ARETURN = 0xB0;
+		protected static final int RETURN = 0xB1;
+		protected static final int GETFIELD = 0xB4;
+		protected static final int INVOKEVIRTUAL = 0xB6;
+		protected static final int INVOKEINTERFACE = 0xB9;
+		protected static final String HANDLER_FIELD_NAME = "handler";
+
+		protected ThrowExceptionFunction throwExceptionFunction;
+		protected GetDeclaredMethodsFunction declaredMethodsRetriever;
+		protected GetDeclaredFieldsFunction declaredFieldsRetriever;
+		protected DefineHookClassFunction hookClassDefiner;
+		protected AllocateInstanceFunction instanceAllocator;
+		protected SetFieldValueFunction fieldValueSetter;
+		protected ClassValue<ClassValue<Field>> handlerFields;
+		protected AtomicInteger proxyClassCounter;
+
+		public ForJava7(Map<Object, Object> context) {
+			ObjectProvider functionProvider = ObjectProvider.get(context);
+			throwExceptionFunction = functionProvider.getOrBuildObject(ThrowExceptionFunction.class, context);
+			declaredMethodsRetriever = functionProvider.getOrBuildObject(GetDeclaredMethodsFunction.class, context);
+			declaredFieldsRetriever = functionProvider.getOrBuildObject(GetDeclaredFieldsFunction.class, context);
+			hookClassDefiner = functionProvider.getOrBuildObject(DefineHookClassFunction.class, context);
+			instanceAllocator = functionProvider.getOrBuildObject(AllocateInstanceFunction.class, context);
+			fieldValueSetter = functionProvider.getOrBuildObject(SetFieldValueFunction.class, context);
+			//The handler fields are stored in a ClassValue of the proxied type whose value is in turn a ClassValue
+			//of the handler type, so that neither type keeps the other and the proxy class alive
+			handlerFields = new ClassValue<ClassValue<Field>>() {
+				@Override
+				protected ClassValue<Field> computeValue(final Class<?> type) {
+					return new ClassValue<Field>() {
+						@Override
+						protected Field computeValue(Class<?> handlerType) {
+							try {
+								return declaredFieldsRetriever.apply(generateProxyClass(type, handlerType))[0];
+							} catch (Throwable exc) {
+								return throwExceptionFunction.apply(exc);
+							}
+						}
+					};
+				}
+			};
+			proxyClassCounter = new AtomicInteger();
+		}
+
+		@Override
+		public <T> T apply(Class<T> type, Object handler) {
+			if (handler == null) {
+				throw new IllegalArgumentException("Handler is null");
+			}
+			try {
+				Field handlerField = retrieveHandlerField(type, handler.getClass());
+				Object proxy = instanceAllocator.apply(handlerField.getDeclaringClass());
+				fieldValueSetter.accept(proxy, handlerField, handler);
+				return type.cast(proxy);
+			} catch (Throwable exc) {
+				return throwExceptionFunction.apply(exc);
+			}
+		}
+
+		protected Field retrieveHandlerField(Class<?> type, Class<?> handlerType) {
+			return handlerFields.get(type).get(handlerType);
+		}
+
+		protected Class<?> generateProxyClass(Class<?> type, Class<?> handlerType) throws Throwable {
+			if (type.isPrimitive() || type.isArray() || (!type.isInterface() && Modifier.isFinal(type.getModifiers()))) {
+				throw new IllegalArgumentException(Strings.compile("Cannot generate a proxy for {}", type));
+			}
+			Class<?> host = retrieveHost(type, handlerType);
+			String hostRawName = host.getName().replace('.', '/');
+			String className = hostRawName.substring(0, hostRawName.lastIndexOf('/') + 1) +
+				type.getSimpleName() + "$$Proxy$" + proxyClassCounter.getAndIncrement();
+			String typeRawName = type.getName().replace('.', '/');
+			String handlerRawName = handlerType.getName().replace('.', '/');
+			String handlerDescriptor = "L" + handlerRawName + ";";
+			Classes.File.Writer classWriter = type.isInterface() ?
+				new Classes.File.Writer(51, Modifier.PUBLIC | Modifier.FINAL | ACC_SUPER, className, "java/lang/Object", typeRawName) :
+				new Classes.File.Writer(51, Modifier.PUBLIC | Modifier.FINAL | ACC_SUPER, className, typeRawName);
+			classWriter.addField(Modifier.PUBLIC, HANDLER_FIELD_NAME, handlerDescriptor);
+			Map<String, Method> handlerMethods = retrieveHandlerMethods(handlerType);
+			for (Method method : retrieveOverridableMethods(type)) {
+				String signature = method.getName() + Arrays.toString(method.getParameterTypes());
+				Method handlerMethod = handlerMethods.get(signature);
+				if (handlerMethod == null || !isReturnTypeCompatible(handlerMethod.getReturnType(), method.getReturnType())) {
+					if (Modifier.isAbstract(method.getModifiers()) && !isRedeclaredObjectMethod(method)) {
+						throw new IllegalArgumentException(Strings.compile("No handler method found in {} for {}", handlerType, method));
+					}
+					continue;
+				}
+				Classes.File.Writer.Buffer code = new Classes.File.Writer.Buffer();
+				code.u1(ALOAD_0).u1(GETFIELD).u2(classWriter.newFieldRef(className, HANDLER_FIELD_NAME, handlerDescriptor));
+				int slot = 1;
+				for (Class<?> parameterType : method.getParameterTypes()) {
+					code.u1(getLoadOpcode(parameterType)).u1(slot);
+					slot += getSize(parameterType);
+				}
+				String handlerMethodDescriptor = getDescriptor(handlerMethod);
+				if (handlerType.isInterface()) {
+					code.u1(INVOKEINTERFACE).u2(classWriter.newInterfaceMethodRef(handlerRawName, handlerMethod.getName(), handlerMethodDescriptor))
+						.u1(slot).u1(0);
+				} else {
+					code.u1(INVOKEVIRTUAL).u2(classWriter.newMethodRef(handlerRawName, handlerMethod.getName(), handlerMethodDescriptor));
+				}
+				code.u1(getReturnOpcode(method.getReturnType()));
+				//The modifiers of the overridden method are kept except for the abstract, native and synchronized ones
+				classWriter.addMethod(
+					method.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED),
+					method.getName(), getDescriptor(method),
+					Math.max(slot, 1 + getSize(method.getReturnType())), slot, code
+				);
+			}
+			return hookClassDefiner.apply(host, classWriter.toByteArray());
+		}
+
+		//The proxy class is defined in the package of the class that needs package access: when both types are public
+		//the class loader that can see both types is chosen, starting from the one of the handler type
+		protected Class<?> retrieveHost(Class<?> type, Class<?> handlerType) {
+			boolean isTypePublic = Modifier.isPublic(type.getModifiers());
+			boolean isHandlerTypePublic = Modifier.isPublic(handlerType.getModifiers());
+			if (!isTypePublic && !isHandlerTypePublic &&
+				!(type.getClassLoader() == handlerType.getClassLoader() && getPackageName(type).equals(getPackageName(handlerType)))
+			) {
+				throw new IllegalArgumentException(
+					Strings.compile("Cannot generate a proxy for {} handled by {}: they are not public and belong to different packages", type, handlerType)
+				);
+			}
+			if (isHandlerTypePublic || !isTypePublic) {
+				if (isTypePublic && isVisibleFrom(type, handlerType.getClassLoader())) {
+					return handlerType;
+				}
+				if (isVisibleFrom(handlerType, type.getClassLoader())) {
+					return type;
+				}
+			} else if (isVisibleFrom(type, handlerType.getClassLoader())) {
+				return handlerType;
+			}
+			throw new IllegalArgumentException(
+				Strings.compile("Cannot generate a proxy for {} handled by {}: no class loader can see both types", type, handlerType)
+			);
+		}
+
+		protected boolean isVisibleFrom(Class<?> cls, ClassLoader classLoader) {
+			try {
+				return Class.forName(cls.getName(), false, classLoader) == cls;
+			} catch (ClassNotFoundException exc) {
+				return false;
+			}
+		}
+
+		//Interfaces can redeclare the public methods of Object, that the proxy inherits from Object
+		protected boolean isRedeclaredObjectMethod(Method method) {
+			if (!method.getDeclaringClass().isInterface()) {
+				return false;
+			}
+			try {
+				return Modifier.isPublic(Object.class.getMethod(method.getName(), method.getParameterTypes()).getModifiers());
+			} catch (NoSuchMethodException exc) {
+				return false;
+			}
+		}
+
+		protected Map<String, Method> retrieveHandlerMethods(Class<?> handlerType) {
+			Map<String, Method> handlerMethods = new HashMap<>();
+			for (Method method : handlerType.getMethods()) {
+				if (method.getDeclaringClass() != Object.class && !Modifier.isStatic(method.getModifiers())) {
+					String signature = method.getName() + Arrays.toString(method.getParameterTypes());
+					Method registeredMethod = handlerMethods.get(signature);
+					if (registeredMethod == null || registeredMethod.getReturnType().isAssignableFrom(method.getReturnType())) {
+						handlerMethods.put(signature, method);
+					}
+				}
+			}
+			return handlerMethods;
+		}
+
+		//Methods declared by subclasses hide the overridden ones: private, static, final and package
+		//private methods cannot be overridden by a class defined in another package
+		protected Collection<Method> retrieveOverridableMethods(Class<?> type) throws Throwable {
+			Map<String, Method> methods = new LinkedHashMap<>();
+			Collection<Method> candidates = new ArrayList<>();
+			for (Class<?> cls = type; cls != null && !cls.isInterface(); cls = cls.getSuperclass()) {
+				candidates.addAll(Arrays.asList(declaredMethodsRetriever.apply(cls)));
+			}
+			candidates.addAll(Arrays.asList(type.getMethods()));
+			for (Method method : candidates) {
+				String signature = method.getName() + Arrays.toString(method.getParameterTypes());
+				if (!methods.containsKey(signature)) {
+					methods.put(signature, method);
+				}
+			}
+			Collection<Method> overridableMethods = new ArrayList<>();
+			for (Method method : methods.values()) {
+				int modifiers = method.getModifiers();
+				if ((Modifier.isPublic(modifiers) || Modifier.isProtected(modifiers)) &&
+					!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers) && !method.isSynthetic()
+				) {
+					overridableMethods.add(method);
+				}
+			}
+			return overridableMethods;
+		}
+
+		protected boolean isReturnTypeCompatible(Class<?> handlerReturnType, Class<?> returnType) {
+			if (returnType.isPrimitive() || handlerReturnType.isPrimitive()) {
+				return handlerReturnType == returnType;
+			}
+			return returnType.isAssignableFrom(handlerReturnType);
+		}
+
+		protected String getPackageName(Class<?> cls) {
+			String className = cls.getName();
+			int lastDotIndex = className.lastIndexOf('.');
+			return lastDotIndex >= 0 ? className.substring(0, lastDotIndex) : "";
+		}
+
+		protected int getLoadOpcode(Class<?> type) {
+			if (!type.isPrimitive()) {
+				return ALOAD;
+			} else if (type == long.class) {
+				return LLOAD;
+			} else if (type == float.class) {
+				return FLOAD;
+			} else if (type == double.class) {
+				return DLOAD;
+			}
+			return ILOAD;
+		}
+
+		protected int getReturnOpcode(Class<?> type) {
+			if (type == void.class) {
+				return RETURN;
+			} else if (!type.isPrimitive()) {
+				return ARETURN;
+			} else if (type == long.class) {
+				return LRETURN;
+			} else if (type == float.class) {
+				return FRETURN;
+			} else if (type == double.class) {
+				return DRETURN;
+			}
+			return IRETURN;
+		}
+
+		protected int getSize(Class<?> type) {
+			if (type == void.class) {
+				return 0;
+			}
+			return type == long.class || type == double.class ? 2 : 1;
+		}
+
+		protected String getDescriptor(Method method) {
+			StringBuilder descriptor = new StringBuilder("(");
+			for (Class<?> parameterType : method.getParameterTypes()) {
+				descriptor.append(getDescriptor(parameterType));
+			}
+			return descriptor.append(")").append(getDescriptor(method.getReturnType())).toString();
+		}
+
+		protected String getDescriptor(Class<?> cls) {
+			if (cls.isArray()) {
+				return cls.getName().replace('.', '/');
+			} else if (!cls.isPrimitive()) {
+				return "L" + cls.getName().replace('.', '/') + ";";
+			} else if (cls == void.class) {
+				return "V";
+			} else if (cls == short.class) {
+				return "S";
+			} else if (cls == int.class) {
+				return "I";
+			} else if (cls == long.class) {
+				return "J";
+			} else if (cls == float.class) {
+				return "F";
+			} else if (cls == double.class) {
+				return "D";
+			} else if (cls == boolean.class) {
+				return "Z";
+			} else if (cls == byte.class) {
+				return "B";
+			}
+			return "C";
+		}
+
+	}
+
+}
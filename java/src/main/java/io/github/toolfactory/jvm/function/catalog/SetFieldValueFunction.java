@@ -27,12 +27,17 @@
 package io.github.toolfactory.jvm.function.catalog;
 
 
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import io.github.toolfactory.jvm.function.InitializeException;
+import io.github.toolfactory.jvm.function.template.Supplier;
 import io.github.toolfactory.jvm.function.template.TriConsumer;
+import io.github.toolfactory.jvm.util.AccessMode;
 import io.github.toolfactory.jvm.util.Classes;
 import io.github.toolfactory.jvm.util.ObjectProvider;
 import io.github.toolfactory.jvm.util.Strings;
@@ -42,12 +47,42 @@ import io.github.toolfactory.narcissus.Narcissus;
 @SuppressWarnings("all")
 public interface SetFieldValueFunction extends TriConsumer<Object, Field, Object> {
 
+	public void accept(Object target, Field field, Object value, AccessMode accessMode);
+
+	public void setShort(Object target, Field field, short value);
+
+	public void setInt(Object target, Field field, int value);
+
+	public void setLong(Object target, Field field, long value);
+
+	public void setFloat(Object target, Field field, float value);
+
+	public void setDouble(Object target, Field field, double value);
+
+	public void setBoolean(Object target, Field field, boolean value);
+
+	public void setByte(Object target, Field field, byte value);
+
+	public void setChar(Object target, Field field, char value);
+
 	public abstract static class Abst implements SetFieldValueFunction {
 
 		public Abst(Map<Object, Object> context) {
 			ObjectProvider functionProvider = ObjectProvider.get(context);
 		}
 
+		protected void checkAccessMode(AccessMode accessMode) {
+			if (!accessMode.isAllowedForWrites()) {
+				throw new IllegalArgumentException(Strings.compile("Access mode {} is not allowed for writes", accessMode));
+			}
+		}
+
+		protected void checkType(Field field, Class<?> type) {
+			if (field.getType() != type) {
+				throw new IllegalArgumentException(Strings.compile("Field {} is not of type {}", field.getName(), type.getName()));
+			}
+		}
+
 	}
 
 	public static class ForJava7 extends Abst {
@@ -71,70 +106,259 @@ public interface SetFieldValueFunction extends TriConsumer<Object, Field, Object
 				fieldOffset = unsafe.staticFieldOffset(field);
 				target = fieldDeclaringClass;
 			} else {
-				if ((target = origTarget) == null) {
-					throw new IllegalArgumentException("Target object is null");
-				}
-				Class<?> targetObjectClass = target.getClass();
-	 			if (!Classes.isAssignableFrom(fieldDeclaringClass, targetObjectClass)) {
-					throw new IllegalArgumentException("Target object class " + targetObjectClass + " is not assignable to " + fieldDeclaringClass);
-				}
 				fieldOffset = unsafe.objectFieldOffset(field);
-
+				target = checkTarget(origTarget, field);
 			}
 			setByUnsafe(field, value, fieldOffset, target, field.getType());
 		}
 
+		@Override
+		public void accept(Object origTarget, Field field, Object value, AccessMode accessMode) {
+			checkAccessMode(accessMode);
+			if(value != null && !Classes.isAssignableFrom(field.getType(), value.getClass())) {
+				throw new IllegalArgumentException(Strings.compile("Value {} is not assignable to {}", value , field.getName()));
+			}
+			long fieldOffset;
+			Object target;
+			if (Modifier.isStatic(field.getModifiers())) {
+				fieldOffset = unsafe.staticFieldOffset(field);
+				target = field.getDeclaringClass();
+			} else {
+				fieldOffset = unsafe.objectFieldOffset(field);
+				target = checkTarget(origTarget, field);
+			}
+			setByUnsafe(target, fieldOffset, value, field.getType(), accessMode);
+		}
+
+		protected Object checkTarget(Object target, Field field) {
+			if (target == null) {
+				throw new IllegalArgumentException("Target object is null");
+			}
+			Class<?> fieldDeclaringClass = field.getDeclaringClass();
+			Class<?> targetObjectClass = target.getClass();
+			if (!Classes.isAssignableFrom(fieldDeclaringClass, targetObjectClass)) {
+				throw new IllegalArgumentException("Target object class " + targetObjectClass + " is not assignable to " + fieldDeclaringClass);
+			}
+			return target;
+		}
+
+		@Override
+		public void setShort(Object target, Field field, short value) {
+			checkType(field, short.class);
+			long fieldOffset;
+			if (Modifier.isStatic(field.getModifiers())) {
+				fieldOffset = unsafe.staticFieldOffset(field);
+				target = field.getDeclaringClass();
+			} else {
+				checkTarget(target, field);
+				fieldOffset = unsafe.objectFieldOffset(field);
+			}
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				unsafe.putShort(target, fieldOffset, value);
+			} else {
+				unsafe.putShortVolatile(target, fieldOffset, value);
+			}
+		}
+
+		@Override
+		public void setInt(Object target, Field field, int value) {
+			checkType(field, int.class);
+			long fieldOffset;
+			if (Modifier.isStatic(field.getModifiers())) {
+				fieldOffset = unsafe.staticFieldOffset(field);
+				target = field.getDeclaringClass();
+			} else {
+				checkTarget(target, field);
+				fieldOffset = unsafe.objectFieldOffset(field);
+			}
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				unsafe.putInt(target, fieldOffset, value);
+			} else {
+				unsafe.putIntVolatile(target, fieldOffset, value);
+			}
+		}
+
+		@Override
+		public void setLong(Object target, Field field, long value) {
+			checkType(field, long.class);
+			long fieldOffset;
+			if (Modifier.isStatic(field.getModifiers())) {
+				fieldOffset = unsafe.staticFieldOffset(field);
+				target = field.getDeclaringClass();
+			} else {
+				checkTarget(target, field);
+				fieldOffset = unsafe.objectFieldOffset(field);
+			}
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				unsafe.putLong(target, fieldOffset, value);
+			} else {
+				unsafe.putLongVolatile(target, fieldOffset, value);
+			}
+		}
+
+		@Override
+		public void setFloat(Object target, Field field, float value) {
+			checkType(field, float.class);
+			long fieldOffset;
+			if (Modifier.isStatic(field.getModifiers())) {
+				fieldOffset = unsafe.staticFieldOffset(field);
+				target = field.getDeclaringClass();
+			} else {
+				checkTarget(target, field);
+				fieldOffset = unsafe.objectFieldOffset(field);
+			}
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				unsafe.putFloat(target, fieldOffset, value);
+			} else {
+				unsafe.putFloatVolatile(target, fieldOffset, value);
+			}
+		}
+
+		@Override
+		public void setDouble(Object target, Field field, double value) {
+			checkType(field, double.class);
+			long fieldOffset;
+			if (Modifier.isStatic(field.getModifiers())) {
+				fieldOffset = unsafe.staticFieldOffset(field);
+				target = field.getDeclaringClass();
+			} else {
+				checkTarget(target, field);
+				fieldOffset = unsafe.objectFieldOffset(field);
+			}
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				unsafe.putDouble(target, fieldOffset, value);
+			} else {
+				unsafe.putDoubleVolatile(target, fieldOffset, value);
+			}
+		}
+
+		@Override
+		public void setBoolean(Object target, Field field, boolean value) {
+			checkType(field, boolean.class);
+			long fieldOffset;
+			if (Modifier.isStatic(field.getModifiers())) {
+				fieldOffset = unsafe.staticFieldOffset(field);
+				target = field.getDeclaringClass();
+			} else {
+				checkTarget(target, field);
+				fieldOffset = unsafe.objectFieldOffset(field);
+			}
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				unsafe.putBoolean(target, fieldOffset, value);
+			} else {
+				unsafe.putBooleanVolatile(target, fieldOffset, value);
+			}
+		}
+
+		@Override
+		public void setByte(Object target, Field field, byte value) {
+			checkType(field, byte.class);
+			long fieldOffset;
+			if (Modifier.isStatic(field.getModifiers())) {
+				fieldOffset = unsafe.staticFieldOffset(field);
+				target = field.getDeclaringClass();
+			} else {
+				checkTarget(target, field);
+				fieldOffset = unsafe.objectFieldOffset(field);
+			}
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				unsafe.putByte(target, fieldOffset, value);
+			} else {
+				unsafe.putByteVolatile(target, fieldOffset, value);
+			}
+		}
+
+		@Override
+		public void setChar(Object target, Field field, char value) {
+			checkType(field, char.class);
+			long fieldOffset;
+			if (Modifier.isStatic(field.getModifiers())) {
+				fieldOffset = unsafe.staticFieldOffset(field);
+				target = field.getDeclaringClass();
+			} else {
+				checkTarget(target, field);
+				fieldOffset = unsafe.objectFieldOffset(field);
+			}
+			if (!Modifier.isVolatile(field.getModifiers())) {
+				unsafe.putChar(target, fieldOffset, value);
+			} else {
+				unsafe.putCharVolatile(target, fieldOffset, value);
+			}
+		}
+
 		protected void setByUnsafe(Field field, Object value, long fieldOffset, Object target, Class<?> cls) {
+			setByUnsafe(target, fieldOffset, value, cls, Modifier.isVolatile(field.getModifiers()));
+		}
+
+		protected void setByUnsafe(Object target, long fieldOffset, Object value, Class<?> cls, AccessMode accessMode) {
+			if (accessMode == AccessMode.PLAIN) {
+				setByUnsafe(target, fieldOffset, value, cls, false);
+			} else if (accessMode == AccessMode.VOLATILE) {
+				setByUnsafe(target, fieldOffset, value, cls, true);
+			//Ordered (lazy) writes are release writes, which also satisfy the opaque mode
+			} else if(!cls.isPrimitive()) {
+				unsafe.putOrderedObject(target, fieldOffset, value);
+			} else if (cls == int.class) {
+				unsafe.putOrderedInt(target, fieldOffset, ((Integer)value).intValue());
+			} else if (cls == long.class) {
+				unsafe.putOrderedLong(target, fieldOffset, ((Long)value).longValue());
+			} else {
+				//Unsafe has no ordered writes for the other types: the volatile write is the weakest one that satisfies them
+				setByUnsafe(target, fieldOffset, value, cls, true);
+			}
+		}
+
+		protected void setByUnsafe(Object target, long fieldOffset, Object value, Class<?> cls, boolean isVolatile) {
 			if(!cls.isPrimitive()) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					unsafe.putObject(target, fieldOffset, value);
 				} else {
 					unsafe.putObjectVolatile(target, fieldOffset, value);
 				}
 			} else if (cls == short.class) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					unsafe.putShort(target, fieldOffset, ((Short)value).shortValue());
 				} else {
 					unsafe.putShortVolatile(target, fieldOffset, ((Short)value).shortValue());
 				}
 			} else if (cls == int.class) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					unsafe.putInt(target, fieldOffset, ((Integer)value).intValue());
 				} else {
 					unsafe.putIntVolatile(target, fieldOffset, ((Integer)value).intValue());
 				}
 			} else if (cls == long.class) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					unsafe.putLong(target, fieldOffset, ((Long)value).longValue());
 				} else {
 					unsafe.putLongVolatile(target, fieldOffset, ((Long)value).longValue());
 				}
 			} else if (cls == float.class) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					unsafe.putFloat(target, fieldOffset, ((Float)value).floatValue());
 				} else {
 					unsafe.putFloatVolatile(target, fieldOffset, ((Float)value).floatValue());
 				}
 			} else if (cls == double.class) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					unsafe.putDouble(target, fieldOffset, ((Double)value).doubleValue());
 				} else {
 					unsafe.putDoubleVolatile(target, fieldOffset, ((Double)value).doubleValue());
 				}
 			} else if (cls == boolean.class) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					unsafe.putBoolean(target, fieldOffset, ((Boolean)value).booleanValue());
 				} else {
 					unsafe.putBooleanVolatile(target, fieldOffset, ((Boolean)value).booleanValue());
 				}
 			} else if (cls == byte.class) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					unsafe.putByte(target, fieldOffset, ((Byte)value).byteValue());
 				} else {
 					unsafe.putByteVolatile(target, fieldOffset, ((Byte)value).byteValue());
 				}
 			} else if (cls == char.class) {
-				if (!Modifier.isVolatile(field.getModifiers())) {
+				if (!isVolatile) {
 					unsafe.putChar(target, fieldOffset, ((Character)value).charValue());
 				} else {
 					unsafe.putCharVolatile(target, fieldOffset, ((Character)value).charValue());
@@ -255,13 +479,263 @@ public interface SetFieldValueFunction extends TriConsumer<Object, Field, Object
 	}
 	*/
 
+	public static interface VarHandleBased extends SetFieldValueFunction {
+
+		public static class ForJava9 extends SetFieldValueFunction.ForJava7 implements VarHandleBased {
+			protected GetFieldVarHandleFunction varHandleRetriever;
+
+			public ForJava9(Map<Object, Object> context) {
+				super(context);
+				varHandleRetriever = ObjectProvider.get(context).getOrBuildObject(GetFieldVarHandleFunction.class, context);
+			}
+
+			//The VarHandles of final fields are read only
+			protected VarHandle getVarHandle(Field field) {
+				if (Modifier.isFinal(field.getModifiers())) {
+					return null;
+				}
+				return varHandleRetriever.apply(field);
+			}
+
+			@Override
+			public void accept(Object target, Field field, Object value) {
+				accept(
+					target,
+					field,
+					value,
+					Modifier.isVolatile(field.getModifiers()) ?
+						AccessMode.VOLATILE :
+						AccessMode.PLAIN
+				);
+			}
+
+			@Override
+			public void accept(Object target, Field field, Object value, AccessMode accessMode) {
+				checkAccessMode(accessMode);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					super.accept(target, field, value, accessMode);
+					return;
+				}
+				if(value != null && !Classes.isAssignableFrom(field.getType(), value.getClass())) {
+					throw new IllegalArgumentException(Strings.compile("Value {} is not assignable to {}", value , field.getName()));
+				}
+				if (Modifier.isStatic(field.getModifiers())) {
+					if (accessMode == AccessMode.PLAIN) {
+						varHandle.set(value);
+					} else if (accessMode == AccessMode.OPAQUE) {
+						varHandle.setOpaque(value);
+					} else if (accessMode == AccessMode.RELEASE) {
+						varHandle.setRelease(value);
+					} else {
+						varHandle.setVolatile(value);
+					}
+					return;
+				}
+				target = checkTarget(target, field);
+				if (accessMode == AccessMode.PLAIN) {
+					varHandle.set(target, value);
+				} else if (accessMode == AccessMode.OPAQUE) {
+					varHandle.setOpaque(target, value);
+				} else if (accessMode == AccessMode.RELEASE) {
+					varHandle.setRelease(target, value);
+				} else {
+					varHandle.setVolatile(target, value);
+				}
+			}
+
+			@Override
+			public void setShort(Object target, Field field, short value) {
+				checkType(field, short.class);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					super.setShort(target, field, value);
+				} else if (Modifier.isStatic(field.getModifiers())) {
+					if (Modifier.isVolatile(field.getModifiers())) {
+						varHandle.setVolatile(value);
+					} else {
+						varHandle.set(value);
+					}
+				} else if (Modifier.isVolatile(field.getModifiers())) {
+					varHandle.setVolatile(checkTarget(target, field), value);
+				} else {
+					varHandle.set(checkTarget(target, field), value);
+				}
+			}
+
+			@Override
+			public void setInt(Object target, Field field, int value) {
+				checkType(field, int.class);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					super.setInt(target, field, value);
+				} else if (Modifier.isStatic(field.getModifiers())) {
+					if (Modifier.isVolatile(field.getModifiers())) {
+						varHandle.setVolatile(value);
+					} else {
+						varHandle.set(value);
+					}
+				} else if (Modifier.isVolatile(field.getModifiers())) {
+					varHandle.setVolatile(checkTarget(target, field), value);
+				} else {
+					varHandle.set(checkTarget(target, field), value);
+				}
+			}
+
+			@Override
+			public void setLong(Object target, Field field, long value) {
+				checkType(field, long.class);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					super.setLong(target, field, value);
+				} else if (Modifier.isStatic(field.getModifiers())) {
+					if (Modifier.isVolatile(field.getModifiers())) {
+						varHandle.setVolatile(value);
+					} else {
+						varHandle.set(value);
+					}
+				} else if (Modifier.isVolatile(field.getModifiers())) {
+					varHandle.setVolatile(checkTarget(target, field), value);
+				} else {
+					varHandle.set(checkTarget(target, field), value);
+				}
+			}
+
+			@Override
+			public void setFloat(Object target, Field field, float value) {
+				checkType(field, float.class);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					super.setFloat(target, field, value);
+				} else if (Modifier.isStatic(field.getModifiers())) {
+					if (Modifier.isVolatile(field.getModifiers())) {
+						varHandle.setVolatile(value);
+					} else {
+						varHandle.set(value);
+					}
+				} else if (Modifier.isVolatile(field.getModifiers())) {
+					varHandle.setVolatile(checkTarget(target, field), value);
+				} else {
+					varHandle.set(checkTarget(target, field), value);
+				}
+			}
+
+			@Override
+			public void setDouble(Object target, Field field, double value) {
+				checkType(field, double.class);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					super.setDouble(target, field, value);
+				} else if (Modifier.isStatic(field.getModifiers())) {
+					if (Modifier.isVolatile(field.getModifiers())) {
+						varHandle.setVolatile(value);
+					} else {
+						varHandle.set(value);
+					}
+				} else if (Modifier.isVolatile(field.getModifiers())) {
+					varHandle.setVolatile(checkTarget(target, field), value);
+				} else {
+					varHandle.set(checkTarget(target, field), value);
+				}
+			}
+
+			@Override
+			public void setBoolean(Object target, Field field, boolean value) {
+				checkType(field, boolean.class);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					super.setBoolean(target, field, value);
+				} else if (Modifier.isStatic(field.getModifiers())) {
+					if (Modifier.isVolatile(field.getModifiers())) {
+						varHandle.setVolatile(value);
+					} else {
+						varHandle.set(value);
+					}
+				} else if (Modifier.isVolatile(field.getModifiers())) {
+					varHandle.setVolatile(checkTarget(target, field), value);
+				} else {
+					varHandle.set(checkTarget(target, field), value);
+				}
+			}
+
+			@Override
+			public void setByte(Object target, Field field, byte value) {
+				checkType(field, byte.class);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					super.setByte(target, field, value);
+				} else if (Modifier.isStatic(field.getModifiers())) {
+					if (Modifier.isVolatile(field.getModifiers())) {
+						varHandle.setVolatile(value);
+					} else {
+						varHandle.set(value);
+					}
+				} else if (Modifier.isVolatile(field.getModifiers())) {
+					varHandle.setVolatile(checkTarget(target, field), value);
+				} else {
+					varHandle.set(checkTarget(target, field), value);
+				}
+			}
+
+			@Override
+			public void setChar(Object target, Field field, char value) {
+				checkType(field, char.class);
+				VarHandle varHandle = getVarHandle(field);
+				if (varHandle == null) {
+					super.setChar(target, field, value);
+				} else if (Modifier.isStatic(field.getModifiers())) {
+					if (Modifier.isVolatile(field.getModifiers())) {
+						varHandle.setVolatile(value);
+					} else {
+						varHandle.set(value);
+					}
+				} else if (Modifier.isVolatile(field.getModifiers())) {
+					varHandle.setVolatile(checkTarget(target, field), value);
+				} else {
+					varHandle.set(checkTarget(target, field), value);
+				}
+			}
+
+		}
+
+	}
+
 	public interface Native extends SetFieldValueFunction{
 
 		public static class ForJava7 extends Abst implements Native {
+			protected volatile SetFieldValueFunction unsafeBasedFieldValueSetter;
+			protected Supplier<SetFieldValueFunction> unsafeBasedFieldValueSetterSupplier;
 
-			public ForJava7(Map<Object, Object> context) throws InitializeException {
+			public ForJava7(final Map<Object, Object> context) throws InitializeException {
 				super(context);
 				checkNativeEngine();
+				//Unsafe is only needed by the ordered accesses, that the native engine does not expose
+				unsafeBasedFieldValueSetterSupplier = new Supplier<SetFieldValueFunction>() {
+					@Override
+					public SetFieldValueFunction get() {
+						//The native engine is left out of the context, otherwise it would be returned in place of the
+						//implementation selected for the running JVM
+						Map<Object, Object> unsafeBasedContext = new HashMap<>();
+						for (Entry<Object, Object> entry : context.entrySet()) {
+							if (!(entry.getValue() instanceof SetFieldValueFunction)) {
+								unsafeBasedContext.put(entry.getKey(), entry.getValue());
+							}
+						}
+						return ObjectProvider.get(unsafeBasedContext).getOrBuildObject(SetFieldValueFunction.class, unsafeBasedContext);
+					}
+				};
+			}
+
+			protected SetFieldValueFunction getUnsafeBasedFieldValueSetter() {
+				SetFieldValueFunction unsafeBasedFieldValueSetter = this.unsafeBasedFieldValueSetter;
+				if (unsafeBasedFieldValueSetter == null) {
+					synchronized (this) {
+						if ((unsafeBasedFieldValueSetter = this.unsafeBasedFieldValueSetter) == null) {
+							this.unsafeBasedFieldValueSetter = unsafeBasedFieldValueSetter = unsafeBasedFieldValueSetterSupplier.get();
+						}
+					}
+				}
+				return unsafeBasedFieldValueSetter;
 			}
 
 			protected void checkNativeEngine() throws InitializeException {
@@ -286,6 +760,96 @@ public interface SetFieldValueFunction extends TriConsumer<Object, Field, Object
 					io.github.toolfactory.narcissus.Narcissus.setField(target, field, value);
 				}
 			}
+
+			@Override
+			public void accept(Object target, Field field, Object value, AccessMode accessMode) {
+				checkAccessMode(accessMode);
+				if (accessMode == AccessMode.PLAIN) {
+					accept(target, field, value);
+				} else {
+					getUnsafeBasedFieldValueSetter().accept(target, field, value, accessMode);
+				}
+			}
+
+			@Override
+			public void setShort(Object target, Field field, short value) {
+				checkType(field, short.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					io.github.toolfactory.narcissus.Narcissus.setStaticShortField(field, value);
+				} else {
+					io.github.toolfactory.narcissus.Narcissus.setShortField(target, field, value);
+				}
+			}
+
+			@Override
+			public void setInt(Object target, Field field, int value) {
+				checkType(field, int.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					io.github.toolfactory.narcissus.Narcissus.setStaticIntField(field, value);
+				} else {
+					io.github.toolfactory.narcissus.Narcissus.setIntField(target, field, value);
+				}
+			}
+
+			@Override
+			public void setLong(Object target, Field field, long value) {
+				checkType(field, long.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					io.github.toolfactory.narcissus.Narcissus.setStaticLongField(field, value);
+				} else {
+					io.github.toolfactory.narcissus.Narcissus.setLongField(target, field, value);
+				}
+			}
+
+			@Override
+			public void setFloat(Object target, Field field, float value) {
+				checkType(field, float.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					io.github.toolfactory.narcissus.Narcissus.setStaticFloatField(field, value);
+				} else {
+					io.github.toolfactory.narcissus.Narcissus.setFloatField(target, field, value);
+				}
+			}
+
+			@Override
+			public void setDouble(Object target, Field field, double value) {
+				checkType(field, double.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					io.github.toolfactory.narcissus.Narcissus.setStaticDoubleField(field, value);
+				} else {
+					io.github.toolfactory.narcissus.Narcissus.setDoubleField(target, field, value);
+				}
+			}
+
+			@Override
+			public void setBoolean(Object target, Field field, boolean value) {
+				checkType(field, boolean.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					io.github.toolfactory.narcissus.Narcissus.setStaticBooleanField(field, value);
+				} else {
+					io.github.toolfactory.narcissus.Narcissus.setBooleanField(target, field, value);
+				}
+			}
+
+			@Override
+			public void setByte(Object target, Field field, byte value) {
+				checkType(field, byte.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					io.github.toolfactory.narcissus.Narcissus.setStaticByteField(field, value);
+				} else {
+					io.github.toolfactory.narcissus.Narcissus.setByteField(target, field, value);
+				}
+			}
+
+			@Override
+			public void setChar(Object target, Field field, char value) {
+				checkType(field, char.class);
+				if (Modifier.isStatic(field.getModifiers())) {
+					io.github.toolfactory.narcissus.Narcissus.setStaticCharField(field, value);
+				} else {
+					io.github.toolfactory.narcissus.Narcissus.setCharField(target, field, value);
+				}
+			}
 		}
 	}
 }
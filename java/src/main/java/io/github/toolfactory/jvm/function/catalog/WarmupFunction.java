@@ -0,0 +1,129 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.function.catalog;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import io.github.toolfactory.jvm.util.ClassMembers;
+import io.github.toolfactory.jvm.util.ObjectProvider;
+
+
+@SuppressWarnings("all")
+//Only the class members cache, that is read by getClassMembers and by the member queries, is populated:
+//getDeclaredFields, getDeclaredMethods and getDeclaredConstructors of the driver always retrieve new members
+public interface WarmupFunction {
+
+	//forkJoinPool can be null: in this case a pool bounded to the available processors is used and shut down at the end
+	public void apply(Collection<Class<?>> classes, ForkJoinPool forkJoinPool);
+
+
+	public static class ForJava7 implements WarmupFunction {
+		protected static final int SEQUENTIAL_THRESHOLD = 8;
+
+		protected ThrowExceptionFunction throwExceptionFunction;
+		protected GetClassMembersFunction classMembersRetriever;
+
+		public ForJava7(Map<Object, Object> context) {
+			ObjectProvider functionProvider = ObjectProvider.get(context);
+			throwExceptionFunction = functionProvider.getOrBuildObject(ThrowExceptionFunction.class, context);
+			classMembersRetriever = functionProvider.getOrBuildObject(GetClassMembersFunction.class, context);
+		}
+
+		@Override
+		public void apply(Collection<Class<?>> classes, ForkJoinPool forkJoinPool) {
+			List<Class<?>> classList = new ArrayList<>(classes);
+			if (classList.size() <= SEQUENTIAL_THRESHOLD) {
+				warmup(classList, 0, classList.size());
+				return;
+			}
+			if (forkJoinPool != null) {
+				forkJoinPool.invoke(new Task(classList, 0, classList.size()));
+				return;
+			}
+			forkJoinPool = new ForkJoinPool(Math.min(Runtime.getRuntime().availableProcessors(), classList.size() / SEQUENTIAL_THRESHOLD + 1));
+			try {
+				forkJoinPool.invoke(new Task(classList, 0, classList.size()));
+			} finally {
+				forkJoinPool.shutdown();
+			}
+		}
+
+		protected void warmup(List<Class<?>> classes, int from, int to) {
+			for (int i = from; i < to; i++) {
+				warmup(classes.get(i));
+			}
+		}
+
+		//The members are stored in the ClassValue of the class members retriever: they are shared with the callers
+		//and so they are not made accessible. The warmup is a best effort: a class that cannot be processed (e.g.
+		//because of a missing dependency) is skipped and the error is raised again on the first real access, while
+		//the other errors (e.g. OutOfMemoryError) are propagated
+		protected void warmup(Class<?> cls) {
+			try {
+				classMembersRetriever.apply(cls);
+			} catch (Exception | LinkageError exc) {
+				//Skipped: the error is raised again on the first real access
+			} catch (Throwable exc) {
+				throwExceptionFunction.apply(exc);
+			}
+		}
+
+
+		protected class Task extends RecursiveAction {
+			private static final long serialVersionUID = -5120374946359120934L;
+
+			protected final List<Class<?>> classes;
+			protected final int from;
+			protected final int to;
+
+			protected Task(List<Class<?>> classes, int from, int to) {
+				this.classes = classes;
+				this.from = from;
+				this.to = to;
+			}
+
+			@Override
+			protected void compute() {
+				if (to - from <= SEQUENTIAL_THRESHOLD) {
+					warmup(classes, from, to);
+					return;
+				}
+				int middle = (from + to) >>> 1;
+				invokeAll(new Task(classes, from, middle), new Task(classes, middle, to));
+			}
+
+		}
+
+	}
+
+}
@@ -26,7 +26,10 @@
  */
 package io.github.toolfactory.jvm.util;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 
 import io.github.toolfactory.jvm.function.template.Function;
 
@@ -293,5 +296,158 @@ public class Classes {
 				return new String(charBuffer, 0, strLength);
 			}
 		}
+
+
+		public static class Writer {
+			protected final Map<String, Integer> constants;
+			protected final Buffer constantPool;
+			protected final Buffer fields;
+			protected final Buffer methods;
+			protected int constantPoolCount;
+			protected int fieldsCount;
+			protected int methodsCount;
+			protected final int majorVersion;
+			protected final int modifiers;
+			protected final int thisClass;
+			protected final int superClass;
+			protected final int[] interfaces;
+
+			public Writer(int majorVersion, int modifiers, String rawName, String superClassRawName, String... implementedInterfaceRawNames) {
+				this.constants = new HashMap<>();
+				this.constantPool = new Buffer();
+				this.fields = new Buffer();
+				this.methods = new Buffer();
+				this.constantPoolCount = 1;
+				this.majorVersion = majorVersion;
+				this.modifiers = modifiers;
+				this.thisClass = newClass(rawName);
+				this.superClass = newClass(superClassRawName);
+				this.interfaces = new int[implementedInterfaceRawNames.length];
+				for (int i = 0; i < implementedInterfaceRawNames.length; i++) {
+					interfaces[i] = newClass(implementedInterfaceRawNames[i]);
+				}
+			}
+
+			public int newUTF8(String value) {
+				String key = Symbol.Tag.UTF8 + ":" + value;
+				Integer index = constants.get(key);
+				if (index == null) {
+					constantPool.u1(Symbol.Tag.UTF8).utf8(value);
+					constants.put(key, index = constantPoolCount++);
+				}
+				return index;
+			}
+
+			public int newClass(String rawName) {
+				return newConstant(Symbol.Tag.CLASS, rawName, newUTF8(rawName));
+			}
+
+			public int newNameAndType(String name, String descriptor) {
+				return newConstant(Symbol.Tag.NAME_AND_TYPE, name + ":" + descriptor, newUTF8(name), newUTF8(descriptor));
+			}
+
+			public int newFieldRef(String ownerRawName, String name, String descriptor) {
+				return newMemberRef(Symbol.Tag.FIELD_REF, ownerRawName, name, descriptor);
+			}
+
+			public int newMethodRef(String ownerRawName, String name, String descriptor) {
+				return newMemberRef(Symbol.Tag.METHOD_REF, ownerRawName, name, descriptor);
+			}
+
+			public int newInterfaceMethodRef(String ownerRawName, String name, String descriptor) {
+				return newMemberRef(Symbol.Tag.INTERFACE_METHOD_REF, ownerRawName, name, descriptor);
+			}
+
+			protected int newMemberRef(byte tag, String ownerRawName, String name, String descriptor) {
+				return newConstant(
+					tag, ownerRawName + "." + name + ":" + descriptor,
+					newClass(ownerRawName), newNameAndType(name, descriptor)
+				);
+			}
+
+			protected int newConstant(byte tag, String value, int... references) {
+				String key = tag + ":" + value;
+				Integer index = constants.get(key);
+				if (index == null) {
+					constantPool.u1(tag);
+					for (int reference : references) {
+						constantPool.u2(reference);
+					}
+					constants.put(key, index = constantPoolCount++);
+				}
+				return index;
+			}
+
+			public Writer addField(int modifiers, String name, String descriptor) {
+				fields.u2(modifiers).u2(newUTF8(name)).u2(newUTF8(descriptor)).u2(0);
+				fieldsCount++;
+				return this;
+			}
+
+			//The code must be straight-line (no branches) since no stack map frame is written
+			public Writer addMethod(int modifiers, String name, String descriptor, int maxStack, int maxLocals, Buffer code) {
+				methods.u2(modifiers).u2(newUTF8(name)).u2(newUTF8(descriptor)).u2(1)
+					.u2(newUTF8("Code")).u4(12 + code.size())
+					.u2(maxStack).u2(maxLocals).u4(code.size()).bytes(code.toByteArray())
+					.u2(0).u2(0);
+				methodsCount++;
+				return this;
+			}
+
+			public byte[] toByteArray() {
+				Buffer classFile = new Buffer();
+				classFile.u4(0xCAFEBABE).u2(0).u2(majorVersion)
+					.u2(constantPoolCount).bytes(constantPool.toByteArray())
+					.u2(modifiers).u2(thisClass).u2(superClass).u2(interfaces.length);
+				for (int index : interfaces) {
+					classFile.u2(index);
+				}
+				return classFile.u2(fieldsCount).bytes(fields.toByteArray()).u2(methodsCount).bytes(methods.toByteArray()).u2(0).toByteArray();
+			}
+
+
+			public static class Buffer extends ByteArrayOutputStream {
+
+				public Buffer u1(int value) {
+					write(value);
+					return this;
+				}
+
+				public Buffer u2(int value) {
+					write(value >>> 8);
+					write(value);
+					return this;
+				}
+
+				public Buffer u4(int value) {
+					u2(value >>> 16);
+					return u2(value);
+				}
+
+				public Buffer bytes(byte[] value) {
+					write(value, 0, value.length);
+					return this;
+				}
+
+				//Modified UTF-8 as required by the CONSTANT_Utf8_info structure
+				public Buffer utf8(String value) {
+					Buffer encoded = new Buffer();
+					for (int i = 0; i < value.length(); i++) {
+						char character = value.charAt(i);
+						if (character >= 0x0001 && character <= 0x007F) {
+							encoded.u1(character);
+						} else if (character <= 0x07FF) {
+							encoded.u1(0xC0 | ((character >> 6) & 0x1F)).u1(0x80 | (character & 0x3F));
+						} else {
+							encoded.u1(0xE0 | ((character >> 12) & 0x0F)).u1(0x80 | ((character >> 6) & 0x3F)).u1(0x80 | (character & 0x3F));
+						}
+					}
+					return u2(encoded.size()).bytes(encoded.toByteArray());
+				}
+
+			}
+
+		}
+
 	}
 }
@@ -0,0 +1,131 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.util;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+//The sizes are expressed in bytes: the histogram is sorted by size in descending order
+public class DeepSize {
+	protected final Object root;
+	protected final long size;
+	protected final long count;
+	protected final Map<Class<?>, Entry> histogram;
+
+	public DeepSize(Object root, Map<Class<?>, long[]> countsAndSizes) {
+		this.root = root;
+		List<Entry> entries = new ArrayList<>();
+		long size = 0;
+		long count = 0;
+		for (Map.Entry<Class<?>, long[]> countAndSize : countsAndSizes.entrySet()) {
+			Entry entry = new Entry(countAndSize.getKey(), countAndSize.getValue()[0], countAndSize.getValue()[1]);
+			entries.add(entry);
+			count += entry.count;
+			size += entry.size;
+		}
+		Collections.sort(entries, new Comparator<Entry>() {
+			@Override
+			public int compare(Entry entryOne, Entry entryTwo) {
+				return Long.compare(entryTwo.size, entryOne.size);
+			}
+		});
+		Map<Class<?>, Entry> histogram = new LinkedHashMap<>();
+		for (Entry entry : entries) {
+			histogram.put(entry.type, entry);
+		}
+		this.size = size;
+		this.count = count;
+		this.histogram = Collections.unmodifiableMap(histogram);
+	}
+
+	public Object getRoot() {
+		return root;
+	}
+
+	public long getSize() {
+		return size;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public Map<Class<?>, Entry> getHistogram() {
+		return histogram;
+	}
+
+	public Entry getEntry(Class<?> type) {
+		return histogram.get(type);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder description = new StringBuilder().append(size).append(" bytes in ").append(count).append(" objects");
+		for (Entry entry : histogram.values()) {
+			description.append("\n\t").append(entry);
+		}
+		return description.toString();
+	}
+
+
+	public static class Entry {
+		protected final Class<?> type;
+		protected final long count;
+		protected final long size;
+
+		public Entry(Class<?> type, long count, long size) {
+			this.type = type;
+			this.count = count;
+			this.size = size;
+		}
+
+		public Class<?> getType() {
+			return type;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getSize() {
+			return size;
+		}
+
+		@Override
+		public String toString() {
+			return Strings.compile("{}: {} bytes in {} objects", type.getName(), size, count);
+		}
+
+	}
+
+}
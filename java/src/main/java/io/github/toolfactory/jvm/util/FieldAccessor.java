@@ -0,0 +1,220 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.util;
+
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+
+public interface FieldAccessor {
+
+	public Field getField();
+
+	public <T> T get(Object target);
+
+	public void set(Object target, Object value);
+
+	public short getShort(Object target);
+
+	public void setShort(Object target, short value);
+
+	public int getInt(Object target);
+
+	public void setInt(Object target, int value);
+
+	public long getLong(Object target);
+
+	public void setLong(Object target, long value);
+
+	public float getFloat(Object target);
+
+	public void setFloat(Object target, float value);
+
+	public double getDouble(Object target);
+
+	public void setDouble(Object target, double value);
+
+	public boolean getBoolean(Object target);
+
+	public void setBoolean(Object target, boolean value);
+
+	public byte getByte(Object target);
+
+	public void setByte(Object target, byte value);
+
+	public char getChar(Object target);
+
+	public void setChar(Object target, char value);
+
+
+	public abstract static class Abst implements FieldAccessor {
+		protected final Field field;
+		protected final Class<?> declaringClass;
+		protected final Class<?> type;
+		protected final boolean isStatic;
+
+		public Abst(Field field) {
+			this.field = field;
+			this.declaringClass = field.getDeclaringClass();
+			this.type = field.getType();
+			this.isStatic = Modifier.isStatic(field.getModifiers());
+		}
+
+		@Override
+		public Field getField() {
+			return field;
+		}
+
+		protected Object checkTarget(Object target) {
+			if (target == null) {
+				throw new IllegalArgumentException("Target cannot be null when the field is not static");
+			}
+			if (!declaringClass.isInstance(target)) {
+				throw new IllegalArgumentException("Target object class " + target.getClass() + " is not assignable to " + declaringClass);
+			}
+			return target;
+		}
+
+		protected Object checkValue(Object value) {
+			if (value == null ? type.isPrimitive() : !Classes.isAssignableFrom(type, value.getClass())) {
+				throw new IllegalArgumentException(Strings.compile("Value {} is not assignable to {}", value , field.getName()));
+			}
+			return value;
+		}
+
+		//The typed accessors override the methods of their own type with boxing free implementations
+		@Override
+		public short getShort(Object target) {
+			checkType(short.class);
+			return ((Short)get(target)).shortValue();
+		}
+
+		@Override
+		public void setShort(Object target, short value) {
+			checkType(short.class);
+			set(target, Short.valueOf(value));
+		}
+
+		@Override
+		public int getInt(Object target) {
+			checkType(int.class);
+			return ((Integer)get(target)).intValue();
+		}
+
+		@Override
+		public void setInt(Object target, int value) {
+			checkType(int.class);
+			set(target, Integer.valueOf(value));
+		}
+
+		@Override
+		public long getLong(Object target) {
+			checkType(long.class);
+			return ((Long)get(target)).longValue();
+		}
+
+		@Override
+		public void setLong(Object target, long value) {
+			checkType(long.class);
+			set(target, Long.valueOf(value));
+		}
+
+		@Override
+		public float getFloat(Object target) {
+			checkType(float.class);
+			return ((Float)get(target)).floatValue();
+		}
+
+		@Override
+		public void setFloat(Object target, float value) {
+			checkType(float.class);
+			set(target, Float.valueOf(value));
+		}
+
+		@Override
+		public double getDouble(Object target) {
+			checkType(double.class);
+			return ((Double)get(target)).doubleValue();
+		}
+
+		@Override
+		public void setDouble(Object target, double value) {
+			checkType(double.class);
+			set(target, Double.valueOf(value));
+		}
+
+		@Override
+		public boolean getBoolean(Object target) {
+			checkType(boolean.class);
+			return ((Boolean)get(target)).booleanValue();
+		}
+
+		@Override
+		public void setBoolean(Object target, boolean value) {
+			checkType(boolean.class);
+			set(target, Boolean.valueOf(value));
+		}
+
+		@Override
+		public byte getByte(Object target) {
+			checkType(byte.class);
+			return ((Byte)get(target)).byteValue();
+		}
+
+		@Override
+		public void setByte(Object target, byte value) {
+			checkType(byte.class);
+			set(target, Byte.valueOf(value));
+		}
+
+		@Override
+		public char getChar(Object target) {
+			checkType(char.class);
+			return ((Character)get(target)).charValue();
+		}
+
+		@Override
+		public void setChar(Object target, char value) {
+			checkType(char.class);
+			set(target, Character.valueOf(value));
+		}
+
+		protected void checkType(Class<?> expectedType) {
+			if (type != expectedType) {
+				throw new IllegalArgumentException(Strings.compile("Field {} is not of type {}", field.getName(), expectedType.getName()));
+			}
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + " for " + field;
+		}
+
+	}
+
+}
@@ -0,0 +1,204 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.util;
+
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+
+import io.github.toolfactory.jvm.function.template.Function;
+import io.github.toolfactory.jvm.function.template.Predicate;
+
+
+//The filters are evaluated while iterating over the cached members, from the cheapest (modifiers) to the most
+//expensive (annotations): no intermediate collection is built and the iteration can be stopped at any time
+public class MemberQuery<M extends Member> implements Iterable<M> {
+	protected final Class<?> cls;
+	protected final Function<Class<?>, List<M>> membersRetriever;
+	protected int requiredModifiers;
+	protected int excludedModifiers;
+	protected String name;
+	protected Pattern namePattern;
+	protected Class<?> type;
+	protected Collection<Class<? extends Annotation>> annotationTypes;
+	protected Collection<Predicate<? super M>> filters;
+	protected boolean inHierarchy;
+
+	public MemberQuery(Class<?> cls, Function<Class<?>, List<M>> membersRetriever) {
+		this.cls = cls;
+		this.membersRetriever = membersRetriever;
+		this.annotationTypes = new ArrayList<>();
+		this.filters = new ArrayList<>();
+	}
+
+	public MemberQuery<M> withModifiers(int modifiers) {
+		requiredModifiers |= modifiers;
+		return this;
+	}
+
+	public MemberQuery<M> withoutModifiers(int modifiers) {
+		excludedModifiers |= modifiers;
+		return this;
+	}
+
+	public MemberQuery<M> named(String name) {
+		this.name = name;
+		return this;
+	}
+
+	public MemberQuery<M> withNameMatching(String regex) {
+		this.namePattern = Pattern.compile(regex);
+		return this;
+	}
+
+	//The type of a field, the return type of a method or the declaring class of a constructor
+	public MemberQuery<M> ofType(Class<?> type) {
+		this.type = type;
+		return this;
+	}
+
+	public MemberQuery<M> annotatedWith(Class<? extends Annotation> annotationType) {
+		annotationTypes.add(annotationType);
+		return this;
+	}
+
+	public MemberQuery<M> filter(Predicate<? super M> filter) {
+		filters.add(filter);
+		return this;
+	}
+
+	//Extends the query to the members declared by the superclasses
+	public MemberQuery<M> inHierarchy() {
+		inHierarchy = true;
+		return this;
+	}
+
+	public M findFirst() {
+		Iterator<M> iterator = iterator();
+		return iterator.hasNext() ? iterator.next() : null;
+	}
+
+	public Collection<M> findAll() {
+		Collection<M> members = new ArrayList<>();
+		for (M member : this) {
+			members.add(member);
+		}
+		return members;
+	}
+
+	public boolean test(M member) {
+		int modifiers = member.getModifiers();
+		if ((modifiers & requiredModifiers) != requiredModifiers || (modifiers & excludedModifiers) != 0) {
+			return false;
+		}
+		if (name != null && !name.equals(member.getName())) {
+			return false;
+		}
+		if (namePattern != null && !namePattern.matcher(member.getName()).matches()) {
+			return false;
+		}
+		if (type != null && !type.isAssignableFrom(getType(member))) {
+			return false;
+		}
+		for (Class<? extends Annotation> annotationType : annotationTypes) {
+			if (!((AnnotatedElement)member).isAnnotationPresent(annotationType)) {
+				return false;
+			}
+		}
+		for (Predicate<? super M> filter : filters) {
+			if (!filter.test(member)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	protected Class<?> getType(M member) {
+		if (member instanceof Field) {
+			return ((Field)member).getType();
+		} else if (member instanceof Method) {
+			return ((Method)member).getReturnType();
+		}
+		return ((Constructor<?>)member).getDeclaringClass();
+	}
+
+	@Override
+	public Iterator<M> iterator() {
+		return new Iterator<M>() {
+			protected Class<?> currentClass = cls;
+			protected List<M> members = membersRetriever.apply(cls);
+			protected int index;
+			protected M next;
+
+			@Override
+			public boolean hasNext() {
+				while (next == null) {
+					if (index < members.size()) {
+						M member = members.get(index++);
+						if (test(member)) {
+							next = member;
+						}
+					} else if (inHierarchy && currentClass.getSuperclass() != null) {
+						currentClass = currentClass.getSuperclass();
+						members = membersRetriever.apply(currentClass);
+						index = 0;
+					} else {
+						return false;
+					}
+				}
+				return true;
+			}
+
+			@Override
+			public M next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				M member = next;
+				next = null;
+				return member;
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+
+		};
+	}
+
+}
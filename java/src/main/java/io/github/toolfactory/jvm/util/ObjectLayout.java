@@ -0,0 +1,152 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.util;
+
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+
+
+//Sizes and offsets are expressed in bytes: for array classes the fields are empty and the instance size is the one
+//of an empty array, while the size of an array of a given length is returned by getArraySize
+public class ObjectLayout {
+	protected final Class<?> type;
+	protected final int headerSize;
+	protected final int alignment;
+	protected final int elementSize;
+	protected final List<FieldLayout> fields;
+	protected final long instanceSize;
+
+	public ObjectLayout(Class<?> type, int headerSize, int alignment, int elementSize, List<FieldLayout> fields) {
+		this.type = type;
+		this.headerSize = headerSize;
+		this.alignment = alignment;
+		this.elementSize = elementSize;
+		this.fields = Collections.unmodifiableList(fields);
+		long end = headerSize;
+		for (FieldLayout field : fields) {
+			end = Math.max(end, field.getOffset() + field.getSize());
+		}
+		this.instanceSize = align(end);
+	}
+
+	public Class<?> getType() {
+		return type;
+	}
+
+	public int getHeaderSize() {
+		return headerSize;
+	}
+
+	public int getAlignment() {
+		return alignment;
+	}
+
+	//The fields of the whole hierarchy sorted by offset
+	public List<FieldLayout> getFields() {
+		return fields;
+	}
+
+	public long getFieldsSize() {
+		long fieldsSize = 0;
+		for (FieldLayout field : fields) {
+			fieldsSize += field.getSize();
+		}
+		return fieldsSize;
+	}
+
+	//The bytes lost in the gaps between the fields and in the alignment of the instance
+	public long getPadding() {
+		return instanceSize - headerSize - getFieldsSize();
+	}
+
+	public long getInstanceSize() {
+		return instanceSize;
+	}
+
+	public boolean isArray() {
+		return type.isArray();
+	}
+
+	public int getElementSize() {
+		return elementSize;
+	}
+
+	public long getArraySize(int length) {
+		if (!type.isArray()) {
+			throw new IllegalArgumentException(Strings.compile("{} is not an array class", type));
+		}
+		return align(headerSize + (long)length * elementSize);
+	}
+
+	protected long align(long size) {
+		return (size + alignment - 1) / alignment * alignment;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder description = new StringBuilder(type.getName()).append(" (")
+			.append(instanceSize).append(" bytes): header ").append(headerSize);
+		for (FieldLayout field : fields) {
+			description.append(", ").append(field);
+		}
+		return description.append(", padding ").append(getPadding()).toString();
+	}
+
+
+	public static class FieldLayout {
+		protected final Field field;
+		protected final long offset;
+		protected final int size;
+
+		public FieldLayout(Field field, long offset, int size) {
+			this.field = field;
+			this.offset = offset;
+			this.size = size;
+		}
+
+		public Field getField() {
+			return field;
+		}
+
+		public long getOffset() {
+			return offset;
+		}
+
+		public int getSize() {
+			return size;
+		}
+
+		@Override
+		public String toString() {
+			return field.getDeclaringClass().getSimpleName() + "." + field.getName() + " at " + offset + " (" + size + " bytes)";
+		}
+
+	}
+
+}
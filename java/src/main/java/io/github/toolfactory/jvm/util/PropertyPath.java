@@ -0,0 +1,74 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.util;
+
+
+public interface PropertyPath {
+
+	public Class<?> getRootType();
+
+	public String getPath();
+
+	public Class<?> getType();
+
+	public <T> T get(Object root);
+
+	public void set(Object root, Object value);
+
+	public short getShort(Object root);
+
+	public int getInt(Object root);
+
+	public long getLong(Object root);
+
+	public float getFloat(Object root);
+
+	public double getDouble(Object root);
+
+	public boolean getBoolean(Object root);
+
+	public byte getByte(Object root);
+
+	public char getChar(Object root);
+
+	public void setShort(Object root, short value);
+
+	public void setInt(Object root, int value);
+
+	public void setLong(Object root, long value);
+
+	public void setFloat(Object root, float value);
+
+	public void setDouble(Object root, double value);
+
+	public void setBoolean(Object root, boolean value);
+
+	public void setByte(Object root, byte value);
+
+	public void setChar(Object root, char value);
+
+}
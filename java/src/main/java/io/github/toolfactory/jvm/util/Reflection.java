@@ -0,0 +1,243 @@
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.util;
+
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import io.github.toolfactory.jvm.Driver;
+import io.github.toolfactory.jvm.function.template.Predicate;
+
+
+//The members of the whole hierarchy of a class are computed once and held in a ClassValue: the cached
+//entries are released together with the classes, when their class loaders are collected
+public class Reflection {
+	protected final Driver driver;
+	protected final ClassValue<Members> allMembers;
+
+
+	protected Reflection(Driver driver) {
+		this.driver = driver;
+		this.allMembers = new ClassValue<Members>() {
+			@Override
+			protected Members computeValue(Class<?> cls) {
+				return flatten(cls);
+			}
+		};
+	}
+
+	public Driver getDriver() {
+		return this.driver;
+	}
+
+	public <T> T getFieldValue(Object target, Field field) {
+		return driver.getFieldValue(target, field);
+	}
+
+	public void setFieldValue(Object target, Field field, Object value) {
+		driver.setFieldValue(target, field, value);
+	}
+
+	public Field getDeclaredField(Class<?> cls, String name) {
+		return driver.getClassMembers(cls).getField(name);
+	}
+
+	public Collection<Field> getDeclaredFields(Class<?> cls) {
+		return driver.getClassMembers(cls).getFields();
+	}
+
+	public Collection<Field> getAllFields(Class<?> cls) {
+		return allMembers.get(cls).fields;
+	}
+
+	public Collection<Field> getAllFields(Class<?> cls, Predicate<? super Field> filter) {
+		return new FilteredCollection<>(getAllFields(cls), filter);
+	}
+
+	public Collection<Method> getDeclaredMethods(Class<?> cls) {
+		return driver.getClassMembers(cls).getMethods();
+	}
+
+	public Collection<Method> getAllMethods(Class<?> cls) {
+		return allMembers.get(cls).methods;
+	}
+
+	public Collection<Method> getAllMethods(Class<?> cls, Predicate<? super Method> filter) {
+		return new FilteredCollection<>(getAllMethods(cls), filter);
+	}
+
+	public Collection<Constructor<?>> getDeclaredConstructors(Class<?> cls) {
+		return driver.getClassMembers(cls).getConstructors();
+	}
+
+	public Collection<Constructor<?>> getAllConstructors(Class<?> cls) {
+		return allMembers.get(cls).constructors;
+	}
+
+	public Collection<Constructor<?>> getAllConstructors(Class<?> cls, Predicate<? super Constructor<?>> filter) {
+		return new FilteredCollection<>(getAllConstructors(cls), filter);
+	}
+
+	//The members declared by the class come first, followed by the ones of the interfaces and of the superclass:
+	//the already flattened members of the supertypes are reused
+	protected Members flatten(Class<?> cls) {
+		ClassMembers declaredMembers = driver.getClassMembers(cls);
+		Set<Field> fields = new LinkedHashSet<>(declaredMembers.getFields());
+		Set<Method> methods = new LinkedHashSet<>(declaredMembers.getMethods());
+		Set<Constructor<?>> constructors = new LinkedHashSet<>(declaredMembers.getConstructors());
+		Collection<Class<?>> superTypes = new ArrayList<>();
+		Collections.addAll(superTypes, cls.getInterfaces());
+		if (cls.getSuperclass() != null) {
+			superTypes.add(cls.getSuperclass());
+		}
+		for (Class<?> superType : superTypes) {
+			Members superTypeMembers = allMembers.get(superType);
+			fields.addAll(superTypeMembers.fields);
+			methods.addAll(superTypeMembers.methods);
+			constructors.addAll(superTypeMembers.constructors);
+		}
+		return new Members(fields, methods, constructors);
+	}
+
+
+	protected static class Members {
+		protected final Collection<Field> fields;
+		protected final Collection<Method> methods;
+		protected final Collection<Constructor<?>> constructors;
+
+		protected Members(Collection<Field> fields, Collection<Method> methods, Collection<Constructor<?>> constructors) {
+			this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+			this.methods = Collections.unmodifiableList(new ArrayList<>(methods));
+			this.constructors = Collections.unmodifiableList(new ArrayList<>(constructors));
+		}
+
+	}
+
+
+	//A read-only view that evaluates the filter while iterating over the wrapped collection
+	protected static class FilteredCollection<E> extends AbstractCollection<E> {
+		protected final Collection<E> wrappedCollection;
+		protected final Predicate<? super E> filter;
+
+		protected FilteredCollection(Collection<E> wrappedCollection, Predicate<? super E> filter) {
+			this.wrappedCollection = wrappedCollection;
+			this.filter = filter;
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			final Iterator<E> wrappedIterator = wrappedCollection.iterator();
+			return new Iterator<E>() {
+				protected E next;
+				protected boolean hasNext;
+
+				@Override
+				public boolean hasNext() {
+					while (!hasNext && wrappedIterator.hasNext()) {
+						E element = wrappedIterator.next();
+						if (filter.test(element)) {
+							next = element;
+							hasNext = true;
+						}
+					}
+					return hasNext;
+				}
+
+				@Override
+				public E next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					hasNext = false;
+					E element = next;
+					next = null;
+					return element;
+				}
+
+				@Override
+				public void remove() {
+					throw new UnsupportedOperationException();
+				}
+
+			};
+		}
+
+		@Override
+		public int size() {
+			int size = 0;
+			for (Iterator<E> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+				size++;
+			}
+			return size;
+		}
+
+	}
+
+
+	public static class Factory {
+
+		public static Reflection getNew() {
+			return getNewWith(Driver.Factory.getNew());
+		}
+
+		public static Reflection getNewWith(Driver driver) {
+			return new Reflection(driver);
+		}
+
+		public static Reflection getNewWithDynamicDriver() {
+			return getNewWith(Driver.Factory.getNewDynamic());
+		}
+
+		public static Reflection getNewWithDefaultDriver() {
+			return getNewWith(Driver.Factory.getNewDefault());
+		}
+
+		public static Reflection getNewWithHybridDriver() {
+			return getNewWith(Driver.Factory.getNewHybrid());
+		}
+
+		public static Reflection getNewWithNativeDriver() {
+			return getNewWith(Driver.Factory.getNewNative());
+		}
+
+		public static Reflection getNewWithVarHandleDriver() {
+			return getNewWith(Driver.Factory.getNewVarHandle());
+		}
+
+	}
+
+}
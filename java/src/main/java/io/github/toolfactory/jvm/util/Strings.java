@@ -1,64 +1,64 @@
-/*
- * This file is part of ToolFactory JVM driver.
- *
- * Hosted at: https://github.com/toolfactory/jvm-driver
- *
- * --
- *
- * The MIT License (MIT)
- *
- * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
- *
- * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
- * documentation files (the "Software"), to deal in the Software without restriction, including without
- * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
- * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
- * conditions:
- *
- * The above copyright notice and this permission notice shall be included in all copies or substantial
- * portions of the Software.
- *
- * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
- * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
- * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
- * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
- * OR OTHER DEALINGS IN THE SOFTWARE.
- */
-package io.github.toolfactory.jvm.util;
-
-import java.util.Collection;
-import java.util.Iterator;
-
-public class Strings {
-
-	public static String compile(String message, Object... arguments) {
-		for (Object obj : arguments) {
-			message = message.replaceFirst("\\{\\}", obj == null ? "null" : clear(obj.toString()));
-		}
-		return message;
-	}
-
-	private static String clear(String text) {
-		return text
-		.replace("\\", "\\\\\\")
-		.replace("{", "\\{")
-		.replace("}", "\\}")
-		.replace("(", "\\(")
-		.replace(")", "\\)")
-		.replace(".", "\\.")
-		.replace("$", "\\$");
-	}
-
-	public static String join(String delimiter, Collection<?> objs) {
-		String joinedString = "";
-		Iterator<?> objsItr = objs.iterator();
-		while (objsItr.hasNext()) {
-			joinedString += objsItr.next().toString();
-			if (objsItr.hasNext()) {
-				joinedString += delimiter;
-			}
-		}
-		return joinedString;
-	}
-
-}
+/*
+ * This file is part of ToolFactory JVM driver.
+ *
+ * Hosted at: https://github.com/toolfactory/jvm-driver
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Luke Hutchison, Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.toolfactory.jvm.util;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+public class Strings {
+
+	public static String compile(String message, Object... arguments) {
+		for (Object obj : arguments) {
+			message = message.replaceFirst("\\{\\}", obj == null ? "null" : clear(obj.toString()));
+		}
+		return message;
+	}
+
+	private static String clear(String text) {
+		return text
+		.replace("\\", "\\\\\\")
+		.replace("{", "\\{")
+		.replace("}", "\\}")
+		.replace("(", "\\(")
+		.replace(")", "\\)")
+		.replace(".", "\\.")
+		.replace("$", "\\$");
+	}
+
+	public static String join(String delimiter, Collection<?> objs) {
+		String joinedString = "";
+		Iterator<?> objsItr = objs.iterator();
+		while (objsItr.hasNext()) {
+			joinedString += objsItr.next().toString();
+			if (objsItr.hasNext()) {
+				joinedString += delimiter;
+			}
+		}
+		return joinedString;
+	}
+
+}
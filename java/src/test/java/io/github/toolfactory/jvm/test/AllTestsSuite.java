@@ -10,7 +10,8 @@ import org.junit.runners.Suite;
     DefaultDriverTest.class,
     HybridDriverTest.class,
     NativeDriverTest.class,
-    DynamicDriverTest.class
+    DynamicDriverTest.class,
+    VarHandleDriverTest.class
 })
 public class AllTestsSuite {
 
@@ -20,6 +21,7 @@ public class AllTestsSuite {
 		new DynamicDriverTest().executeTests();
 		new HybridDriverTest().executeTests();
 		new NativeDriverTest().executeTests();
+		new VarHandleDriverTest().executeTests();
 	}
 
 }
@@ -1,365 +1,1145 @@
-package io.github.toolfactory.jvm.test;
-
-
-import static org.junit.Assert.assertTrue;
-
-import java.lang.reflect.Field;
-import java.lang.reflect.Member;
-import java.net.URL;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-
-import io.github.toolfactory.util.Reflection;
-
-
-@SuppressWarnings("unused")
-abstract class BaseTest {
-	protected Reflection reflection;
-
-
-	//For JDK 7 testing
-	void executeTests() {
-		getAndSetDirectVolatileTestOne();
-		getConsulterTestOne();
-		getDeclaredFieldsTestOne();
-		getDeclaredMethodsTestOne();
-		getDeclaredConstructorsTestOne();
-		allocateInstanceTestOne();
-		setAccessibleTestOne();
-		invokeTestOne();
-		newInstanceTestOne();
-		retrieveLoadedClassesTestOne();
-		retrieveLoadedPackagesTestOne();
-		getClassByNameTestOne();
-		retrieveResourcesAsStreamsTestOne();
-		convertToBuiltinClassLoader();
-		stopThread();
-	}
-
-
-	abstract Reflection getReflection();
-
-
-	void getAndSetDirectVolatileTestOne() {
-		try {
-			Object obj = new Object() {
-				volatile List<Object> objectValue;
-				volatile short shortValue;
-				volatile int intValue;
-				volatile long longValue;
-				volatile float floatValue;
-				volatile double doubleValue;
-				volatile boolean booleanValue;
-				volatile byte byteValue;
-				volatile char charValue;
-			};
-
-			Reflection reflection = getReflection();
-			Field field = reflection.getDeclaredField(obj.getClass(), "objectValue");
-			List<Object> objectValue = new ArrayList<>();
-			reflection.setFieldValue(obj, field, objectValue);
-			List<Object> objectValue2Var = reflection.getFieldValue(obj, field);
-			assertTrue(objectValue2Var == objectValue);
-			field = reflection.getDeclaredField(obj.getClass(), "shortValue");
-			reflection.setFieldValue(obj, field, (short)1);
-			short shortValue = reflection.getFieldValue(obj, field);
-			assertTrue(shortValue == 1);
-			field = reflection.getDeclaredField(obj.getClass(), "intValue");
-			reflection.setFieldValue(obj, field, 2);
-			int intValue = reflection.getFieldValue(obj, field);
-			assertTrue(intValue == 2);
-			field = reflection.getDeclaredField(obj.getClass(), "longValue");
-			reflection.setFieldValue(obj, field, 3L);
-			long longValue = reflection.getFieldValue(obj, field);
-			assertTrue(longValue == 3L);
-			field = reflection.getDeclaredField(obj.getClass(), "floatValue");
-			reflection.setFieldValue(obj, field, 4f);
-			float floatValue = reflection.getFieldValue(obj, field);
-			assertTrue(floatValue == 4f);
-			field = reflection.getDeclaredField(obj.getClass(), "doubleValue");
-			reflection.setFieldValue(obj, field, 5.1d);
-			double doubleValue = reflection.getFieldValue(obj, field);
-			assertTrue(doubleValue == 5.1d);
-			field = reflection.getDeclaredField(obj.getClass(), "booleanValue");
-			reflection.setFieldValue(obj, field, true);
-			boolean booleanValue = reflection.getFieldValue(obj, field);
-			assertTrue(booleanValue);
-			field = reflection.getDeclaredField(obj.getClass(), "byteValue");
-			reflection.setFieldValue(obj, field, (byte)6);
-			byte byteValue = reflection.getFieldValue(obj, field);
-			assertTrue(byteValue == 6);
-			field = reflection.getDeclaredField(obj.getClass(), "charValue");
-			reflection.setFieldValue(obj, field, 'a');
-			char charValue = reflection.getFieldValue(obj, field);
-			assertTrue(charValue == 'a');
-
-			obj = new ClassForTest();
-			objectValue = new ArrayList<>();
-			field = reflection.getDeclaredField(obj.getClass(), "objectValue");
-			reflection.setFieldValue(obj, field, objectValue);
-			objectValue2Var = reflection.getFieldValue(obj, field);
-			assertTrue(objectValue2Var == objectValue);
-			field = reflection.getDeclaredField(obj.getClass(), "shortValue");
-			reflection.setFieldValue(obj, field, (short)1);
-			shortValue = reflection.getFieldValue(obj, field);
-			assertTrue(shortValue == 1);
-			field = reflection.getDeclaredField(obj.getClass(), "intValue");
-			reflection.setFieldValue(obj, field, 2);
-			intValue = reflection.getFieldValue(obj, field);
-			assertTrue(intValue == 2);
-			field = reflection.getDeclaredField(obj.getClass(), "longValue");
-			reflection.setFieldValue(obj, field, 3L);
-			longValue = reflection.getFieldValue(obj, field);
-			assertTrue(longValue == 3L);
-			field = reflection.getDeclaredField(obj.getClass(), "floatValue");
-			reflection.setFieldValue(obj, field, 4f);
-			floatValue = reflection.getFieldValue(obj, field);
-			assertTrue(floatValue == 4f);
-			field = reflection.getDeclaredField(obj.getClass(), "doubleValue");
-			reflection.setFieldValue(obj, field, 5.1d);
-			doubleValue = reflection.getFieldValue(obj, field);
-			assertTrue(doubleValue == 5.1d);
-			field = reflection.getDeclaredField(obj.getClass(), "booleanValue");
-			reflection.setFieldValue(obj, field, true);
-			booleanValue = reflection.getFieldValue(obj, field);
-			assertTrue(booleanValue);
-			field = reflection.getDeclaredField(obj.getClass(), "byteValue");
-			reflection.setFieldValue(obj, field, (byte)6);
-			byteValue = reflection.getFieldValue(obj, field);
-			assertTrue(byteValue == 6);
-			field = reflection.getDeclaredField(obj.getClass(), "charValue");
-			reflection.setFieldValue(obj, field, 'a');
-			charValue = reflection.getFieldValue(obj, field);
-			assertTrue(charValue == 'a');
-		} catch (Throwable exc) {
-			exc.printStackTrace();
-			getReflection().getDriver().throwException(exc);
-		}
-	}
-
-
-	void getConsulterTestOne() {
-		try {
-			getReflection().getDriver().getConsulter(Class.class);
-		} catch (Throwable exc) {
-			exc.printStackTrace();
-			getReflection().getDriver().throwException(exc);
-		}
-	}
-
-	void getDeclaredFieldsTestOne() {
-		try {
-			for (Member member : getReflection().getDriver().getDeclaredFields(Class.class)) {
-				log(member);
-			}
-		} catch (Throwable exc) {
-			exc.printStackTrace();
-			getReflection().getDriver().throwException(exc);
-		}
-	}
-
-	void getDeclaredMethodsTestOne() {
-		try {
-			for (Member member : getReflection().getDriver().getDeclaredMethods(Class.class)) {
-				log(member);
-			}
-		} catch (Throwable exc) {
-			exc.printStackTrace();
-			getReflection().getDriver().throwException(exc);
-		}
-	}
-
-	void getDeclaredConstructorsTestOne() {
-		try {
-			for (Member member : getReflection().getDriver().getDeclaredConstructors(Class.class)) {
-				log(member);
-			}
-		} catch (Throwable exc) {
-			exc.printStackTrace();
-			getReflection().getDriver().throwException(exc);
-		}
-	}
-
-
-	void allocateInstanceTestOne() {
-		try {
-			log(getReflection().getDriver().allocateInstance(ClassForTest.class).toString());
-		} catch (Throwable exc) {
-			exc.printStackTrace();
-			getReflection().getDriver().throwException(exc);
-		}
-	}
-
-
-	void setAccessibleTestOne() {
-		try {
-			ClassForTest object = new ClassForTest();
-			Field field = ClassForTest.class.getDeclaredField("intValue");
-			getReflection().getDriver().setAccessible(field, true);
-			log(field.get(object));
-		} catch (Throwable exc) {
-			exc.printStackTrace();
-			getReflection().getDriver().throwException(exc);
-		}
-	}
-
-
-	void invokeTestOne() {
-		try {
-			int newValue = 10;
-			getReflection().getDriver().invoke(
-				null,
-				ClassForTest.class.getDeclaredMethod("setIntValue", int.class),
-				new Object[] {newValue}
-			);
-			assertTrue(
-				(Integer)getReflection().getDriver().getFieldValue(null, ClassForTest.class.getDeclaredField("intValue")) == newValue
-			);
-		} catch (Throwable exc) {
-			exc.printStackTrace();
-			getReflection().getDriver().throwException(exc);
-		}
-	}
-
-
-	void newInstanceTestOne() {
-		try {
-			int newValue = 20;
-			getReflection().getDriver().newInstance(
-				ClassForTest.class.getDeclaredConstructor(int.class),
-				new Object[] {newValue}
-			);
-			assertTrue(
-				(Integer)getReflection().getDriver().getFieldValue(null, ClassForTest.class.getDeclaredField("intValue")) == newValue
-			);
-		} catch (Throwable exc) {
-			exc.printStackTrace();
-			getReflection().getDriver().throwException(exc);
-		}
-	}
-
-
-	void retrieveLoadedClassesTestOne() {
-		try {
-			Collection<Class<?>> loadedClasses = getReflection().getDriver().getLoadedClassesRetriever(Thread.currentThread().getContextClassLoader()).get();
-			for (Class<?> cls : loadedClasses) {
-				log(cls.getName());
-			}
-		} catch (Throwable exc) {
-			exc.printStackTrace();
-			getReflection().getDriver().throwException(exc);
-		}
-	}
-
-
-	void retrieveLoadedPackagesTestOne() {
-		try {
-			Map<String, ?> loadedClasses = getReflection().getDriver().retrieveLoadedPackages(Thread.currentThread().getContextClassLoader());
-			for (Entry<String, ?> cls : loadedClasses.entrySet()) {
-				log(cls.getValue().toString());
-			}
-		} catch (Throwable exc) {
-			exc.printStackTrace();
-			getReflection().getDriver().throwException(exc);
-		}
-	}
-
-	public void getClassByNameTestOne() {
-		try {
-			Class<?> cls = getReflection().getDriver().getClassByName(
-				"java.lang.AssertionStatusDirectives", false,
-				this.getClass().getClassLoader(), this.getClass());
-			log(cls);
-		} catch (Throwable exc) {
-			exc.printStackTrace();
-			getReflection().getDriver().throwException(exc);
-		}
-	}
-
-	public void retrieveResourcesAsStreamsTestOne() {
-		try {
-			Collection<URL> loadedClasses = getReflection().getDriver().getResources(
-				"jvm-driver.properties",
-				false,
-				Thread.currentThread().getContextClassLoader()
-			);
-			for (URL entry : loadedClasses) {
-				log(entry.getPath());
-			}
-		} catch (Throwable exc) {
-			exc.printStackTrace();
-			getReflection().getDriver().throwException(exc);
-		}
-	}
-
-	public void convertToBuiltinClassLoader() {
-		try {
-			log(getReflection().getDriver().convertToBuiltinClassLoader(new ClassLoader() {}));
-		} catch (Throwable exc) {
-			exc.printStackTrace();
-			getReflection().getDriver().throwException(exc);
-		}
-	}
-
-
-	public void stopThread() {
-		log("stopThread test starting");
-		try {
-			Thread thread = new Thread(new Runnable() {
-
-				@Override
-				public void run() {
-					while (true) {
-						log(Thread.currentThread().getName() + " - " + System.currentTimeMillis());
-						try {
-							Thread.sleep(500);
-						} catch (InterruptedException e) {
-							e.printStackTrace();
-						}
-					}
-				}
-
-			}, "StopThreadTestThread");
-			thread.start();
-			Thread.sleep(5000);
-			getReflection().getDriver().stop(thread);
-			Thread.sleep(2000);
-			log(thread + " - " + thread.getState());
-		} catch (Throwable exc) {
-			exc.printStackTrace();
-			getReflection().getDriver().throwException(exc);
-		}
-	}
-
-
-	private void log(Object value) {
-		System.out.println(value != null ? value.toString() : "null");
-	}
-
-	private static class ClassForTest {
-
-		private static volatile List<Object> objectValue;
-		private static volatile short shortValue;
-		private static volatile int intValue;
-		private static volatile long longValue;
-		private static volatile float floatValue;
-		private static volatile double doubleValue;
-		private static volatile boolean booleanValue;
-		private static volatile byte byteValue;
-		private static volatile char charValue;
-
-		private ClassForTest() {}
-
-		private ClassForTest(int value) {
-			setIntValue(value);
-		}
-
-		private static void setIntValue(int value) {
-			intValue = value;
-		}
-	};
-
-}
+package io.github.toolfactory.jvm.test;
+
+
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinPool;
+
+import io.github.toolfactory.jvm.Driver;
+import io.github.toolfactory.jvm.Info;
+import io.github.toolfactory.jvm.function.template.Predicate;
+import io.github.toolfactory.jvm.util.AccessMode;
+import io.github.toolfactory.jvm.util.ClassMembers;
+import io.github.toolfactory.jvm.util.DeepSize;
+import io.github.toolfactory.jvm.util.FieldAccessor;
+import io.github.toolfactory.jvm.util.InstanceFactory;
+import io.github.toolfactory.jvm.util.MethodInvoker;
+import io.github.toolfactory.jvm.util.ObjectLayout;
+import io.github.toolfactory.jvm.util.PropertyPath;
+import io.github.toolfactory.jvm.util.Reflection;
+
+
+@SuppressWarnings("unused")
+abstract class BaseTest {
+	protected Reflection reflection;
+
+
+	//For JDK 7 testing
+	void executeTests() {
+		getAndSetDirectVolatileTestOne();
+		getConsulterTestOne();
+		getDeclaredFieldsTestOne();
+		getDeclaredMethodsTestOne();
+		getDeclaredConstructorsTestOne();
+		allocateInstanceTestOne();
+		setAccessibleTestOne();
+		invokeTestOne();
+		newInstanceTestOne();
+		retrieveLoadedClassesTestOne();
+		retrieveLoadedPackagesTestOne();
+		getClassByNameTestOne();
+		retrieveResourcesAsStreamsTestOne();
+		convertToBuiltinClassLoader();
+		stopThread();
+		getFieldAccessorTestOne();
+		getAndSetPrimitiveFieldValueTestOne();
+		atomicFieldValueUpdateTestOne();
+		getAndSetFieldValueWithAccessModeTestOne();
+		getGeneratedFieldAccessorTestOne();
+		arrayElementAccessTestOne();
+		batchFieldValueAccessTestOne();
+		getMethodInvokerTestOne();
+		asFunctionalInterfaceTestOne();
+		fixedArityInvokeTestOne();
+		getInstanceFactoryTestOne();
+		invokeAllTestOne();
+		newInstanceWithSuperConstructorTestOne();
+		invokeSpecialTestOne();
+		invokeByNameTestOne();
+		compilePathTestOne();
+		newProxyTestOne();
+		getClassMembersTestOne();
+		getDeclaredMemberTestOne();
+		getAllMembersTestOne();
+		queryMembersTestOne();
+		warmupTestOne();
+		getLayoutTestOne();
+		getDeepSizeTestOne();
+	}
+
+
+	abstract Reflection getReflection();
+
+
+	void getAndSetDirectVolatileTestOne() {
+		try {
+			Object obj = new Object() {
+				volatile List<Object> objectValue;
+				volatile short shortValue;
+				volatile int intValue;
+				volatile long longValue;
+				volatile float floatValue;
+				volatile double doubleValue;
+				volatile boolean booleanValue;
+				volatile byte byteValue;
+				volatile char charValue;
+			};
+
+			Reflection reflection = getReflection();
+			Field field = reflection.getDeclaredField(obj.getClass(), "objectValue");
+			List<Object> objectValue = new ArrayList<>();
+			reflection.setFieldValue(obj, field, objectValue);
+			List<Object> objectValue2Var = reflection.getFieldValue(obj, field);
+			assertTrue(objectValue2Var == objectValue);
+			field = reflection.getDeclaredField(obj.getClass(), "shortValue");
+			reflection.setFieldValue(obj, field, (short)1);
+			short shortValue = reflection.getFieldValue(obj, field);
+			assertTrue(shortValue == 1);
+			field = reflection.getDeclaredField(obj.getClass(), "intValue");
+			reflection.setFieldValue(obj, field, 2);
+			int intValue = reflection.getFieldValue(obj, field);
+			assertTrue(intValue == 2);
+			field = reflection.getDeclaredField(obj.getClass(), "longValue");
+			reflection.setFieldValue(obj, field, 3L);
+			long longValue = reflection.getFieldValue(obj, field);
+			assertTrue(longValue == 3L);
+			field = reflection.getDeclaredField(obj.getClass(), "floatValue");
+			reflection.setFieldValue(obj, field, 4f);
+			float floatValue = reflection.getFieldValue(obj, field);
+			assertTrue(floatValue == 4f);
+			field = reflection.getDeclaredField(obj.getClass(), "doubleValue");
+			reflection.setFieldValue(obj, field, 5.1d);
+			double doubleValue = reflection.getFieldValue(obj, field);
+			assertTrue(doubleValue == 5.1d);
+			field = reflection.getDeclaredField(obj.getClass(), "booleanValue");
+			reflection.setFieldValue(obj, field, true);
+			boolean booleanValue = reflection.getFieldValue(obj, field);
+			assertTrue(booleanValue);
+			field = reflection.getDeclaredField(obj.getClass(), "byteValue");
+			reflection.setFieldValue(obj, field, (byte)6);
+			byte byteValue = reflection.getFieldValue(obj, field);
+			assertTrue(byteValue == 6);
+			field = reflection.getDeclaredField(obj.getClass(), "charValue");
+			reflection.setFieldValue(obj, field, 'a');
+			char charValue = reflection.getFieldValue(obj, field);
+			assertTrue(charValue == 'a');
+
+			obj = new ClassForTest();
+			objectValue = new ArrayList<>();
+			field = reflection.getDeclaredField(obj.getClass(), "objectValue");
+			reflection.setFieldValue(obj, field, objectValue);
+			objectValue2Var = reflection.getFieldValue(obj, field);
+			assertTrue(objectValue2Var == objectValue);
+			field = reflection.getDeclaredField(obj.getClass(), "shortValue");
+			reflection.setFieldValue(obj, field, (short)1);
+			shortValue = reflection.getFieldValue(obj, field);
+			assertTrue(shortValue == 1);
+			field = reflection.getDeclaredField(obj.getClass(), "intValue");
+			reflection.setFieldValue(obj, field, 2);
+			intValue = reflection.getFieldValue(obj, field);
+			assertTrue(intValue == 2);
+			field = reflection.getDeclaredField(obj.getClass(), "longValue");
+			reflection.setFieldValue(obj, field, 3L);
+			longValue = reflection.getFieldValue(obj, field);
+			assertTrue(longValue == 3L);
+			field = reflection.getDeclaredField(obj.getClass(), "floatValue");
+			reflection.setFieldValue(obj, field, 4f);
+			floatValue = reflection.getFieldValue(obj, field);
+			assertTrue(floatValue == 4f);
+			field = reflection.getDeclaredField(obj.getClass(), "doubleValue");
+			reflection.setFieldValue(obj, field, 5.1d);
+			doubleValue = reflection.getFieldValue(obj, field);
+			assertTrue(doubleValue == 5.1d);
+			field = reflection.getDeclaredField(obj.getClass(), "booleanValue");
+			reflection.setFieldValue(obj, field, true);
+			booleanValue = reflection.getFieldValue(obj, field);
+			assertTrue(booleanValue);
+			field = reflection.getDeclaredField(obj.getClass(), "byteValue");
+			reflection.setFieldValue(obj, field, (byte)6);
+			byteValue = reflection.getFieldValue(obj, field);
+			assertTrue(byteValue == 6);
+			field = reflection.getDeclaredField(obj.getClass(), "charValue");
+			reflection.setFieldValue(obj, field, 'a');
+			charValue = reflection.getFieldValue(obj, field);
+			assertTrue(charValue == 'a');
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void getConsulterTestOne() {
+		try {
+			getReflection().getDriver().getConsulter(Class.class);
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+	void getDeclaredFieldsTestOne() {
+		try {
+			for (Member member : getReflection().getDriver().getDeclaredFields(Class.class)) {
+				log(member);
+			}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+	void getDeclaredMethodsTestOne() {
+		try {
+			for (Member member : getReflection().getDriver().getDeclaredMethods(Class.class)) {
+				log(member);
+			}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+	void getDeclaredConstructorsTestOne() {
+		try {
+			for (Member member : getReflection().getDriver().getDeclaredConstructors(Class.class)) {
+				log(member);
+			}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void allocateInstanceTestOne() {
+		try {
+			log(getReflection().getDriver().allocateInstance(ClassForTest.class).toString());
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void setAccessibleTestOne() {
+		try {
+			ClassForTest object = new ClassForTest();
+			Field field = ClassForTest.class.getDeclaredField("intValue");
+			getReflection().getDriver().setAccessible(field, true);
+			log(field.get(object));
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void invokeTestOne() {
+		try {
+			int newValue = 10;
+			getReflection().getDriver().invoke(
+				null,
+				ClassForTest.class.getDeclaredMethod("setIntValue", int.class),
+				new Object[] {newValue}
+			);
+			assertTrue(
+				(Integer)getReflection().getDriver().getFieldValue(null, ClassForTest.class.getDeclaredField("intValue")) == newValue
+			);
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void newInstanceTestOne() {
+		try {
+			int newValue = 20;
+			getReflection().getDriver().newInstance(
+				ClassForTest.class.getDeclaredConstructor(int.class),
+				new Object[] {newValue}
+			);
+			assertTrue(
+				(Integer)getReflection().getDriver().getFieldValue(null, ClassForTest.class.getDeclaredField("intValue")) == newValue
+			);
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void retrieveLoadedClassesTestOne() {
+		try {
+			Collection<Class<?>> loadedClasses = getReflection().getDriver().getLoadedClassesRetriever(Thread.currentThread().getContextClassLoader()).get();
+			for (Class<?> cls : loadedClasses) {
+				log(cls.getName());
+			}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void retrieveLoadedPackagesTestOne() {
+		try {
+			Map<String, ?> loadedClasses = getReflection().getDriver().retrieveLoadedPackages(Thread.currentThread().getContextClassLoader());
+			for (Entry<String, ?> cls : loadedClasses.entrySet()) {
+				log(cls.getValue().toString());
+			}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+	public void getClassByNameTestOne() {
+		try {
+			Class<?> cls = getReflection().getDriver().getClassByName(
+				"java.lang.AssertionStatusDirectives", false,
+				this.getClass().getClassLoader(), this.getClass());
+			log(cls);
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+	public void retrieveResourcesAsStreamsTestOne() {
+		try {
+			Collection<URL> loadedClasses = getReflection().getDriver().getResources(
+				"jvm-driver.properties",
+				false,
+				Thread.currentThread().getContextClassLoader()
+			);
+			for (URL entry : loadedClasses) {
+				log(entry.getPath());
+			}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+	public void convertToBuiltinClassLoader() {
+		try {
+			log(getReflection().getDriver().convertToBuiltinClassLoader(new ClassLoader() {}));
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	public void stopThread() {
+		log("stopThread test starting");
+		try {
+			Thread thread = new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+					while (true) {
+						log(Thread.currentThread().getName() + " - " + System.currentTimeMillis());
+						try {
+							Thread.sleep(500);
+						} catch (InterruptedException e) {
+							e.printStackTrace();
+						}
+					}
+				}
+
+			}, "StopThreadTestThread");
+			thread.start();
+			Thread.sleep(5000);
+			getReflection().getDriver().stop(thread);
+			Thread.sleep(2000);
+			log(thread + " - " + thread.getState());
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void getFieldAccessorTestOne() {
+		try {
+			Object obj = new Object() {
+				List<Object> objectValue;
+				int intValue;
+				long longValue;
+				char charValue;
+			};
+			Reflection reflection = getReflection();
+			FieldAccessor fieldAccessor = reflection.getDriver().getFieldAccessor(reflection.getDeclaredField(obj.getClass(), "objectValue"));
+			List<Object> objectValue = new ArrayList<>();
+			fieldAccessor.set(obj, objectValue);
+			List<Object> objectValue2Var = fieldAccessor.get(obj);
+			assertTrue(objectValue2Var == objectValue);
+			fieldAccessor = reflection.getDriver().getFieldAccessor(reflection.getDeclaredField(obj.getClass(), "intValue"));
+			fieldAccessor.set(obj, 2);
+			int intValue = fieldAccessor.get(obj);
+			assertTrue(intValue == 2);
+			fieldAccessor.setInt(obj, 4);
+			assertTrue(fieldAccessor.getInt(obj) == 4);
+			try {
+				fieldAccessor.getLong(obj);
+				assertTrue(false);
+			} catch (IllegalArgumentException exc) {}
+			fieldAccessor = reflection.getDriver().getFieldAccessor(reflection.getDeclaredField(obj.getClass(), "longValue"));
+			fieldAccessor.set(obj, 3L);
+			long longValue = fieldAccessor.get(obj);
+			assertTrue(longValue == 3L);
+			fieldAccessor = reflection.getDriver().getFieldAccessor(reflection.getDeclaredField(obj.getClass(), "charValue"));
+			fieldAccessor.set(obj, 'a');
+			char charValue = fieldAccessor.get(obj);
+			assertTrue(charValue == 'a');
+
+			fieldAccessor = reflection.getDriver().getFieldAccessor(reflection.getDeclaredField(ClassForTest.class, "doubleValue"));
+			fieldAccessor.set(null, 5.1d);
+			double doubleValue = fieldAccessor.get(null);
+			assertTrue(doubleValue == 5.1d);
+			fieldAccessor = reflection.getDriver().getFieldAccessor(reflection.getDeclaredField(ClassForTest.class, "booleanValue"));
+			fieldAccessor.set(null, true);
+			boolean booleanValue = fieldAccessor.get(null);
+			assertTrue(booleanValue);
+			fieldAccessor.setBoolean(null, false);
+			assertTrue(!fieldAccessor.getBoolean(null));
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void getAndSetPrimitiveFieldValueTestOne() {
+		try {
+			Object obj = new Object() {
+				short shortValue;
+				int intValue;
+				long longValue;
+				float floatValue;
+			};
+			Reflection reflection = getReflection();
+			Driver driver = reflection.getDriver();
+			Field field = reflection.getDeclaredField(obj.getClass(), "shortValue");
+			driver.setShortFieldValue(obj, field, (short)1);
+			assertTrue(driver.getShortFieldValue(obj, field) == 1);
+			field = reflection.getDeclaredField(obj.getClass(), "intValue");
+			driver.setIntFieldValue(obj, field, 2);
+			assertTrue(driver.getIntFieldValue(obj, field) == 2);
+			field = reflection.getDeclaredField(obj.getClass(), "longValue");
+			driver.setLongFieldValue(obj, field, 3L);
+			assertTrue(driver.getLongFieldValue(obj, field) == 3L);
+			field = reflection.getDeclaredField(obj.getClass(), "floatValue");
+			driver.setFloatFieldValue(obj, field, 4.1f);
+			assertTrue(driver.getFloatFieldValue(obj, field) == 4.1f);
+
+			field = reflection.getDeclaredField(ClassForTest.class, "doubleValue");
+			driver.setDoubleFieldValue(null, field, 5.1d);
+			assertTrue(driver.getDoubleFieldValue(null, field) == 5.1d);
+			field = reflection.getDeclaredField(ClassForTest.class, "booleanValue");
+			driver.setBooleanFieldValue(null, field, true);
+			assertTrue(driver.getBooleanFieldValue(null, field));
+			field = reflection.getDeclaredField(ClassForTest.class, "byteValue");
+			driver.setByteFieldValue(null, field, (byte)7);
+			assertTrue(driver.getByteFieldValue(null, field) == 7);
+			field = reflection.getDeclaredField(ClassForTest.class, "charValue");
+			driver.setCharFieldValue(null, field, 'c');
+			assertTrue(driver.getCharFieldValue(null, field) == 'c');
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void atomicFieldValueUpdateTestOne() {
+		try {
+			Object obj = new Object() {
+				Object objectValue;
+				int intValue;
+				long longValue;
+			};
+			Reflection reflection = getReflection();
+			Driver driver = reflection.getDriver();
+			Field field = reflection.getDeclaredField(obj.getClass(), "objectValue");
+			Object objectValue = new Object();
+			assertTrue(driver.compareAndSetFieldValue(obj, field, null, objectValue));
+			assertTrue(!driver.compareAndSetFieldValue(obj, field, null, new Object()));
+			assertTrue(driver.getAndSetFieldValue(obj, field, null) == objectValue);
+			field = reflection.getDeclaredField(obj.getClass(), "intValue");
+			assertTrue(driver.compareAndSetIntFieldValue(obj, field, 0, 1));
+			assertTrue(driver.getAndAddIntFieldValue(obj, field, 2) == 1);
+			assertTrue(driver.getAndSetIntFieldValue(obj, field, 5) == 3);
+			assertTrue(driver.getIntFieldValue(obj, field) == 5);
+			field = reflection.getDeclaredField(ClassForTest.class, "longValue");
+			long longValue = driver.getLongFieldValue(null, field);
+			assertTrue(driver.compareAndSetLongFieldValue(null, field, longValue, 1L));
+			assertTrue(driver.getAndAddLongFieldValue(null, field, 2L) == 1L);
+			assertTrue(driver.getAndSetLongFieldValue(null, field, 5L) == 3L);
+			assertTrue(driver.getLongFieldValue(null, field) == 5L);
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void getAndSetFieldValueWithAccessModeTestOne() {
+		try {
+			Object obj = new Object() {
+				List<Object> objectValue;
+				int intValue;
+				short shortValue;
+			};
+			Reflection reflection = getReflection();
+			Driver driver = reflection.getDriver();
+			Field field = reflection.getDeclaredField(obj.getClass(), "objectValue");
+			List<Object> objectValue = new ArrayList<>();
+			driver.setFieldValue(obj, field, objectValue, AccessMode.RELEASE);
+			assertTrue(driver.getFieldValue(obj, field, AccessMode.ACQUIRE) == objectValue);
+			field = reflection.getDeclaredField(obj.getClass(), "intValue");
+			driver.setFieldValue(obj, field, 1, AccessMode.OPAQUE);
+			int intValue = driver.getFieldValue(obj, field, AccessMode.OPAQUE);
+			assertTrue(intValue == 1);
+			field = reflection.getDeclaredField(obj.getClass(), "shortValue");
+			driver.setFieldValue(obj, field, (short)2, AccessMode.RELEASE);
+			short shortValue = driver.getFieldValue(obj, field, AccessMode.VOLATILE);
+			assertTrue(shortValue == 2);
+			field = reflection.getDeclaredField(ClassForTest.class, "longValue");
+			driver.setFieldValue(null, field, 3L, AccessMode.PLAIN);
+			long longValue = driver.getFieldValue(null, field, AccessMode.PLAIN);
+			assertTrue(longValue == 3L);
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void getGeneratedFieldAccessorTestOne() {
+		try {
+			Object obj = new Object() {
+				private List<Object> objectValue;
+				private int intValue;
+				private final long longValue = System.currentTimeMillis();
+			};
+			Reflection reflection = getReflection();
+			FieldAccessor fieldAccessor = reflection.getDriver().getGeneratedFieldAccessor(reflection.getDeclaredField(obj.getClass(), "objectValue"));
+			List<Object> objectValue = new ArrayList<>();
+			fieldAccessor.set(obj, objectValue);
+			List<Object> objectValue2Var = fieldAccessor.get(obj);
+			assertTrue(objectValue2Var == objectValue);
+			fieldAccessor = reflection.getDriver().getGeneratedFieldAccessor(reflection.getDeclaredField(obj.getClass(), "intValue"));
+			fieldAccessor.set(obj, 2);
+			int intValue = fieldAccessor.get(obj);
+			assertTrue(intValue == 2);
+			fieldAccessor.setInt(obj, 4);
+			assertTrue(fieldAccessor.getInt(obj) == 4);
+			fieldAccessor = reflection.getDriver().getGeneratedFieldAccessor(reflection.getDeclaredField(obj.getClass(), "longValue"));
+			fieldAccessor.set(obj, 3L);
+			long longValue = fieldAccessor.get(obj);
+			assertTrue(longValue == 3L);
+			fieldAccessor.setLong(obj, 5L);
+			assertTrue(fieldAccessor.getLong(obj) == 5L);
+
+			String string = "Hello World!";
+			fieldAccessor = reflection.getDriver().getGeneratedFieldAccessor(reflection.getDeclaredField(String.class, "hash"));
+			intValue = fieldAccessor.get(string);
+			assertTrue(intValue == 0 || intValue == string.hashCode());
+			string.hashCode();
+			intValue = fieldAccessor.get(string);
+			assertTrue(intValue == string.hashCode());
+
+			fieldAccessor = reflection.getDriver().getGeneratedFieldAccessor(reflection.getDeclaredField(ClassForTest.class, "doubleValue"));
+			fieldAccessor.set(null, 6.1d);
+			double doubleValue = fieldAccessor.get(null);
+			assertTrue(doubleValue == 6.1d);
+			fieldAccessor.setDouble(null, 7.1d);
+			assertTrue(fieldAccessor.getDouble(null) == 7.1d);
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void arrayElementAccessTestOne() {
+		try {
+			Object obj = new Object() {
+				private int[] intValues = new int[] {1, 2, 3, 4};
+				private String[] stringValues = new String[] {"a", "b"};
+			};
+			Reflection reflection = getReflection();
+			Driver driver = reflection.getDriver();
+			int[] intValues = driver.getFieldValue(obj, reflection.getDeclaredField(obj.getClass(), "intValues"));
+			driver.setIntArrayElement(intValues, 1, 5);
+			assertTrue(driver.getIntArrayElement(intValues, 1) == 5);
+			driver.setArrayElement(intValues, 2, 6);
+			int intValue = driver.getArrayElement(intValues, 2);
+			assertTrue(intValue == 6);
+			String[] stringValues = driver.getFieldValue(obj, reflection.getDeclaredField(obj.getClass(), "stringValues"));
+			driver.setArrayElement(stringValues, 1, "c");
+			String stringValue = driver.getArrayElement(stringValues, 1);
+			assertTrue("c".equals(stringValue));
+
+			int[] intValuesCopy = new int[4];
+			driver.copyArray(intValues, 0, intValuesCopy, 0, 4);
+			assertTrue(Arrays.equals(intValues, intValuesCopy));
+			Integer[] boxedIntValues = new Integer[2];
+			driver.copyArray(intValues, 1, boxedIntValues, 0, 2);
+			assertTrue(boxedIntValues[0] == 5 && boxedIntValues[1] == 6);
+			ByteBuffer byteBuffer = driver.toByteBuffer(intValues, 1, 3);
+			assertTrue(byteBuffer.remaining() == 12 && byteBuffer.getInt(4) == 6);
+			try {
+				driver.getIntArrayElement(intValues, 4);
+				assertTrue(false);
+			} catch (ArrayIndexOutOfBoundsException exc) {}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void batchFieldValueAccessTestOne() {
+		try {
+			Reflection reflection = getReflection();
+			Driver driver = reflection.getDriver();
+			Field[] fields = new Field[] {
+				reflection.getDeclaredField(ClassForTest.class, "doubleValue"),
+				reflection.getDeclaredField(ClassForTest.class, "booleanValue")
+			};
+			driver.setFieldValues(null, fields, new Object[] {7.1d, true});
+			Object[] values = driver.getFieldValues(null, fields);
+			assertTrue(values.length == 2 && values[0].equals(7.1d) && values[1].equals(Boolean.TRUE));
+
+			Object[] targets = new Object[] {new ArrayList<>(), new ArrayList<>()};
+			Field sizeField = reflection.getDeclaredField(ArrayList.class, "size");
+			driver.setFieldValues(targets, sizeField, new Object[] {0, 0});
+			values = driver.getFieldValues(targets, sizeField);
+			assertTrue(values.length == 2 && values[0].equals(0) && values[1].equals(0));
+			try {
+				driver.setFieldValues(targets, sizeField, new Object[] {0});
+				assertTrue(false);
+			} catch (IllegalArgumentException exc) {}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void getMethodInvokerTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			MethodInvoker methodInvoker = driver.getMethodInvoker(ClassForTest.class.getDeclaredMethod("setIntValue", int.class));
+			assertTrue(methodInvoker == driver.getMethodInvoker(methodInvoker.getMethod()));
+			methodInvoker.invoke(null, 30);
+			assertTrue((Integer)driver.getFieldValue(null, ClassForTest.class.getDeclaredField("intValue")) == 30);
+
+			List<Object> list = new ArrayList<>();
+			list.add("Hello");
+			methodInvoker = driver.getMethodInvoker(ArrayList.class.getDeclaredMethod("elementData", int.class));
+			String element = methodInvoker.invoke(list, 0);
+			assertTrue("Hello".equals(element));
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void asFunctionalInterfaceTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			IntValueSetter intValueSetter = driver.asFunctionalInterface(
+				ClassForTest.class.getDeclaredMethod("setIntValue", int.class), IntValueSetter.class
+			);
+			intValueSetter.set(40);
+			assertTrue((Integer)driver.getFieldValue(null, ClassForTest.class.getDeclaredField("intValue")) == 40);
+			ObjectFactory objectFactory = driver.asFunctionalInterface(
+				ClassForTest.class.getDeclaredConstructor(int.class), ObjectFactory.class
+			);
+			assertTrue(objectFactory.create(50) instanceof ClassForTest);
+			assertTrue((Integer)driver.getFieldValue(null, ClassForTest.class.getDeclaredField("intValue")) == 50);
+
+			List<Object> list = new ArrayList<>();
+			list.add("Hello");
+			ElementRetriever elementRetriever = driver.asFunctionalInterface(
+				ArrayList.class.getDeclaredMethod("elementData", int.class), ElementRetriever.class
+			);
+			assertTrue("Hello".equals(elementRetriever.get(list, 0)));
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void fixedArityInvokeTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			driver.invoke1(null, ClassForTest.class.getDeclaredMethod("setIntValue", int.class), 60);
+			assertTrue((Integer)driver.getFieldValue(null, ClassForTest.class.getDeclaredField("intValue")) == 60);
+			ClassForTest object = driver.newInstance1(ClassForTest.class.getDeclaredConstructor(int.class), 70);
+			assertTrue((Integer)driver.getFieldValue(null, ClassForTest.class.getDeclaredField("intValue")) == 70);
+			object = driver.newInstance0(ClassForTest.class.getDeclaredConstructor());
+			assertTrue(object != null);
+
+			List<Object> list = new ArrayList<>();
+			list.add("Hello");
+			String element = driver.invoke1(list, ArrayList.class.getDeclaredMethod("elementData", int.class), 0);
+			assertTrue("Hello".equals(element));
+			try {
+				driver.invoke2(list, ArrayList.class.getDeclaredMethod("elementData", int.class), 0, 1);
+				assertTrue(false);
+			} catch (IllegalArgumentException exc) {}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void getInstanceFactoryTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			InstanceFactory<ClassForTest> instanceFactory = driver.getInstanceFactory(ClassForTest.class.getDeclaredConstructor(int.class));
+			assertTrue(instanceFactory == driver.getInstanceFactory(ClassForTest.class.getDeclaredConstructor(int.class)));
+			assertTrue(instanceFactory.apply(80) != null);
+			assertTrue((Integer)driver.getFieldValue(null, ClassForTest.class.getDeclaredField("intValue")) == 80);
+			assertTrue(instanceFactory.newInstance(90) != null);
+			assertTrue((Integer)driver.getFieldValue(null, ClassForTest.class.getDeclaredField("intValue")) == 90);
+			instanceFactory = driver.getInstanceFactory(ClassForTest.class.getDeclaredConstructor());
+			assertTrue(instanceFactory.get() != null);
+			try {
+				instanceFactory.apply(100);
+				assertTrue(false);
+			} catch (IllegalArgumentException exc) {}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void invokeAllTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			List<List<Object>> lists = new ArrayList<>();
+			for (int i = 0; i < 5000; i++) {
+				List<Object> list = new ArrayList<>();
+				list.add(i);
+				lists.add(list);
+			}
+			Method method = ArrayList.class.getDeclaredMethod("elementData", int.class);
+			Object[] results = new Object[lists.size()];
+			driver.invokeAll(method, lists, new Object[] {0}, results);
+			assertTrue(results[4999].equals(4999));
+			results = new Object[lists.size()];
+			ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+			try {
+				driver.invokeAll(method, lists, new Object[] {0}, results, forkJoinPool);
+			} finally {
+				forkJoinPool.shutdown();
+			}
+			for (int i = 0; i < results.length; i++) {
+				assertTrue(results[i].equals(i));
+			}
+			try {
+				driver.invokeAll(method, lists, new Object[] {0}, new Object[1]);
+				assertTrue(false);
+			} catch (IllegalArgumentException exc) {}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void newInstanceWithSuperConstructorTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			SubClassForTest object = driver.newInstanceWithSuperConstructor(
+				SubClassForTest.class, ClassForTest.class.getDeclaredConstructor(int.class), 110
+			);
+			assertTrue(object.getClass() == SubClassForTest.class && object.value == null);
+			assertTrue((Integer)driver.getFieldValue(null, ClassForTest.class.getDeclaredField("intValue")) == 110);
+			try {
+				driver.newInstanceWithSuperConstructor(String.class, ClassForTest.class.getDeclaredConstructor());
+				assertTrue(false);
+			} catch (IllegalArgumentException exc) {}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void invokeSpecialTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			SubClassForTest object = driver.newInstance0(SubClassForTest.class.getDeclaredConstructor());
+			assertTrue("SubClassForTest".equals(object.toString()));
+			String value = driver.invokeSpecial(object, Object.class.getDeclaredMethod("toString"), SubClassForTest.class);
+			assertTrue(value.startsWith(SubClassForTest.class.getName() + "@"));
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void invokeByNameTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			List<Object> list = new ArrayList<>();
+			driver.invokeByName(list, "add", "b");
+			driver.invokeByName(list, "add", 0, "a");
+			assertTrue((Boolean)driver.invokeByName(list, "containsAll", Arrays.asList("a", "b")));
+			assertTrue(Integer.valueOf(2).equals(driver.invokeByName(list, "size")));
+			assertTrue("bc".equals(driver.invokeByName("abc", "substring", 1)));
+			assertTrue(Long.valueOf(5).equals(driver.invokeByName(Long.valueOf(0), "valueOf", 5)));
+			assertTrue("a:b".equals(driver.invokeByName("", "format", "%s:%s", "a", "b")));
+			try {
+				//Both append(String) and append(char[]) accept a null argument
+				driver.invokeByName(new StringBuilder(), "append", (Object)null);
+				assertTrue(false);
+			} catch (IllegalArgumentException exc) {}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void compilePathTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			PathNodeForTest root = new PathNodeForTest(1, new PathNodeForTest(2, null));
+			root.next.buffers = new ByteBuffer[] {ByteBuffer.allocate(8), ByteBuffer.allocate(16)};
+			PropertyPath path = driver.compilePath(PathNodeForTest.class, "next.buffers[1].position");
+			assertTrue(path == driver.compilePath(PathNodeForTest.class, "next.buffers[1].position"));
+			assertTrue(path.getType() == int.class);
+			path.setInt(root, 5);
+			assertTrue(root.next.buffers[1].position() == 5 && path.getInt(root) == 5 && path.getLong(root) == 5L);
+			assertTrue(Integer.valueOf(5).equals(path.get(root)));
+			PropertyPath idPath = driver.compilePath(PathNodeForTest.class, "next.id");
+			idPath.set(root, 3);
+			assertTrue(idPath.getInt(root) == 3);
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void newProxyTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			Object handler = new Object() {
+				public long add(int valueOne, long valueTwo) {
+					return valueOne + valueTwo;
+				}
+
+				public String describe(double value) {
+					return "value " + value;
+				}
+
+				public int compare(Object valueOne, Object valueTwo) {
+					return valueOne.toString().compareTo(valueTwo.toString());
+				}
+
+				@Override
+				public String toString() {
+					return "handled";
+				}
+			};
+			Calculator calculator = driver.newProxy(Calculator.class, handler);
+			assertTrue(calculator.add(1, 2L) == 3L);
+			assertTrue("value 1.5".equals(calculator.describe(1.5d)));
+			SubClassForTest object = driver.newProxy(SubClassForTest.class, handler);
+			assertTrue("handled".equals(object.toString()));
+			assertTrue(object.getClass() == driver.newProxy(SubClassForTest.class, handler).getClass());
+			@SuppressWarnings("unchecked")
+			Comparator<Object> comparator = driver.newProxy(Comparator.class, handler);
+			assertTrue(comparator.compare("a", "b") < 0 && comparator.equals(comparator));
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void getClassMembersTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			ClassMembers members = driver.getClassMembers(PathNodeForTest.class);
+			assertTrue(members == driver.getClassMembers(PathNodeForTest.class));
+			assertTrue(members.getFields().size() == 3 && members.getFieldsByName().get("next").getType() == PathNodeForTest.class);
+			Constructor<?> constructor = members.getConstructor(int.class, PathNodeForTest.class);
+			assertTrue(members.getConstructors().contains(constructor));
+			assertTrue(members.getParameterTypes(constructor).equals(Arrays.asList(int.class, PathNodeForTest.class)));
+			assertTrue(driver.getClassMembers(ClassForTest.class).getMethodsByName().get("setIntValue").size() == 1);
+			try {
+				members.getFields().clear();
+				assertTrue(false);
+			} catch (UnsupportedOperationException exc) {}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void getDeclaredMemberTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			assertTrue(driver.getDeclaredField(PathNodeForTest.class, "buffers").getType() == ByteBuffer[].class);
+			assertTrue(driver.getDeclaredMethod(ClassForTest.class, "setIntValue", int.class).getParameterTypes()[0] == int.class);
+			assertTrue(driver.getDeclaredConstructor(ClassForTest.class).getParameterTypes().length == 0);
+			assertTrue(driver.getDeclaredConstructor(ClassForTest.class, int.class).getParameterTypes().length == 1);
+			try {
+				driver.getDeclaredMethod(ClassForTest.class, "setIntValue", long.class);
+				assertTrue(false);
+			} catch (Throwable exc) {
+				assertTrue(exc instanceof NoSuchMethodException);
+			}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void getAllMembersTestOne() {
+		try {
+			Reflection reflection = getReflection();
+			Collection<Field> fields = reflection.getAllFields(SubClassForTest.class);
+			assertTrue(fields == reflection.getAllFields(SubClassForTest.class));
+			assertTrue(fields.contains(reflection.getDeclaredField(ClassForTest.class, "intValue")));
+			Collection<Method> methods = reflection.getAllMethods(
+				SubClassForTest.class,
+				new Predicate<Method>() {
+					@Override
+					public boolean test(Method method) {
+						return method.getName().equals("toString");
+					}
+				}
+			);
+			assertTrue(methods.size() == 2 && methods.iterator().next().getDeclaringClass() == SubClassForTest.class);
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void queryMembersTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			Collection<Field> fields = driver.queryFields(ClassForTest.class)
+				.withModifiers(Modifier.STATIC | Modifier.VOLATILE).ofType(Number.class).findAll();
+			assertTrue(fields.isEmpty());
+			Field field = driver.queryFields(SubClassForTest.class).inHierarchy()
+				.withModifiers(Modifier.STATIC).withNameMatching("int.*").ofType(int.class).findFirst();
+			assertTrue(field != null && field.getDeclaringClass() == ClassForTest.class);
+			assertTrue(driver.queryMethods(Thread.class).named("stop").annotatedWith(Deprecated.class).findFirst() != null);
+			assertTrue(driver.queryConstructors(ClassForTest.class).withModifiers(Modifier.PRIVATE).findAll().size() == 2);
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void warmupTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			Class<?> loadedClass = WarmupTargetForTest.class;
+			driver.warmup(BaseTest.class.getClassLoader(), BaseTest.class.getPackage().getName());
+			//The type of a field is loaded only when the declared fields of its class are retrieved
+			boolean fieldTypeLoaded = false;
+			for (Class<?> cls : new ArrayList<>(driver.getLoadedClassesRetriever(BaseTest.class.getClassLoader()).get())) {
+				fieldTypeLoaded |= cls.getName().equals(BaseTest.class.getName() + "$WarmupFieldTypeForTest");
+			}
+			assertTrue(fieldTypeLoaded);
+			assertTrue(driver.getClassMembers(loadedClass).getFields().get(0).getType().getSimpleName().equals("WarmupFieldTypeForTest"));
+			List<Class<?>> classes = new ArrayList<>();
+			for (Class<?> cls = SubClassForTest.class; cls != null; cls = cls.getSuperclass()) {
+				classes.add(cls);
+			}
+			ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+			try {
+				driver.warmup(classes, forkJoinPool);
+			} finally {
+				forkJoinPool.shutdown();
+			}
+			assertTrue(driver.getClassMembers(ClassForTest.class).getMethodsByName().get("setIntValue").size() == 1);
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void getLayoutTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			ObjectLayout layout = driver.getLayout(PathNodeForTest.class);
+			assertTrue(layout == driver.getLayout(PathNodeForTest.class));
+			assertTrue(layout.getFields().size() == 3 && layout.getHeaderSize() >= 8);
+			long previousOffset = 0;
+			for (ObjectLayout.FieldLayout field : layout.getFields()) {
+				assertTrue(field.getOffset() >= layout.getHeaderSize() && field.getOffset() >= previousOffset);
+				previousOffset = field.getOffset();
+			}
+			assertTrue(layout.getInstanceSize() % layout.getAlignment() == 0 && layout.getPadding() >= 0);
+			assertTrue(layout.getInstanceSize() == layout.getHeaderSize() + layout.getFieldsSize() + layout.getPadding());
+			ObjectLayout arrayLayout = driver.getLayout(long[].class);
+			assertTrue(arrayLayout.getElementSize() == 8 && arrayLayout.getArraySize(3) >= arrayLayout.getHeaderSize() + 24);
+			if (Info.Provider.getInfoInstance().getVersion() >= 16) {
+				//A record of the JDK, whose field offsets are rejected by sun.misc.Unsafe
+				assertTrue(driver.getLayout(Class.forName("jdk.net.UnixDomainPrincipal")).getFields().size() == 2);
+			}
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	void getDeepSizeTestOne() {
+		try {
+			Driver driver = getReflection().getDriver();
+			PathNodeForTest nodeTwo = new PathNodeForTest(2, null);
+			PathNodeForTest nodeOne = new PathNodeForTest(1, nodeTwo);
+			nodeTwo.next = nodeOne;
+			nodeTwo.buffers = new ByteBuffer[3];
+			long nodeSize = driver.getLayout(PathNodeForTest.class).getInstanceSize();
+			long buffersSize = driver.getLayout(ByteBuffer[].class).getArraySize(3);
+			DeepSize deepSize = driver.getDeepSize(nodeOne);
+			assertTrue(deepSize.getCount() == 3 && deepSize.getSize() == nodeSize * 2 + buffersSize);
+			assertTrue(deepSize.getEntry(PathNodeForTest.class).getCount() == 2);
+			assertTrue(deepSize.getHistogram().values().iterator().next().getSize() == Math.max(nodeSize * 2, buffersSize));
+			deepSize = driver.getDeepSize(nodeOne, new Predicate<Object>() {
+				@Override
+				public boolean test(Object object) {
+					return object instanceof Object[];
+				}
+			});
+			assertTrue(deepSize.getCount() == 2 && deepSize.getSize() == nodeSize * 2 && deepSize.getEntry(ByteBuffer[].class) == null);
+		} catch (Throwable exc) {
+			exc.printStackTrace();
+			getReflection().getDriver().throwException(exc);
+		}
+	}
+
+
+	private void log(Object value) {
+		System.out.println(value != null ? value.toString() : "null");
+	}
+
+	public static interface IntValueSetter {
+
+		public void set(int value);
+
+	}
+
+
+	public static interface ObjectFactory {
+
+		public Object create(int value);
+
+	}
+
+
+	public static interface ElementRetriever {
+
+		public Object get(Object list, int index);
+
+	}
+
+
+	public static interface Calculator {
+
+		public long add(int valueOne, long valueTwo);
+
+		public String describe(double value);
+
+	}
+
+
+	private static class ClassForTest {
+
+		private static volatile List<Object> objectValue;
+		private static volatile short shortValue;
+		private static volatile int intValue;
+		private static volatile long longValue;
+		private static volatile float floatValue;
+		private static volatile double doubleValue;
+		private static volatile boolean booleanValue;
+		private static volatile byte byteValue;
+		private static volatile char charValue;
+
+		private ClassForTest() {}
+
+		private ClassForTest(int value) {
+			setIntValue(value);
+		}
+
+		private static void setIntValue(int value) {
+			intValue = value;
+		}
+	};
+
+
+	private static class SubClassForTest extends ClassForTest {
+		private String value = "initialized";
+
+		private SubClassForTest() {
+			super(0);
+		}
+
+		@Override
+		public String toString() {
+			return "SubClassForTest";
+		}
+	};
+
+
+	private static class PathNodeForTest {
+		private final int id;
+		private PathNodeForTest next;
+		private ByteBuffer[] buffers;
+
+		private PathNodeForTest(int id, PathNodeForTest next) {
+			this.id = id;
+			this.next = next;
+		}
+	};
+
+	private static class WarmupTargetForTest {
+		private WarmupFieldTypeForTest value;
+	}
+
+	private static class WarmupFieldTypeForTest {}
+
+}
@@ -1,130 +1,274 @@
-package io.github.toolfactory.jvm.test;
-
-
-import org.junit.Test;
-
-import io.github.toolfactory.util.Reflection;
-
-
-public class DynamicDriverTest extends BaseTest {
-
-	//For JDK 7 testing
-	public static void main(String[] args) {
-		new DynamicDriverTest().executeTests();
-	}
-
-	@Override
-	Reflection getReflection() {
-		if (reflection == null) {
-			try {
-				reflection = Reflection.Factory.getNewWithDynamicDriver();
-			} catch (Throwable exc) {
-				exc.printStackTrace();
-				throw new RuntimeException(exc);
-			}
-		}
-		return reflection;
-	}
-
-
-	@Override
-	@Test
-	public void getConsulterTestOne() {
-		super.getConsulterTestOne();
-	}
-
-
-	@Override
-	@Test
-	public void getAndSetDirectVolatileTestOne() {
-		super.getAndSetDirectVolatileTestOne();
-	}
-
-
-	@Override
-	@Test
-	public void getDeclaredFieldsTestOne() {
-		super.getDeclaredFieldsTestOne();
-	}
-
-
-	@Override
-	@Test
-	public void getDeclaredMethodsTestOne() {
-		super.getDeclaredMethodsTestOne();
-	}
-
-
-	@Override
-	@Test
-	public void getDeclaredConstructorsTestOne() {
-		super.getDeclaredConstructorsTestOne();
-	}
-
-
-	@Override
-	@Test
-	public void allocateInstanceTestOne() {
-		super.allocateInstanceTestOne();
-	}
-
-
-	@Override
-	@Test
-	public void setAccessibleTestOne() {
-		super.setAccessibleTestOne();
-	}
-
-
-	@Override
-	@Test
-	public void invokeTestOne() {
-		super.invokeTestOne();
-	}
-
-
-	@Override
-	@Test
-	public void newInstanceTestOne() {
-		super.newInstanceTestOne();
-	}
-
-
-	@Override
-	@Test
-	public void retrieveLoadedClassesTestOne() {
-		super.retrieveLoadedClassesTestOne();
-	}
-
-
-	@Override
-	@Test
-	public void retrieveLoadedPackagesTestOne() {
-		super.retrieveLoadedPackagesTestOne();
-	}
-
-
-	@Override
-	@Test
-	public void retrieveResourcesAsStreamsTestOne() {
-		super.retrieveResourcesAsStreamsTestOne();
-	}
-
-	@Override
-	@Test
-	public void getClassByNameTestOne() {
-		super.getClassByNameTestOne();
-	}
-
-	@Override
-	@Test
-	public void convertToBuiltinClassLoader() {
-		super.convertToBuiltinClassLoader();
-	}
-
-	@Override
-	@Test
-	public void stopThread() {
-		super.stopThread();
-	}
+package io.github.toolfactory.jvm.test;
+
+
+import org.junit.Test;
+
+import io.github.toolfactory.jvm.util.Reflection;
+
+
+public class DynamicDriverTest extends BaseTest {
+
+	//For JDK 7 testing
+	public static void main(String[] args) {
+		new DynamicDriverTest().executeTests();
+	}
+
+	@Override
+	Reflection getReflection() {
+		if (reflection == null) {
+			try {
+				reflection = Reflection.Factory.getNewWithDynamicDriver();
+			} catch (Throwable exc) {
+				exc.printStackTrace();
+				throw new RuntimeException(exc);
+			}
+		}
+		return reflection;
+	}
+
+
+	@Override
+	@Test
+	public void getConsulterTestOne() {
+		super.getConsulterTestOne();
+	}
+
+
+	@Override
+	@Test
+	public void getAndSetDirectVolatileTestOne() {
+		super.getAndSetDirectVolatileTestOne();
+	}
+
+
+	@Override
+	@Test
+	public void getDeclaredFieldsTestOne() {
+		super.getDeclaredFieldsTestOne();
+	}
+
+
+	@Override
+	@Test
+	public void getDeclaredMethodsTestOne() {
+		super.getDeclaredMethodsTestOne();
+	}
+
+
+	@Override
+	@Test
+	public void getDeclaredConstructorsTestOne() {
+		super.getDeclaredConstructorsTestOne();
+	}
+
+
+	@Override
+	@Test
+	public void allocateInstanceTestOne() {
+		super.allocateInstanceTestOne();
+	}
+
+
+	@Override
+	@Test
+	public void setAccessibleTestOne() {
+		super.setAccessibleTestOne();
+	}
+
+
+	@Override
+	@Test
+	public void invokeTestOne() {
+		super.invokeTestOne();
+	}
+
+
+	@Override
+	@Test
+	public void newInstanceTestOne() {
+		super.newInstanceTestOne();
+	}
+
+
+	@Override
+	@Test
+	public void retrieveLoadedClassesTestOne() {
+		super.retrieveLoadedClassesTestOne();
+	}
+
+
+	@Override
+	@Test
+	public void retrieveLoadedPackagesTestOne() {
+		super.retrieveLoadedPackagesTestOne();
+	}
+
+
+	@Override
+	@Test
+	public void retrieveResourcesAsStreamsTestOne() {
+		super.retrieveResourcesAsStreamsTestOne();
+	}
+
+	@Override
+	@Test
+	public void getClassByNameTestOne() {
+		super.getClassByNameTestOne();
+	}
+
+	@Override
+	@Test
+	public void convertToBuiltinClassLoader() {
+		super.convertToBuiltinClassLoader();
+	}
+
+	@Override
+	@Test
+	public void stopThread() {
+		super.stopThread();
+	}
+
+	@Override
+	@Test
+	public void getFieldAccessorTestOne() {
+		super.getFieldAccessorTestOne();
+	}
+
+	@Override
+	@Test
+	public void getAndSetPrimitiveFieldValueTestOne() {
+		super.getAndSetPrimitiveFieldValueTestOne();
+	}
+
+	@Override
+	@Test
+	public void atomicFieldValueUpdateTestOne() {
+		super.atomicFieldValueUpdateTestOne();
+	}
+
+	@Override
+	@Test
+	public void getAndSetFieldValueWithAccessModeTestOne() {
+		super.getAndSetFieldValueWithAccessModeTestOne();
+	}
+
+	@Override
+	@Test
+	public void getGeneratedFieldAccessorTestOne() {
+		super.getGeneratedFieldAccessorTestOne();
+	}
+
+	@Override
+	@Test
+	public void arrayElementAccessTestOne() {
+		super.arrayElementAccessTestOne();
+	}
+
+	@Override
+	@Test
+	public void batchFieldValueAccessTestOne() {
+		super.batchFieldValueAccessTestOne();
+	}
+
+	@Override
+	@Test
+	public void getMethodInvokerTestOne() {
+		super.getMethodInvokerTestOne();
+	}
+
+	@Override
+	@Test
+	public void asFunctionalInterfaceTestOne() {
+		super.asFunctionalInterfaceTestOne();
+	}
+
+	@Override
+	@Test
+	public void fixedArityInvokeTestOne() {
+		super.fixedArityInvokeTestOne();
+	}
+
+	@Override
+	@Test
+	public void getInstanceFactoryTestOne() {
+		super.getInstanceFactoryTestOne();
+	}
+
+	@Override
+	@Test
+	public void invokeAllTestOne() {
+		super.invokeAllTestOne();
+	}
+
+	@Override
+	@Test
+	public void newInstanceWithSuperConstructorTestOne() {
+		super.newInstanceWithSuperConstructorTestOne();
+	}
+
+	@Override
+	@Test
+	public void invokeSpecialTestOne() {
+		super.invokeSpecialTestOne();
+	}
+
+	@Override
+	@Test
+	public void invokeByNameTestOne() {
+		super.invokeByNameTestOne();
+	}
+
+	@Override
+	@Test
+	public void compilePathTestOne() {
+		super.compilePathTestOne();
+	}
+
+	@Override
+	@Test
+	public void newProxyTestOne() {
+		super.newProxyTestOne();
+	}
+
+	@Override
+	@Test
+	public void getClassMembersTestOne() {
+		super.getClassMembersTestOne();
+	}
+
+	@Override
+	@Test
+	public void getDeclaredMemberTestOne() {
+		super.getDeclaredMemberTestOne();
+	}
+
+	@Override
+	@Test
+	public void getAllMembersTestOne() {
+		super.getAllMembersTestOne();
+	}
+
+	@Override
+	@Test
+	public void queryMembersTestOne() {
+		super.queryMembersTestOne();
+	}
+
+	@Override
+	@Test
+	public void warmupTestOne() {
+		super.warmupTestOne();
+	}
+
+	@Override
+	@Test
+	public void getLayoutTestOne() {
+		super.getLayoutTestOne();
+	}
+
+	@Override
+	@Test
+	public void getDeepSizeTestOne() {
+		super.getDeepSizeTestOne();
+	}
 }
\ No newline at end of file